@@ -0,0 +1,32 @@
+package dev.oleksii;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds game modes for the benchmarks from a board size and a number of copies of the standard fleet.
+ */
+final class BenchmarkModes {
+
+    private BenchmarkModes() {
+    }
+
+    /**
+     * Creates a game mode with the given board size and the Sea fleet repeated {@code fleetCopies} times.
+     *
+     * @param boardSize   the board dimension (size x size).
+     * @param fleetCopies how many copies of the standard five-ship fleet to include.
+     * @return the game mode.
+     */
+    static GameMode of(int boardSize, int fleetCopies) {
+        List<Ship> ships = new ArrayList<>();
+        for (int i = 0; i < fleetCopies; i++) {
+            ships.addAll(new SeaGameMode().getShips());
+        }
+        GameMode mode = new GameMode() {
+        };
+        mode.setBoardSize(boardSize);
+        mode.setShips(ships);
+        return mode;
+    }
+}
@@ -0,0 +1,48 @@
+package dev.oleksii;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures complete headless games between two computer players, including setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineBenchmark {
+
+    @Param({"10", "20", "50"})
+    int boardSize;
+
+    @Param({"1", "2"})
+    int fleetCopies;
+
+    private GameEngine engine;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        engine = new GameEngine(BenchmarkModes.of(boardSize, fleetCopies), random);
+    }
+
+    @Benchmark
+    public GameResult playGame() {
+        return engine.run(new ComputerPlayer(random), new ComputerPlayer(random));
+    }
+}
@@ -0,0 +1,91 @@
+package dev.oleksii;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ship placement: single placements, placement checks, uniform layout generation
+ * and a full computer fleet setup, with and without a layout pool.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlacementBenchmark {
+
+    @Param({"10", "20", "50", "100"})
+    int boardSize;
+
+    @Param({"1", "2"})
+    int fleetCopies;
+
+    private GameMode mode;
+    private Board fleetBoard;
+    private Random random;
+    private FleetLayoutGenerator generator;
+    private FleetLayoutPool pool;
+
+    @Setup
+    public void setUp() {
+        mode = BenchmarkModes.of(boardSize, fleetCopies);
+        random = new Random(42);
+        // A board that already holds a full fleet, used for placement checks
+        ComputerPlayer player = new ComputerPlayer(new Random(7));
+        player.setup(mode, null);
+        fleetBoard = player.getBoard();
+        generator = new FleetLayoutGenerator(mode);
+        pool = new FleetLayoutPool(mode, 1024, new SplittableRandom(11));
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public boolean placeShip() {
+        Board board = new Board(boardSize);
+        return board.placeShip(new Ship("Carrier", 5), boardSize / 2, 0, true, false);
+    }
+
+    @Benchmark
+    public boolean canPlaceShip() {
+        return fleetBoard.canPlaceShip(random.nextInt(boardSize), random.nextInt(boardSize),
+                3, random.nextBoolean(), false);
+    }
+
+    @Benchmark
+    public Board computerPlaceShips() {
+        ComputerPlayer player = new ComputerPlayer(random);
+        player.setup(mode, null);
+        return player.getBoard();
+    }
+
+    @Benchmark
+    public FleetLayout generateLayout() {
+        return generator.next(random);
+    }
+
+    @Benchmark
+    public Board pooledPlaceShips() {
+        ComputerPlayer player = new ComputerPlayer(random, new RandomTargeting(random), pool);
+        player.setup(mode, null);
+        return player.getBoard();
+    }
+}
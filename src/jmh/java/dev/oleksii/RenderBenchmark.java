@@ -0,0 +1,97 @@
+package dev.oleksii;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering of the side-by-side boards: a full redraw through {@link Board#displayBoards}, and the
+ * frame {@link BoardRenderer} draws after a single shot. Standard output is redirected to a
+ * discarding stream, so the numbers reflect formatting and printing cost rather than the terminal.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    @Param({"10", "20", "50", "100"})
+    int boardSize;
+
+    private Board board1;
+    private Board board2;
+    private PrintStream originalOut;
+
+    // Board shot at cell by cell for renderShot, its empty state, and the next cell to shoot.
+    private Board targetBoard;
+    private long[] noShots;
+    private int cell;
+    private BoardRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        GameMode mode = BenchmarkModes.of(boardSize, 1);
+        ComputerPlayer player1 = new ComputerPlayer(new Random(1));
+        ComputerPlayer player2 = new ComputerPlayer(new Random(2));
+        player1.setup(mode, null);
+        player2.setup(mode, null);
+        board1 = player1.getBoard();
+        board2 = player2.getBoard();
+        // Fire at a third of the cells so the boards show a realistic mix of symbols
+        Random random = new Random(3);
+        for (int i = 0; i < boardSize * boardSize / 3; i++) {
+            board1.fireAt(random.nextInt(boardSize), random.nextInt(boardSize));
+            board2.fireAt(random.nextInt(boardSize), random.nextInt(boardSize));
+        }
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        targetBoard = new Board(boardSize);
+        targetBoard.clearShipsFromDisplay();
+        noShots = targetBoard.snapshotShots();
+        // A terminal large enough for every board size, so frames are updated in place.
+        renderer = new BoardRenderer(GameOutput.console(), 1000, 1000);
+        renderer.render(board1, "Player I", targetBoard, "Player II");
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void displayBoards() {
+        Board.displayBoards(board1, "Player I", board2, "Player II");
+    }
+
+    /**
+     * Fires at the next cell of the target board and renders the frame, which redraws that one cell.
+     * Once every cell has been shot the board is cleared, so one frame per sweep redraws the whole board.
+     */
+    @Benchmark
+    public void renderShot() {
+        int index = cell;
+        cell = (index + 1) % (boardSize * boardSize);
+        if (index == 0) {
+            targetBoard.restoreShots(noShots);
+        }
+        targetBoard.fireAt(index / boardSize, index % boardSize);
+        renderer.render(board1, "Player I", targetBoard, "Player II");
+    }
+}
@@ -0,0 +1,70 @@
+package dev.oleksii;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures shot resolution and win detection.
+ * Shots cycle over every cell of a prepared board; re-firing at a cell is idempotent,
+ * so after the first sweep the mix of misses, hits and sinks stays the same.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShotBenchmark {
+
+    @Param({"10", "20", "50", "100"})
+    int boardSize;
+
+    @Param({"1", "2"})
+    int fleetCopies;
+
+    private Game game;
+    private Player opponent;
+    private Ship ship;
+    private int cell;
+
+    @Setup
+    public void setUp() {
+        GameMode mode = BenchmarkModes.of(boardSize, fleetCopies);
+        opponent = new ComputerPlayer(new Random(2));
+        game = new Game(mode, new ComputerPlayer(new Random(1)), opponent, new Scanner(""));
+        ship = opponent.getShips().getFirst();
+    }
+
+    @Benchmark
+    public char fireAt() {
+        int index = cell;
+        cell = (index + 1) % (boardSize * boardSize);
+        return opponent.getBoard().fireAt(index / boardSize, index % boardSize);
+    }
+
+    @Benchmark
+    public boolean checkHit() {
+        int index = cell;
+        cell = (index + 1) % (boardSize * boardSize);
+        ship.checkHit(index / boardSize, index % boardSize);
+        return ship.isSunk();
+    }
+
+    @Benchmark
+    public boolean checkWin() {
+        return game.checkWin(opponent);
+    }
+}
@@ -0,0 +1,69 @@
+package dev.oleksii;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one computer move on an Ocean board: choosing a target, firing at it and recording the result.
+ * Moves continue a game against a randomly placed fleet; once the fleet is sunk a new game starts,
+ * so the time is averaged over every stage of a game. Monte Carlo sampling uses the tournament budget.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TargetingBenchmark {
+
+    @Param({"density", "monteCarlo"})
+    String strategy;
+
+    private final GameMode mode = new OceanGameMode();
+    private final SplittableRandom random = new SplittableRandom(1);
+    private Player opponent;
+    private TargetingStrategy targeting;
+
+    @Setup
+    public void setUp() {
+        newGame();
+    }
+
+    @Benchmark
+    public char move() {
+        Board board = opponent.getBoard();
+        if (board.getFleetState().isDefeated()) {
+            newGame();
+            board = opponent.getBoard();
+        }
+        Coordinate target = targeting.nextTarget(board, opponent.getShips());
+        char result = board.fireAt(target.row(), target.col());
+        targeting.recordShot(board, target.row(), target.col(), result);
+        return result;
+    }
+
+    private void newGame() {
+        opponent = new ComputerPlayer(random.split());
+        opponent.setup(mode, null);
+        targeting = switch (strategy) {
+            case "density" -> new DensityTargeting(random.split());
+            case "monteCarlo" -> new MonteCarloTargeting(random.split(), ForkJoinPool.commonPool(),
+                    Duration.ofMillis(5), 2_000);
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        };
+    }
+}
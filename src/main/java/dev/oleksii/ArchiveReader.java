@@ -0,0 +1,113 @@
+package dev.oleksii;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Random-access reader over a {@link GameArchive}, backed by read-only memory mappings
+ * ({@link java.nio.MappedByteBuffer}) of the archive and its index.
+ * <p>
+ * Describing or opening game number {@code id} reads its fixed-width index entry and then only that game's
+ * record, so the cost does not depend on how many games the archive holds; the operating system pages in
+ * just the parts that are touched. The reader sees the games archived when it was opened.
+ * Mappings are limited to 2 GB per file.
+ */
+public class ArchiveReader {
+    // Read-only mappings of the whole archive and index.
+    private final ByteBuffer archive;
+    private final ByteBuffer index;
+
+    // Number of games in the index.
+    private final int size;
+
+    /**
+     * Maps an archive and its up-to-date index.
+     *
+     * @param archivePath the archive file.
+     * @param indexPath   the index file.
+     * @throws IOException if either file cannot be mapped
+     */
+    ArchiveReader(Path archivePath, Path indexPath) throws IOException {
+        this.archive = map(archivePath);
+        this.index = map(indexPath);
+        this.size = index.capacity() / GameArchive.INDEX_ENTRY_BYTES;
+        if (archive.capacity() >= 4 && archive.getInt(0) != GameArchive.MAGIC) {
+            throw new IOException("Not a game archive.");
+        }
+    }
+
+    /**
+     * @return the number of archived games.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Describes an archived game.
+     *
+     * @param id the game's number, from 0 to {@code size() - 1}.
+     * @return the game's entry.
+     * @throws IndexOutOfBoundsException if there is no such game
+     */
+    public GameArchive.Entry entry(int id) {
+        int position = indexPosition(id);
+        long offset = index.getLong(position);
+        int length = index.getInt(position + 8);
+        int moveCount = index.getInt(position + 20);
+        GameArchive.RecordHeader header = GameArchive.readHeader(record(offset, length));
+        return new GameArchive.Entry(id, offset, length, Instant.ofEpochMilli(header.finishedAt()),
+                header.modeName(), header.boardSize(), header.player1(), header.player2(), header.winner(),
+                moveCount);
+    }
+
+    /**
+     * Reads an archived game back, ready to be replayed.
+     *
+     * @param id the game's number, from 0 to {@code size() - 1}.
+     * @return the game, with archived players whose fleets are placed as recorded.
+     * @throws IndexOutOfBoundsException if there is no such game
+     */
+    public Game load(int id) {
+        int position = indexPosition(id);
+        return GameArchive.readGame(record(index.getLong(position), index.getInt(position + 8)));
+    }
+
+    /**
+     * Returns the position of a game's index entry.
+     */
+    private int indexPosition(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No archived game " + id);
+        }
+        return id * GameArchive.INDEX_ENTRY_BYTES;
+    }
+
+    /**
+     * Returns a view of a record's bytes after its length field.
+     */
+    private ByteBuffer record(long offset, int length) {
+        return archive.slice((int) offset + 4, length);
+    }
+
+    /**
+     * Maps a whole file read-only; a missing file gives an empty buffer.
+     */
+    private static ByteBuffer map(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return ByteBuffer.allocate(0);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + path);
+            }
+            // The mapping stays valid after the channel is closed.
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
\ No newline at end of file
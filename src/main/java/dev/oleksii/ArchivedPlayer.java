@@ -0,0 +1,55 @@
+package dev.oleksii;
+
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * A player restored from the game archive. Their fleet is placed exactly as recorded;
+ * they only exist to be replayed and cannot take turns.
+ * <p>
+ * Archived players only appear in games rebuilt by {@link GameArchive}, which are finished and can be replayed
+ * but not played ({@link Game#play} rejects them), so {@link #takeTurn} is never reached. The class is final
+ * so that no subclass can make it reachable, or change the placement its constructor performs.
+ */
+final class ArchivedPlayer extends Player {
+    // Recorded placement slot of each ship, in fleet order (see PlacementIndex), or -1 if it was never placed.
+    private final int[] slots;
+
+    /**
+     * Constructs an ArchivedPlayer and places their recorded fleet on a fresh board.
+     *
+     * @param name      the player's name.
+     * @param boardSize the size of the board.
+     * @param ships     the player's ships, in fleet order.
+     * @param slots     the recorded placement slot of each ship.
+     */
+    ArchivedPlayer(String name, int boardSize, List<Ship> ships, int[] slots) {
+        super(name);
+        this.slots = slots;
+        setBoard(new Board(boardSize));
+        setShips(ships);
+        placeShips(null);
+        getBoard().clearShipsFromDisplay();
+    }
+
+    @Override
+    public void placeShips(Scanner scanner) {
+        PlacementIndex index = new PlacementIndex(getBoard());
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] >= 0) {
+                getBoard().placeShip(getShips().get(i), index.row(slots[i]), index.col(slots[i]),
+                        PlacementIndex.isHorizontal(slots[i]), false);
+            }
+        }
+    }
+
+    /**
+     * Never called: archived games cannot be played.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Move takeTurn(Scanner scanner, Player opponent) {
+        throw new UnsupportedOperationException("Archived players cannot take turns.");
+    }
+}
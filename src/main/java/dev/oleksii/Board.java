@@ -4,15 +4,42 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the game board, handling both the visual display and the underlying game state.
+ * <p>
+ * The state is held in planes of cells (index = row * size + col): the ship, hit, miss and sunk planes.
+ * Each plane is a {@link CellSet}, a bitboard with one bit per cell on boards such as Sea and Ocean (a 20x20
+ * board needs seven longs per plane, and every lookup is a shift and a mask). On large boards a plane starts
+ * as a hash set of the cells in it and only becomes a bitboard once it is dense enough, so a huge, mostly
+ * empty board costs memory in proportion to its ships and shots rather than its area.
+ * The display symbols are derived from the planes rather than stored separately.
  */
 public class Board {
+    // Lines printed by displayBoards above the first board row (top border, names, separator, column numbers).
+    static final int HEADER_LINES = 4;
+
+    // Placements drawn on a sparse board before falling back to a PlacementIndex.
+    private static final int RANDOM_PLACEMENT_DRAWS = 32;
+
+    // One shot in this many is timed for the shot resolution histogram; a power of two.
+    private static final int SHOT_SAMPLE_INTERVAL = 64;
+    private static final Metrics.Histogram SHOT_TIME = Metrics.global().histogram(
+            "battleship_shot_resolution_seconds", "Time taken by Board.fireAt to resolve a shot (sampled).");
 
     private final int size; // Board dimension (size x size)
-    char[][] displayBoard; // 2D array for the visual display of the board
-    private final Map<Coordinate, Cell> gameState; // Maps each board coordinate to its cell state
+    private final CellSet shipPlane; // Cells occupied by a ship
+    private final CellSet hitPlane;  // Cells where a shot hit a ship ('x' or 'X')
+    private final CellSet missPlane; // Cells where a shot missed ('*')
+    private final CellSet sunkPlane; // Cells belonging to a sunk ship ('X')
+    private final List<Ship> ships; // Ships placed on this board, in placement order
+    // The ship on each cell, as its position in ships plus one (0 for no ship)
+    private final CellMap shipIds;
+    private final FleetState fleetState; // Ships afloat and hull cells left, updated as hits land
+    private boolean shipsVisible; // Whether un-hit ship cells are shown as 'S'
+    private PlacementIndex placementIndex; // Legal placements, created on the first random placement
+    private int shotsFired; // Shots resolved on this board, for sampling their timing
 
     /**
      * Constructs a Board of a given size.
@@ -21,32 +48,35 @@ public class Board {
      */
     public Board(int size) {
         this.size = size;
-        this.displayBoard = new char[size][size];
-        this.gameState = new HashMap<>();
-        initialise();
+        this.shipPlane = new CellSet(size * size);
+        this.hitPlane = new CellSet(size * size);
+        this.missPlane = new CellSet(size * size);
+        this.sunkPlane = new CellSet(size * size);
+        this.ships = new ArrayList<>();
+        this.shipIds = new CellMap(size * size);
+        this.fleetState = new FleetState();
+        this.shipsVisible = true; // Ships are visible while they are being placed
     }
 
     /**
-     * Initializes the board:
-     * - Fills the display board with '-' (empty cells)
-     * - Creates a new Cell for each coordinate in the game state map
+     * Hides ship markers from the display, so only shots are shown.
      */
-    private void initialise() {
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                displayBoard[row][col] = '-';
-                gameState.put(new Coordinate(row, col), new Cell());
-            }
-        }
+    public void clearShipsFromDisplay() {
+        shipsVisible = false;
     }
 
     /**
-     * Clears any ship markers from the display board by refilling it with '-'.
+     * Checks if a ship can be placed at the specified starting coordinate.
+     *
+     * @param row        starting row index
+     * @param col        starting column index
+     * @param shipSize   size (length) of the ship
+     * @param horizontal if true, the ship is placed horizontally; otherwise vertically
+     * @param verbose    if true, prints an error message to the console on failure
+     * @return true if placement is valid; false otherwise
      */
-    public void clearShipsFromDisplay() {
-        for (char[] chars : displayBoard) {
-            java.util.Arrays.fill(chars, '-');
-        }
+    public boolean canPlaceShip(int row, int col, int shipSize, boolean horizontal, boolean verbose) {
+        return canPlaceShip(row, col, shipSize, horizontal, verbose ? GameOutput.console() : GameOutput.discard());
     }
 
     /**
@@ -56,42 +86,47 @@ public class Board {
      * @param col        starting column index
      * @param shipSize   size (length) of the ship
      * @param horizontal if true, the ship is placed horizontally; otherwise vertically
-     * @param verbose    if true, prints an error message on failure
+     * @param messages   the output the reason for a failure is written to
      * @return true if placement is valid; false otherwise
      */
-    public boolean canPlaceShip(int row, int col, int shipSize, boolean horizontal, boolean verbose) {
+    public boolean canPlaceShip(int row, int col, int shipSize, boolean horizontal, GameOutput messages) {
+        // Check that the starting cell itself lies on the board
+        if (row < 0 || row >= size || col < 0 || col >= size) {
+            if (messages.isEnabled()) {
+                messages.println("Ship placement out of bounds.");
+            }
+            return false;
+        }
         if (horizontal) {
             // Check horizontal boundaries
-            if (col + shipSize > displayBoard[0].length) {
-                if (verbose) {
-                    System.out.println("Ship placement out of horizontal bounds.");
+            if (col + shipSize > size) {
+                if (messages.isEnabled()) {
+                    messages.println("Ship placement out of horizontal bounds.");
                 }
                 return false;
             }
             // Check if any cell in the intended placement already has a ship
             for (int i = 0; i < shipSize; i++) {
-                if (displayBoard[row][col + i] == 'S') {
-                    if (verbose) {
-                        System.out.println("A ship already occupies position: "
-                                           + (char) (row + 'A') + (col + i + 1));
+                if (hasShip(row, col + i)) {
+                    if (messages.isEnabled()) {
+                        messages.println("A ship already occupies position: " + Coordinate.of(row, col + i).label());
                     }
                     return false;
                 }
             }
         } else {
             // Check vertical boundaries
-            if (row + shipSize > displayBoard.length) {
-                if (verbose) {
-                    System.out.println("Ship placement out of vertical bounds.");
+            if (row + shipSize > size) {
+                if (messages.isEnabled()) {
+                    messages.println("Ship placement out of vertical bounds.");
                 }
                 return false;
             }
             // Check if any cell in the intended placement already has a ship
             for (int i = 0; i < shipSize; i++) {
-                if (displayBoard[row + i][col] == 'S') {
-                    if (verbose) {
-                        System.out.println("A ship already occupies position: "
-                                           + (char) (row + i + 'A') + (col + 1));
+                if (hasShip(row + i, col)) {
+                    if (messages.isEnabled()) {
+                        messages.println("A ship already occupies position: " + Coordinate.of(row + i, col).label());
                     }
                     return false;
                 }
@@ -107,93 +142,369 @@ public class Board {
      * @param row        starting row index for the ship
      * @param col        starting column index for the ship
      * @param horizontal if true, place ship horizontally; otherwise vertically
-     * @param verbose    if true, prints error messages if placement fails
+     * @param verbose    if true, prints error messages to the console if placement fails
      * @return true if the ship is successfully placed; false otherwise
      */
     public boolean placeShip(Ship ship, int row, int col, boolean horizontal, boolean verbose) {
-        if (!canPlaceShip(row, col, ship.getSize(), horizontal, verbose)) {
+        return placeShip(ship, row, col, horizontal, verbose ? GameOutput.console() : GameOutput.discard());
+    }
+
+    /**
+     * Places a ship on the board if possible.
+     *
+     * @param ship       the ship to be placed
+     * @param row        starting row index for the ship
+     * @param col        starting column index for the ship
+     * @param horizontal if true, place ship horizontally; otherwise vertically
+     * @param messages   the output the reason for a failure is written to
+     * @return true if the ship is successfully placed; false otherwise
+     */
+    public boolean placeShip(Ship ship, int row, int col, boolean horizontal, GameOutput messages) {
+        if (!canPlaceShip(row, col, ship.getSize(), horizontal, messages)) {
             return false;
         }
         // Set the ship's coordinates (records its placement)
         ship.setCoordinates(row, col, horizontal);
 
-        // Mark each coordinate of the ship on the display board and update game state
-        for (Coordinate c : ship.getCoordinates()) {
-            displayBoard[c.row()][c.col()] = 'S';
-            gameState.get(c).setShip(ship);
+        // Mark each cell of the ship in the ship plane and drop the placements it blocks
+        for (int i = 0; i < ship.getSize(); i++) {
+            int r = horizontal ? row : row + i;
+            int c = horizontal ? col + i : col;
+            shipPlane.add(index(r, c));
+            if (placementIndex != null) {
+                placementIndex.occupy(r, c);
+            }
         }
+        addShip(ship);
         return true;
     }
 
+    /**
+     * Places a ship at a uniformly random legal position and orientation.
+     * Legal placements are kept in a {@link PlacementIndex}, so this never retries. On a sparse board the index
+     * would cost memory and time in proportion to the whole board, so a few placements are drawn uniformly
+     * among all positions first and the first legal one is taken (which is just as uniform); the index is
+     * only built if they all collide.
+     *
+     * @param ship   the ship to be placed
+     * @param random the random generator used to pick the placement
+     * @return true if the ship was placed; false if no legal placement is left for its size
+     */
+    public boolean placeShipRandomly(Ship ship, RandomGenerator random) {
+        int length = ship.getSize();
+        if (placementIndex == null && shipPlane.isSparse() && length <= size) {
+            for (int attempt = 0; attempt < RANDOM_PLACEMENT_DRAWS; attempt++) {
+                boolean horizontal = random.nextBoolean();
+                int row = random.nextInt(horizontal ? size : size - length + 1);
+                int col = random.nextInt(horizontal ? size - length + 1 : size);
+                if (placeShip(ship, row, col, horizontal, GameOutput.discard())) {
+                    return true;
+                }
+            }
+        }
+        if (placementIndex == null) {
+            placementIndex = new PlacementIndex(this);
+        }
+        int slot = placementIndex.randomSlot(ship.getSize(), random);
+        if (slot < 0) {
+            return false;
+        }
+        return placeShip(ship, placementIndex.row(slot), placementIndex.col(slot),
+                PlacementIndex.isHorizontal(slot), false);
+    }
+
+    /**
+     * Places a whole fleet from a pre-generated layout by copying its occupancy bits onto this empty board.
+     *
+     * @param layout the layout to apply
+     * @param fleet  the ships to place, in the order of the layout's slots
+     * @throws IllegalArgumentException if the layout does not match this board or the fleet
+     * @throws IllegalStateException    if ships have already been placed on this board
+     */
+    public void applyLayout(FleetLayout layout, List<Ship> fleet) {
+        if (layout.boardSize() != size || layout.slots().length != fleet.size()
+                || layout.occupancy().length != (size * size + 63) >>> 6) {
+            throw new IllegalArgumentException("Fleet layout does not match the board or the fleet.");
+        }
+        // Every ship must lie on its own occupied cells, and together the ships must cover all of them.
+        long[] unclaimed = layout.occupancy().clone();
+        for (int i = 0; i < fleet.size(); i++) {
+            int length = fleet.get(i).getSize();
+            boolean horizontal = layout.isHorizontal(i);
+            if (layout.slots()[i] >>> 1 >= size * size
+                    || (horizontal ? layout.col(i) : layout.row(i)) + length > size) {
+                throw new IllegalArgumentException("Fleet layout does not match the board or the fleet.");
+            }
+            int step = horizontal ? 1 : size;
+            for (int j = 0, cell = index(layout.row(i), layout.col(i)); j < length; j++, cell += step) {
+                if ((unclaimed[cell >>> 6] & 1L << cell) == 0) {
+                    throw new IllegalArgumentException("Fleet layout does not match the board or the fleet.");
+                }
+                unclaimed[cell >>> 6] &= ~(1L << cell);
+            }
+        }
+        for (long word : unclaimed) {
+            if (word != 0) {
+                throw new IllegalArgumentException("Fleet layout does not match the board or the fleet.");
+            }
+        }
+        if (!ships.isEmpty()) {
+            throw new IllegalStateException("Board already has ships placed.");
+        }
+        shipPlane.addAll(layout.occupancy());
+        for (int i = 0; i < fleet.size(); i++) {
+            Ship ship = fleet.get(i);
+            ship.setCoordinates(layout.row(i), layout.col(i), layout.isHorizontal(i));
+            addShip(ship);
+        }
+        placementIndex = null; // Rebuilt from the ship plane if random placement is used afterwards
+    }
+
+    /**
+     * Records a ship whose coordinates have been set and whose cells are in the ship plane.
+     */
+    private void addShip(Ship ship) {
+        ships.add(ship);
+        int id = ships.size();
+        int step = ship.isHorizontal() ? 1 : size;
+        for (int i = 0, cell = index(ship.getRow(), ship.getCol()); i < ship.getSize(); i++, cell += step) {
+            shipIds.put(cell, id);
+        }
+        fleetState.add(ship);
+    }
+
     /**
      * Updates the board cell at the given coordinate.
      *
      * @param row    row index of the cell to update
      * @param col    column index of the cell to update
-     * @param symbol character symbol to set (e.g., 'X' for hit, 'O' for miss)
-     * @throws IllegalArgumentException if the provided coordinates are out of bounds
+     * @param symbol character symbol to set: 'x' for hit, 'X' for sunk, '*' for miss
+     * @throws IllegalArgumentException if the provided coordinates are out of bounds or the symbol is unknown
      */
     public void updateCell(int row, int col, char symbol) {
         if (row < 0 || row >= size || col < 0 || col >= size) {
             throw new IllegalArgumentException("Cell coordinates out of bounds!");
         }
-        displayBoard[row][col] = symbol;
-        gameState.get(new Coordinate(row, col)).setHit(true);
+        int index = index(row, col);
+        switch (symbol) {
+            case 'x' -> hitPlane.add(index);
+            case 'X' -> {
+                hitPlane.add(index);
+                sunkPlane.add(index);
+            }
+            case '*' -> missPlane.add(index);
+            default -> throw new IllegalArgumentException("Unknown cell symbol: " + symbol);
+        }
     }
 
     /**
-     * Displays a single board with a bounding box (no centering).
+     * Resolves a shot at the given cell: registers the hit on the ship (if any) and marks the board.
+     * When the shot sinks a ship, every cell of that ship is marked as sunk.
      *
-     * @param playerName the name of the player whose board is being displayed
+     * @param row row index of the targeted cell
+     * @param col column index of the targeted cell
+     * @return the result of the shot: '*' for a miss, 'x' for a hit, 'X' if the ship was sunk
+     * @throws IllegalArgumentException if the provided coordinates are out of bounds
      */
-    public void display(String playerName) {
-        List<String> lines = new ArrayList<>();
-        int boardWidth = (size * 3) + 4; // Calculate box width based on board size
+    public char fireAt(int row, int col) {
+        if (row < 0 || row >= size || col < 0 || col >= size) {
+            throw new IllegalArgumentException("Cell coordinates out of bounds!");
+        }
+        GameEvents.Shot event = new GameEvents.Shot();
+        event.begin();
+        // Resolving a shot takes nanoseconds, so only every SHOT_SAMPLE_INTERVAL-th shot is timed.
+        boolean sampled = (++shotsFired & (SHOT_SAMPLE_INTERVAL - 1)) == 0;
+        long start = sampled ? Metrics.start() : 0;
+        char result = resolveShot(row, col);
+        if (sampled) {
+            SHOT_TIME.recordSince(start);
+        }
+        if (event.shouldCommit()) {
+            event.boardSize = size;
+            event.row = row;
+            event.col = col;
+            event.result = result;
+            event.commit();
+        }
+        return result;
+    }
 
-        // Build top and bottom borders
-        String topBorder = "╔" + "═".repeat(boardWidth) + "╗";
-        String bottomBorder = "╚" + "═".repeat(boardWidth) + "╝";
-        lines.add(topBorder);
+    /**
+     * Resolves a shot at a cell within the board.
+     */
+    private char resolveShot(int row, int col) {
+        Ship ship = getShipAt(row, col);
+        if (ship == null) {
+            missPlane.add(index(row, col));
+            return '*';
+        }
+        // Re-firing at a hit cell changes nothing, so only the first hit on a cell counts against the fleet.
+        boolean newHit = !hitPlane.contains(index(row, col));
+        ship.checkHit(row, col);
+        if (newHit) {
+            fleetState.recordHit(ship);
+        }
+        if (!ship.isSunk()) {
+            hitPlane.add(index(row, col));
+            return 'x';
+        }
+        // Mark every cell of the sunk ship
+        int step = ship.isHorizontal() ? 1 : size;
+        for (int i = 0, index = index(ship.getRow(), ship.getCol()); i < ship.getSize(); i++, index += step) {
+            hitPlane.add(index);
+            sunkPlane.add(index);
+        }
+        return 'X';
+    }
 
-        // Create a name row (e.g., "Alice's Board") left-aligned in the available space
-        String nameRow = String.format("║ %-"+(boardWidth - 2)+"s ║", playerName + "'s Board");
-        lines.add(nameRow);
+    /**
+     * Copies the shot state (hit, miss and sunk planes) into a compact array, e.g. for replay checkpoints.
+     * Sparse planes are saved as lists of cells, so the snapshot grows with the shots rather than the board.
+     *
+     * @return the shot planes, one after another
+     */
+    public long[] snapshotShots() {
+        long[] snapshot = new long[hitPlane.encodedLength() + missPlane.encodedLength() + sunkPlane.encodedLength()];
+        int offset = hitPlane.encode(snapshot, 0);
+        offset = missPlane.encode(snapshot, offset);
+        sunkPlane.encode(snapshot, offset);
+        return snapshot;
+    }
 
-        // Add a horizontal separator after the name row
-        String separator = "╠" + "═".repeat(boardWidth) + "╣";
-        lines.add(separator);
+    /**
+     * Restores the shot state saved by {@link #snapshotShots()}. Ships are not affected.
+     *
+     * @param snapshot the shot planes of a board of the same size
+     * @throws IllegalArgumentException if the snapshot is for a different board size
+     */
+    public void restoreShots(long[] snapshot) {
+        try {
+            int offset = hitPlane.decode(snapshot, 0);
+            offset = missPlane.decode(snapshot, offset);
+            offset = sunkPlane.decode(snapshot, offset);
+            if (offset != snapshot.length) {
+                throw new IllegalArgumentException("Snapshot does not match the board size.");
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Snapshot does not match the board size.");
+        }
+    }
 
-        // Build the header row with column numbers
-        StringBuilder header = new StringBuilder("║    ");
-        for (int col = 1; col <= size; col++) {
-            header.append(String.format("%-2d ", col));
+    /**
+     * Returns the health of the fleet placed on this board, kept up to date by {@link #fireAt}.
+     * Shots restored by {@link #restoreShots} or marked by {@link #updateCell} do not affect it.
+     *
+     * @return the fleet state of this board
+     */
+    public FleetState getFleetState() {
+        return fleetState;
+    }
+
+    /**
+     * Returns the display symbol of a cell, derived from the state planes:
+     * 'X' for a sunk ship, 'x' for a hit, '*' for a miss, 'S' for a visible ship and '-' otherwise.
+     *
+     * @param row row index of the cell
+     * @param col column index of the cell
+     * @return the symbol to display for the cell
+     */
+    public char getSymbol(int row, int col) {
+        int index = index(row, col);
+        if (sunkPlane.contains(index)) {
+            return 'X';
+        }
+        if (hitPlane.contains(index)) {
+            return 'x';
         }
-        header.append("║");
-        // Convert the StringBuilder to a String before adding to the list
-        lines.add(header.toString());
+        if (missPlane.contains(index)) {
+            return '*';
+        }
+        return shipsVisible && shipPlane.contains(index) ? 'S' : '-';
+    }
 
-        // Build each row: letter label followed by the cell values
-        for (int row = 0; row < size; row++) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("║ ").append((char) ('A' + row)).append("  ");
-            for (int col = 0; col < size; col++) {
-                sb.append(displayBoard[row][col]).append("  ");
-            }
-            sb.append("║");
-            lines.add(sb.toString());
+    /**
+     * Checks whether a cell has already been fired at (hit or miss).
+     *
+     * @param row row index of the cell
+     * @param col column index of the cell
+     * @return true if the cell has been targeted before
+     */
+    public boolean isTargeted(int row, int col) {
+        int index = index(row, col);
+        return hitPlane.contains(index) || missPlane.contains(index);
+    }
+
+    /**
+     * Checks whether a ship occupies a cell.
+     *
+     * @param row row index of the cell
+     * @param col column index of the cell
+     * @return true if a ship occupies the cell
+     */
+    public boolean hasShip(int row, int col) {
+        return shipPlane.contains(index(row, col));
+    }
+
+    /**
+     * Returns the ship occupying a cell, looked up in the index kept as ships are placed,
+     * so the cost does not depend on the number of ships.
+     *
+     * @param row row index of the cell
+     * @param col column index of the cell
+     * @return the ship at the cell, or null if the cell is empty
+     */
+    public Ship getShipAt(int row, int col) {
+        int cell = index(row, col);
+        int id = shipIds.get(cell);
+        return id == 0 ? null : ships.get(id - 1);
+    }
+
+    /**
+     * Displays a single board with a bounding box on the console.
+     *
+     * @param playerName the name of the player whose board is being displayed
+     */
+    public void display(String playerName) {
+        display(GameOutput.console(), playerName);
+    }
+
+    /**
+     * Displays a single board with a bounding box (no centering).
+     *
+     * @param out        the output the board is written to
+     * @param playerName the name of the player whose board is being displayed
+     */
+    public void display(GameOutput out, String playerName) {
+        // Nothing to build if the output is discarded.
+        if (!out.isEnabled()) {
+            return;
         }
+        int boardWidth = boxWidth(size); // Calculate box width based on board size
+        StringBuilder frame = new StringBuilder();
 
-        // Append the bottom border
-        lines.add(bottomBorder);
+        // Top border, then a name row (e.g., "Alice's Board") left-aligned in the available space
+        frame.append("╔").append("═".repeat(boardWidth)).append("╗\n");
+        frame.append(String.format("║ %-" + (boardWidth - 2) + "s ║", playerName + "'s Board")).append('\n');
+        // Add a horizontal separator after the name row
+        frame.append("╠").append("═".repeat(boardWidth)).append("╣\n");
 
-        // Print the entire board line by line
-        for (String line : lines) {
-            System.out.println(line);
+        // The header row with column numbers, then each row: its label followed by the cell values
+        frame.append('║');
+        appendColumnNumbers(frame, size);
+        frame.append("║\n");
+        for (int row = 0; row < size; row++) {
+            frame.append('║');
+            appendRow(frame, this, row);
+            frame.append("║\n");
         }
+
+        // Append the bottom border and print the entire board in one write
+        frame.append("╚").append("═".repeat(boardWidth)).append("╝\n");
+        out.print(frame);
     }
 
     /**
-     * Displays two boards side by side within bounding boxes (no centering applied).
+     * Displays two boards side by side on the console.
      *
      * @param board1 the first board
      * @param name1  the name for the first board
@@ -202,15 +513,55 @@ public class Board {
      */
     public static void displayBoards(Board board1, String name1,
                                      Board board2, String name2) {
+        displayBoards(GameOutput.console(), board1, name1, board2, name2);
+    }
+
+    /**
+     * Displays two boards side by side within bounding boxes (no centering applied).
+     *
+     * @param out    the output the boards are written to
+     * @param board1 the first board
+     * @param name1  the name for the first board
+     * @param board2 the second board
+     * @param name2  the name for the second board
+     */
+    public static void displayBoards(GameOutput out, Board board1, String name1,
+                                     Board board2, String name2) {
+        // Nothing to build if the output is discarded.
+        if (!out.isEnabled()) {
+            return;
+        }
+        // Print all lines of the combined boards in a single write.
+        StringBuilder frame = new StringBuilder();
+        for (String line : boardLines(board1, name1, board2, name2)) {
+            frame.append(line).append('\n');
+        }
+        out.print(frame);
+        out.flush();
+    }
+
+    /**
+     * Builds the lines of two boards side by side, as printed by {@link #displayBoards}.
+     * The first board row is on line {@link #HEADER_LINES} and its cells are at the columns
+     * given by {@link #cellColumn}.
+     *
+     * @param board1 the first board
+     * @param name1  the name for the first board
+     * @param board2 the second board
+     * @param name2  the name for the second board
+     * @return the lines, without line terminators.
+     */
+    static List<String> boardLines(Board board1, String name1,
+                                   Board board2, String name2) {
         int size = board1.getSize();
-        int boardWidth = (size * 3) + 4; // Calculate each board's box width
+        int boardWidth = boxWidth(size); // Calculate each board's box width
 
         // Build the combined borders for the two boards
         String topBorder = "╔" + "═".repeat(boardWidth) + "╦" + "═".repeat(boardWidth) + "╗";
         String separator = "╠" + "═".repeat(boardWidth) + "╬" + "═".repeat(boardWidth) + "╣";
         String bottomBorder = "╚" + "═".repeat(boardWidth) + "╩" + "═".repeat(boardWidth) + "╝";
 
-        List<String> lines = new ArrayList<>();
+        List<String> lines = new ArrayList<>(size + HEADER_LINES + 1);
         lines.add(topBorder);
 
         // Create the title row with both board names, padded to align
@@ -220,46 +571,89 @@ public class Board {
         lines.add(separator);
 
         // Build the column headers for both boards
-        StringBuilder colRow = new StringBuilder();
-        colRow.append("║    ");
-        for (int i = 1; i <= size; i++) {
-            colRow.append(String.format("%-2d ", i));
-        }
-        colRow.append("║    ");
-        for (int i = 1; i <= size; i++) {
-            colRow.append(String.format("%-2d ", i));
-        }
-        colRow.append("║");
+        StringBuilder colRow = new StringBuilder(2 * boardWidth + 3);
+        colRow.append('║');
+        appendColumnNumbers(colRow, size);
+        colRow.append('║');
+        appendColumnNumbers(colRow, size);
+        colRow.append('║');
         lines.add(colRow.toString());
 
         // Build and combine rows for both boards
         for (int row = 0; row < size; row++) {
-            // Build the left board's row
-            StringBuilder rowLeft = new StringBuilder();
-            rowLeft.append("║ ").append((char) ('A' + row)).append("  ");
-            for (int col = 0; col < size; col++) {
-                rowLeft.append(board1.displayBoard[row][col]).append("  ");
-            }
-            rowLeft.append("║");
+            StringBuilder line = new StringBuilder(2 * boardWidth + 3);
+            line.append('║');
+            appendRow(line, board1, row);
+            line.append('║');
+            appendRow(line, board2, row);
+            line.append('║');
+            lines.add(line.toString());
+        }
 
-            // Build the right board's row
-            StringBuilder rowRight = new StringBuilder();
-            rowRight.append(" ").append((char) ('A' + row)).append("  ");
-            for (int col = 0; col < size; col++) {
-                rowRight.append(board2.displayBoard[row][col]).append("  ");
-            }
-            rowRight.append("║");
+        lines.add(bottomBorder);
+        return lines;
+    }
 
-            // Combine the left and right rows.
-            // Note: Removed the unnecessary toString() call on rowRight because the + operator will invoke it automatically.
-            lines.add(rowLeft.toString() + rowRight);
+    /**
+     * Returns the screen column of a cell in the lines built by {@link #boardLines}.
+     *
+     * @param size   the board size.
+     * @param second true for a cell of the second (right) board.
+     * @param col    column index of the cell.
+     * @return the zero-based screen column.
+     */
+    static int cellColumn(int size, boolean second, int col) {
+        // "║ " and the padded row label precede the first cell; the right board also follows the left box and "║".
+        int first = 1 + 1 + rowLabelWidth(size) + 2;
+        if (second) {
+            first += boxWidth(size) + 1;
         }
+        return first + col * cellWidth(size);
+    }
 
-        lines.add(bottomBorder);
+    /**
+     * Returns the width of the row labels of a board: one letter up to 26 rows, two up to 702, and so on.
+     */
+    private static int rowLabelWidth(int size) {
+        return Coordinate.rowLabel(size - 1).length();
+    }
+
+    /**
+     * Returns the number of screen columns per cell: the symbol and two spaces, or more when the
+     * column numbers are wider than two digits.
+     */
+    private static int cellWidth(int size) {
+        return Math.max(3, String.valueOf(size).length() + 1);
+    }
+
+    /**
+     * Returns the width of a board's box between its borders.
+     */
+    private static int boxWidth(int size) {
+        return 1 + rowLabelWidth(size) + 2 + size * cellWidth(size);
+    }
+
+    /**
+     * Appends the column numbers of a board, aligned with its cells, without borders.
+     */
+    private static void appendColumnNumbers(StringBuilder line, int size) {
+        String number = "%-" + (cellWidth(size) - 1) + "d ";
+        line.append(" ".repeat(1 + rowLabelWidth(size) + 2));
+        for (int col = 1; col <= size; col++) {
+            line.append(String.format(number, col));
+        }
+    }
 
-        // Print all lines of the combined boards
-        for (String line : lines) {
-            System.out.println(line);
+    /**
+     * Appends a row of a board: its label followed by the cell values, without borders.
+     */
+    private static void appendRow(StringBuilder line, Board board, int row) {
+        int size = board.getSize();
+        String label = Coordinate.rowLabel(row);
+        String gap = " ".repeat(cellWidth(size) - 1);
+        line.append(' ').append(label).append(" ".repeat(rowLabelWidth(size) - label.length() + 2));
+        for (int col = 0; col < size; col++) {
+            line.append(board.getSymbol(row, col)).append(gap);
         }
     }
 
@@ -268,12 +662,7 @@ public class Board {
      * Only cells with ships that have not been hit are revealed.
      */
     public void revealShips() {
-        gameState.forEach((coordinate, cell) -> {
-            // If the cell contains a ship and hasn't been hit, reveal it on the display board.
-            if (cell.hasShip() && !cell.isHit()) {
-                displayBoard[coordinate.row()][coordinate.col()] = 'S';
-            }
-        });
+        shipsVisible = true;
     }
 
     /**
@@ -284,9 +673,31 @@ public class Board {
     }
 
     /**
+     * Builds a snapshot of the game state as a mapping of coordinates to cell states.
+     * The planes remain the source of truth; changes to the returned cells are not written back.
+     *
      * @return the game state mapping of coordinates to cell states.
      */
     public Map<Coordinate, Cell> getGameState() {
+        Map<Coordinate, Cell> gameState = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                Cell cell = new Cell();
+                Ship ship = getShipAt(row, col);
+                if (ship != null) {
+                    cell.setShip(ship);
+                }
+                cell.setHit(isTargeted(row, col));
+                gameState.put(Coordinate.of(row, col), cell);
+            }
+        }
         return gameState;
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts a row and column to the cell's index in the planes.
+     */
+    private int index(int row, int col) {
+        return row * size + col;
+    }
+}
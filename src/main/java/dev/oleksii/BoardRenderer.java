@@ -0,0 +1,180 @@
+package dev.oleksii;
+
+import java.util.List;
+
+/**
+ * Draws two boards side by side on an ANSI terminal, redrawing only what changed since the previous frame.
+ * <p>
+ * The first frame clears the screen and draws the full layout of {@link Board#displayBoards}. The renderer
+ * remembers the symbol shown in every cell, and later frames move the cursor to each cell whose symbol
+ * differs and overwrite just that character, which is usually one or a handful of cells per shot.
+ * Every frame ends by moving the cursor below the boards and clearing the rest of the screen, so text printed
+ * between frames starts at the same place. A frame is built in memory and written with a single flush.
+ * Nothing is built while the output is disabled.
+ * <p>
+ * Updating cells in place relies on the previous frame still being where it was drawn. That is only the case
+ * if the frame, plus the messages of a turn printed below it, fits the terminal: a wider frame wraps and a
+ * taller one scrolls. Frames that do not fit are always drawn in full. The terminal size is read from the
+ * system properties {@value #COLUMNS_PROPERTY} and {@value #LINES_PROPERTY}, then from the {@code COLUMNS}
+ * and {@code LINES} environment variables, and is otherwise assumed to be 80 by 24.
+ */
+public class BoardRenderer {
+    // ANSI sequence clearing from the cursor to the end of the screen.
+    private static final String CLEAR_BELOW = "\033[J";
+
+    // System properties overriding the terminal size.
+    static final String COLUMNS_PROPERTY = "battleship.terminal.columns";
+    static final String LINES_PROPERTY = "battleship.terminal.lines";
+
+    // Lines printed below a frame during a turn: the turn announcement, the prompt and the result of the shot.
+    static final int MESSAGE_LINES = 8;
+
+    // Where frames are written.
+    private final GameOutput out;
+
+    // Size of the terminal the output is shown on.
+    private final int columns;
+    private final int lines;
+
+    // The frame on screen: board size, names, and the symbols of each board's cells (null before the first frame).
+    private int size;
+    private String name1;
+    private String name2;
+    private char[] shown1;
+    private char[] shown2;
+
+    /**
+     * Constructs a renderer writing to the given output.
+     *
+     * @param out the output connected to an ANSI terminal.
+     */
+    public BoardRenderer(GameOutput out) {
+        this(out, terminalSize(COLUMNS_PROPERTY, "COLUMNS", 80), terminalSize(LINES_PROPERTY, "LINES", 24));
+    }
+
+    /**
+     * Constructs a renderer writing to an output shown on a terminal of the given size.
+     *
+     * @param out     the output connected to an ANSI terminal.
+     * @param columns the width of the terminal, in characters.
+     * @param lines   the height of the terminal, in lines.
+     */
+    public BoardRenderer(GameOutput out, int columns, int lines) {
+        this.out = out;
+        this.columns = columns;
+        this.lines = lines;
+    }
+
+    /**
+     * Draws a frame showing both boards, updating only the cells that changed since the previous frame.
+     *
+     * @param board1 the first board
+     * @param name1  the name for the first board
+     * @param board2 the second board
+     * @param name2  the name for the second board
+     */
+    public void render(Board board1, String name1, Board board2, String name2) {
+        if (!out.isEnabled()) {
+            return;
+        }
+        StringBuilder frame = new StringBuilder();
+        if (shown1 == null || board1.getSize() != size || !name1.equals(this.name1) || !name2.equals(this.name2)) {
+            // Nothing usable on screen: draw everything.
+            size = board1.getSize();
+            this.name1 = name1;
+            this.name2 = name2;
+            shown1 = new char[size * size];
+            shown2 = new char[size * size];
+            frame.append(GameOutput.CLEAR_SCREEN);
+            List<String> boardLines = Board.boardLines(board1, name1, board2, name2);
+            for (String line : boardLines) {
+                frame.append(line).append('\n');
+            }
+            if (fits(boardLines)) {
+                remember(board1, shown1);
+                remember(board2, shown2);
+            } else {
+                // The frame wraps or will scroll away: the next one cannot update it in place.
+                invalidate();
+            }
+        } else {
+            update(frame, board1, shown1, false);
+            update(frame, board2, shown2, true);
+        }
+        // Park the cursor under the bottom border and clear whatever was printed since the last frame.
+        moveTo(frame, Board.HEADER_LINES + size + 1, 0);
+        frame.append(CLEAR_BELOW);
+        out.print(frame);
+        out.flush();
+    }
+
+    /**
+     * Forgets the frame on screen, so the next frame is drawn in full.
+     * Call this after anything else has cleared or scrolled the screen.
+     */
+    public void invalidate() {
+        shown1 = null;
+        shown2 = null;
+    }
+
+    /**
+     * Checks whether a frame of the given lines, and the messages of a turn below it, fit the terminal.
+     */
+    private boolean fits(List<String> frameLines) {
+        return frameLines.size() + MESSAGE_LINES <= lines && frameLines.getFirst().length() <= columns;
+    }
+
+    /**
+     * Reads a terminal dimension from a system property or an environment variable.
+     *
+     * @return the dimension, or the fallback if neither is set to a positive number.
+     */
+    private static int terminalSize(String property, String variable, int fallback) {
+        Integer configured = Integer.getInteger(property);
+        if (configured != null && configured > 0) {
+            return configured;
+        }
+        try {
+            String value = System.getenv(variable);
+            int parsed = value == null ? 0 : Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Appends a cursor move and the new symbol for every cell of a board that differs from what is shown.
+     */
+    private void update(StringBuilder frame, Board board, char[] shown, boolean second) {
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                char symbol = board.getSymbol(row, col);
+                int cell = row * size + col;
+                if (shown[cell] != symbol) {
+                    shown[cell] = symbol;
+                    moveTo(frame, Board.HEADER_LINES + row, Board.cellColumn(size, second, col));
+                    frame.append(symbol);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the symbols of a board that has just been drawn in full.
+     */
+    private void remember(Board board, char[] shown) {
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                shown[row * size + col] = board.getSymbol(row, col);
+            }
+        }
+    }
+
+    /**
+     * Appends the ANSI cursor position sequence for a zero-based line and column.
+     */
+    private static void moveTo(StringBuilder frame, int line, int column) {
+        frame.append("\033[").append(line + 1).append(';').append(column + 1).append('H');
+    }
+}
@@ -0,0 +1,62 @@
+package dev.oleksii;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Output collecting text in memory and writing it to a stream in one UTF-8 write per {@link #flush()},
+ * so a whole turn's boards and messages cost a single call into the stream.
+ */
+public class BufferedOutput implements GameOutput {
+    // The stream the text is written to on flush.
+    private final OutputStream stream;
+
+    // Text written since the last flush.
+    private final StringBuilder pending = new StringBuilder();
+
+    /**
+     * Constructs an output batching writes to the given stream.
+     *
+     * @param stream the destination stream.
+     */
+    public BufferedOutput(OutputStream stream) {
+        this.stream = stream;
+    }
+
+    @Override
+    public void print(CharSequence text) {
+        pending.append(text);
+    }
+
+    /**
+     * Writes the pending text to the stream and flushes it.
+     *
+     * @throws UncheckedIOException if the stream fails
+     */
+    @Override
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        byte[] bytes = pending.toString().getBytes(StandardCharsets.UTF_8);
+        pending.setLength(0);
+        try {
+            write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes one batch of encoded text to the stream and flushes it.
+     *
+     * @param bytes the encoded text.
+     * @throws IOException if the stream fails
+     */
+    protected void write(byte[] bytes) throws IOException {
+        stream.write(bytes);
+        stream.flush();
+    }
+}
@@ -0,0 +1,52 @@
+package dev.oleksii;
+
+import java.util.List;
+
+/**
+ * Output keeping everything written to it in memory, so tests can check what a player was shown.
+ */
+public class CapturedOutput implements GameOutput {
+    // Everything written so far.
+    private final StringBuilder text = new StringBuilder();
+
+    // Number of flushes so far.
+    private int flushes;
+
+    @Override
+    public synchronized void print(CharSequence text) {
+        this.text.append(text);
+    }
+
+    @Override
+    public synchronized void flush() {
+        flushes++;
+    }
+
+    /**
+     * @return everything written so far.
+     */
+    public synchronized String text() {
+        return text.toString();
+    }
+
+    /**
+     * @return everything written so far, split into lines.
+     */
+    public synchronized List<String> lines() {
+        return text.toString().lines().toList();
+    }
+
+    /**
+     * @return the number of times the output was flushed.
+     */
+    public synchronized int flushes() {
+        return flushes;
+    }
+
+    /**
+     * Forgets everything written so far.
+     */
+    public synchronized void clear() {
+        text.setLength(0);
+    }
+}
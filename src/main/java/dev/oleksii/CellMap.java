@@ -0,0 +1,148 @@
+package dev.oleksii;
+
+import java.util.Arrays;
+
+/**
+ * Map from the cells of a board (by index, {@code row * size + col}) to non-zero ints that switches from a
+ * sparse to a dense representation as it fills up, in the same way as {@link CellSet}.
+ * <p>
+ * A map starts sparse: an open-addressing hash table of cell indices and their values with linear probing,
+ * so lookups neither box the cell nor allocate. Once the table would take more memory than an array with one
+ * int per cell, the map converts itself to that array and stays dense. Maps on boards of up to
+ * {@value CellSet#ALWAYS_DENSE_CELLS} cells are dense from the start.
+ */
+final class CellMap {
+    // Initial number of entries of a sparse table; a power of two.
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Marks a free slot of a sparse table.
+    private static final int FREE = -1;
+
+    // Number of cells on the board.
+    private final int cells;
+
+    // The dense form (the value of each cell, 0 for none), or null while the map is sparse.
+    private int[] values;
+
+    // The sparse form: pairs of a cell index (or FREE) and its value, at most half full. Null once dense.
+    private int[] table;
+
+    // Number of cells in the map.
+    private int count;
+
+    /**
+     * Constructs an empty map of the cells of a board.
+     *
+     * @param cells the number of cells on the board.
+     */
+    CellMap(int cells) {
+        this.cells = cells;
+        if (cells <= CellSet.ALWAYS_DENSE_CELLS) {
+            values = new int[cells];
+        } else {
+            table = newTable(INITIAL_CAPACITY);
+        }
+    }
+
+    /**
+     * @param index a cell index.
+     * @return the value of the cell, or 0 if it has none.
+     */
+    int get(int index) {
+        if (values != null) {
+            return values[index];
+        }
+        int mask = (table.length >>> 1) - 1;
+        for (int slot = hash(index) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot << 1];
+            if (entry == index) {
+                return table[(slot << 1) + 1];
+            }
+            if (entry == FREE) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Sets the value of a cell.
+     *
+     * @param index a cell index.
+     * @param value the value, not 0.
+     */
+    void put(int index, int value) {
+        if (values != null) {
+            values[index] = value;
+            return;
+        }
+        if (insert(table, index, value)) {
+            count++;
+            if (2 * count > table.length >>> 1) {
+                grow();
+            }
+        }
+    }
+
+    /**
+     * @return true while the map is held in a hash table rather than an array.
+     */
+    boolean isSparse() {
+        return values == null;
+    }
+
+    /**
+     * Doubles the sparse table, or converts the map to an array once that takes less memory.
+     */
+    private void grow() {
+        int capacity = table.length; // Twice the entries of the current table
+        if ((long) capacity * 2 >= cells) {
+            int[] dense = new int[cells];
+            for (int slot = 0; slot < table.length; slot += 2) {
+                if (table[slot] != FREE) {
+                    dense[table[slot]] = table[slot + 1];
+                }
+            }
+            values = dense;
+            table = null;
+            return;
+        }
+        int[] larger = newTable(capacity);
+        for (int slot = 0; slot < table.length; slot += 2) {
+            if (table[slot] != FREE) {
+                insert(larger, table[slot], table[slot + 1]);
+            }
+        }
+        table = larger;
+    }
+
+    /**
+     * Inserts or replaces the value of a cell in a table with a free slot.
+     *
+     * @return false if the cell was already there.
+     */
+    private static boolean insert(int[] table, int index, int value) {
+        int mask = (table.length >>> 1) - 1;
+        for (int slot = hash(index) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot << 1];
+            if (entry == index || entry == FREE) {
+                table[slot << 1] = index;
+                table[(slot << 1) + 1] = value;
+                return entry == FREE;
+            }
+        }
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity * 2];
+        Arrays.fill(table, FREE);
+        return table;
+    }
+
+    /**
+     * Spreads neighbouring cell indices over the table (Fibonacci hashing, high bits folded into the low ones).
+     */
+    private static int hash(int index) {
+        int h = index * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,251 @@
+package dev.oleksii;
+
+import java.util.Arrays;
+
+/**
+ * Set of the cells of a board (by index, {@code row * size + col}) that switches from a sparse to a dense
+ * representation as it fills up.
+ * <p>
+ * A set starts sparse: an open-addressing hash table of cell indices with linear probing, so its memory grows
+ * with the number of cells in it rather than with the board. Once the table would take more memory than a
+ * bitboard of the whole board (one bit per cell), the set converts itself to that bitboard and stays dense.
+ * Sets on boards of up to {@value #ALWAYS_DENSE_CELLS} cells, such as Sea and Ocean boards, are dense
+ * from the start, since their bitboard is smaller than an empty table.
+ */
+final class CellSet {
+    // Boards with at most this many cells are always dense: their bitboard is 64 longs or less.
+    static final int ALWAYS_DENSE_CELLS = 1 << 12;
+
+    // Initial capacity of a sparse table; a power of two.
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Marks a free slot of a sparse table.
+    private static final int FREE = -1;
+
+    // Number of cells on the board.
+    private final int cells;
+
+    // The dense form (one bit per cell), or null while the set is sparse.
+    private long[] words;
+
+    // The sparse form: cell indices or FREE, at most half full. Null once the set is dense.
+    private int[] table;
+
+    // Number of cells in the set.
+    private int count;
+
+    /**
+     * Constructs an empty set of cells of a board.
+     *
+     * @param cells the number of cells on the board.
+     */
+    CellSet(int cells) {
+        this.cells = cells;
+        clear();
+    }
+
+    /**
+     * @param index a cell index.
+     * @return true if the cell is in the set.
+     */
+    boolean contains(int index) {
+        if (words != null) {
+            return (words[index >>> 6] & (1L << index)) != 0;
+        }
+        int mask = table.length - 1;
+        for (int slot = hash(index) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == index) {
+                return true;
+            }
+            if (entry == FREE) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Adds a cell to the set.
+     *
+     * @param index a cell index.
+     */
+    void add(int index) {
+        if (words != null) {
+            long bit = 1L << index;
+            if ((words[index >>> 6] & bit) == 0) {
+                words[index >>> 6] |= bit;
+                count++;
+            }
+            return;
+        }
+        if (insert(table, index)) {
+            count++;
+            if (2 * count > table.length) {
+                grow();
+            }
+        }
+    }
+
+    /**
+     * Adds every cell whose bit is set in a bitboard of the same board.
+     *
+     * @param bits one bit per cell, e.g. the occupancy of a {@link FleetLayout}.
+     */
+    void addAll(long[] bits) {
+        for (int word = 0; word < bits.length; word++) {
+            for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1) {
+                add((word << 6) + Long.numberOfTrailingZeros(remaining));
+            }
+        }
+    }
+
+    /**
+     * @return the number of cells in the set.
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * @return true while the set is held in a hash table rather than a bitboard.
+     */
+    boolean isSparse() {
+        return words == null;
+    }
+
+    /**
+     * Removes every cell, returning the set to its initial representation.
+     */
+    void clear() {
+        count = 0;
+        if (cells <= ALWAYS_DENSE_CELLS) {
+            words = new long[(cells + 63) >>> 6];
+            table = null;
+        } else {
+            words = null;
+            table = newTable(INITIAL_CAPACITY);
+        }
+    }
+
+    /**
+     * Returns the number of longs {@link #encode} writes.
+     */
+    int encodedLength() {
+        return 1 + (words != null ? words.length : count);
+    }
+
+    /**
+     * Writes the set into an array: {@code -words} followed by the words of a dense set,
+     * or the count followed by the cell indices of a sparse set.
+     *
+     * @param out    the array to write to.
+     * @param offset the position of the first long written.
+     * @return the position after the last long written.
+     */
+    int encode(long[] out, int offset) {
+        if (words != null) {
+            out[offset++] = -words.length;
+            System.arraycopy(words, 0, out, offset, words.length);
+            return offset + words.length;
+        }
+        out[offset++] = count;
+        for (int entry : table) {
+            if (entry != FREE) {
+                out[offset++] = entry;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Replaces the contents of the set with a set written by {@link #encode}.
+     *
+     * @param in     the array to read from.
+     * @param offset the position of the first long to read.
+     * @return the position after the last long read.
+     * @throws IllegalArgumentException if the encoded set belongs to a board of another size
+     */
+    int decode(long[] in, int offset) {
+        long header = in[offset++];
+        if (header < 0) {
+            int length = (int) -header;
+            if (length != (cells + 63) >>> 6) {
+                throw new IllegalArgumentException("Encoded cells do not match the board size.");
+            }
+            words = Arrays.copyOfRange(in, offset, offset + length);
+            table = null;
+            count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            return offset + length;
+        }
+        clear();
+        for (int i = 0; i < header; i++) {
+            long index = in[offset++];
+            if (index < 0 || index >= cells) {
+                throw new IllegalArgumentException("Encoded cells do not match the board size.");
+            }
+            add((int) index);
+        }
+        return offset;
+    }
+
+    /**
+     * Doubles the sparse table, or converts the set to a bitboard once that takes less memory.
+     */
+    private void grow() {
+        int capacity = table.length * 2;
+        if ((long) capacity * Integer.BYTES >= (long) ((cells + 63) >>> 6) * Long.BYTES) {
+            long[] bits = new long[(cells + 63) >>> 6];
+            for (int entry : table) {
+                if (entry != FREE) {
+                    bits[entry >>> 6] |= 1L << entry;
+                }
+            }
+            words = bits;
+            table = null;
+            return;
+        }
+        int[] larger = newTable(capacity);
+        for (int entry : table) {
+            if (entry != FREE) {
+                insert(larger, entry);
+            }
+        }
+        table = larger;
+    }
+
+    /**
+     * Inserts a cell into a table with a free slot.
+     *
+     * @return false if the cell was already there.
+     */
+    private static boolean insert(int[] table, int index) {
+        int mask = table.length - 1;
+        for (int slot = hash(index) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == index) {
+                return false;
+            }
+            if (entry == FREE) {
+                table[slot] = index;
+                return true;
+            }
+        }
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, FREE);
+        return table;
+    }
+
+    /**
+     * Spreads neighbouring cell indices over the table (Fibonacci hashing, high bits folded into the low ones).
+     */
+    private static int hash(int index) {
+        int h = index * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,72 +1,143 @@
 package dev.oleksii;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.List;
+import java.util.random.RandomGenerator;
 import java.util.Scanner;
 
 /**
  * ComputerPlayer is a concrete subclass of Player.
- * It automates ship placement and move selection using random choices.
+ * It automates ship placement using random choices, and move selection using a {@link TargetingStrategy}.
  */
 public class ComputerPlayer extends Player {
+    // Time taken by the targeting strategy per shot.
+    private static final Metrics.Histogram DECISION_TIME = Metrics.global().histogram(
+            "battleship_computer_decision_seconds", "Time taken by a computer player's strategy to choose a target.");
 
-    // Random instance used for generating random positions and orientations.
-    private final Random random;
+    // Random generator used for generating random positions and orientations.
+    private final RandomGenerator random;
+
+    // Strategy used for choosing where to fire.
+    private final TargetingStrategy strategy;
+
+    // Pool of ready-made fleet layouts, or null to place ships one by one.
+    private final FleetLayoutPool layouts;
+
+    /**
+     * Constructs a ComputerPlayer with a given random generator (e.g. a Random object)
+     * that fires at random cells.
+     * The player's name is set to "Computer".
+     *
+     * @param random the random generator for generating random numbers.
+     */
+    public ComputerPlayer(RandomGenerator random) {
+        this(random, new RandomTargeting(random));
+    }
+
+    /**
+     * Constructs a ComputerPlayer with a given random generator and targeting strategy.
+     * The player's name is set to "Computer".
+     *
+     * @param random   the random generator used for ship placement.
+     * @param strategy the strategy used for choosing where to fire.
+     */
+    public ComputerPlayer(RandomGenerator random, TargetingStrategy strategy) {
+        this(random, strategy, null);
+    }
 
     /**
-     * Constructs a ComputerPlayer with a given Random object.
+     * Constructs a ComputerPlayer that takes its fleet layout from a pool of ready-made uniform layouts.
      * The player's name is set to "Computer".
      *
-     * @param random the Random instance for generating random numbers.
+     * @param random   the random generator used for ship placement when the pool does not match the game mode.
+     * @param strategy the strategy used for choosing where to fire.
+     * @param layouts  the pool of fleet layouts, or null to place ships one by one.
      */
-    public ComputerPlayer(Random random) {
+    public ComputerPlayer(RandomGenerator random, TargetingStrategy strategy, FleetLayoutPool layouts) {
         super("Computer");
         this.random = random;
+        this.strategy = strategy;
+        this.layouts = layouts;
     }
 
     /**
      * Automatically places ships on the board.
-     * For each ship, the method randomly selects a starting coordinate and orientation
-     * until the ship is successfully placed or a maximum number of attempts is reached.
+     * The fleet is copied from a layout drawn uniformly over all valid layouts: taken from the player's layout
+     * pool if it has one for the current game mode, or generated on the spot otherwise.
+     * On crowded boards where uniform layouts are too rare to find quickly, ships are placed one by one
+     * as described in {@link #placeShipsRandomly}.
      *
      * @param scanner a Scanner object (not used here, but required by the abstract method signature).
      */
     @Override
     public void placeShips(Scanner scanner) {
         int boardSize = getBoard().getSize();  // Retrieve the board size.
+        int maxLayoutDraws = 1000;  // Maximum number of whole-fleet draws for a uniform layout.
+
+        FleetLayout layout;
+        if (layouts != null && layouts.getMode().getBoardSize() == boardSize
+                && sameLengths(layouts.getMode().getShips(), getShips())) {
+            layout = layouts.take();
+        } else {
+            layout = new FleetLayoutGenerator(boardSize, getShips()).tryNext(random, maxLayoutDraws);
+        }
+        if (!placeShipsRandomly(layout, random)) {
+            getOutput().println(
+                    "[WARNING] Computer could not place its fleet after " + PLACEMENT_ATTEMPTS + " attempts.");
+        }
+    }
 
-        // Loop through each ship that needs to be placed.
-        for (Ship ship : getShips()) {
-            boolean placed = false;
-            int attempts = 0;
-            int maxAttempts = 1000;  // Maximum number of attempts before giving up.
-
-            // Continue attempting to place the current ship until successful.
-            while (!placed) {
-                attempts++;
-                if (attempts > maxAttempts) {
-                    System.err.println("[WARNING] Computer could not place "
-                                       + ship.getName() + " after " + maxAttempts + " attempts.");
-                    // Either break or throw an exception based on desired error handling.
-                    break;
-                }
-
-                // Generate random starting coordinates.
-                int row = random.nextInt(boardSize);
-                int col = random.nextInt(boardSize);
-                // Randomly choose an orientation: true for horizontal, false for vertical.
-                boolean horizontal = random.nextBoolean();
-
-                // Attempt to place the ship on the board.
-                if (getBoard().placeShip(ship, row, col, horizontal, false)) {
-                    placed = true;  // Ship was placed successfully.
-                }
+    /**
+     * Checks whether two fleets have ships of the same lengths in the same order, so a layout of one fits the other.
+     */
+    private static boolean sameLengths(List<Ship> fleet, List<Ship> other) {
+        if (fleet.size() != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < fleet.size(); i++) {
+            if (fleet.get(i).getSize() != other.get(i).getSize()) {
+                return false;
             }
         }
+        return true;
+    }
+
+    /**
+     * Selects a cell on the opponent's board that hasn't been targeted before, using the targeting strategy.
+     * This performs no I/O, so it can be used by headless simulations as well as by takeTurn.
+     *
+     * @param opponent the opposing player whose board is targeted.
+     * @return the coordinate to fire at.
+     */
+    public Coordinate chooseTarget(Player opponent) {
+        GameEvents.Decision event = new GameEvents.Decision();
+        event.begin();
+        long start = Metrics.start();
+        Coordinate target = strategy.nextTarget(opponent.getBoard(), opponent.getShips());
+        DECISION_TIME.recordSince(start);
+        if (event.shouldCommit()) {
+            event.boardSize = opponent.getBoard().getSize();
+            event.strategy = strategy.getClass().getSimpleName();
+            event.row = target.row();
+            event.col = target.col();
+            event.commit();
+        }
+        return target;
     }
 
     /**
-     * Automatically takes a turn by randomly selecting a coordinate on the opponent's board.
+     * Informs the targeting strategy about the result of a shot chosen by {@link #chooseTarget}.
+     *
+     * @param opponent the opposing player whose board was targeted.
+     * @param target   the coordinate that was fired at.
+     * @param result   the result of the shot ('*', 'x' or 'X').
+     */
+    public void recordShot(Player opponent, Coordinate target, char result) {
+        strategy.recordShot(opponent.getBoard(), target.row(), target.col(), result);
+    }
+
+    /**
+     * Automatically takes a turn by selecting a coordinate on the opponent's board using the targeting strategy.
      * The method ensures the chosen cell hasn't been targeted before.
      * Depending on whether the shot is a hit or a miss, the board is updated and an appropriate message is displayed.
      *
@@ -76,78 +147,39 @@ public class ComputerPlayer extends Player {
      */
     @Override
     public Move takeTurn(Scanner scanner, Player opponent) {
-        int boardSize = opponent.getBoard().getSize();
-        int row, col;
-
-        // Loop until a cell that hasn't been hit is found.
-        do {
-            row = random.nextInt(boardSize);
-            col = random.nextInt(boardSize);
-        } while (opponent.getBoard().getGameState().get(new Coordinate(row, col)).isHit());
+        Coordinate target = chooseTarget(opponent);
+        int row = target.row();
+        int col = target.col();
 
         // Inform the user about the computer's guess.
-        System.out.println("Computer guesses: " + (char) ('A' + row) + (col + 1));
+        getOutput().println("Computer guesses: " + target.label());
 
         // Pause briefly to allow the user to see the guess.
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            // If interrupted, ignore or handle as necessary.
-        }
+        getOutput().flush();
+        pause(3000);
 
-        // Retrieve the opponent's board and the corresponding cell.
+        // Resolve the shot on the opponent's board and report the outcome.
         var opponentBoard = opponent.getBoard();
-        Cell cell = opponentBoard.getGameState().get(new Coordinate(row, col));
-        char result;
-
-        // Process the move based on whether a ship occupies the cell.
-        if (cell.hasShip()) {
-            // Register a hit on the ship at the specified coordinate.
-            cell.getShip().checkHit(row, col);
-
-            if (cell.getShip().isSunk()) {
-                // If the ship is sunk, mark all of its coordinates with 'X' on the opponent's board.
-                for (Coordinate c : cell.getShip().getCoordinates()) {
-                    opponentBoard.updateCell(c.row(), c.col(), 'X');
-                }
-                MessageFormatter.printBoxedMessage(cell.getShip().getName() + " sunk!");
-                try {
-                    Thread.sleep(3000);
-                } catch (InterruptedException e) {
-                    // Handle interruption if needed.
-                }
-                result = 'X';
-            } else {
-                // If the ship is hit but not sunk, mark the cell with 'x'.
-                opponentBoard.updateCell(row, col, 'x');
-                result = 'x';
-                MessageFormatter.printBoxedMessage("Hit!");
-                try {
-                    Thread.sleep(3000);
-                } catch (InterruptedException e) {
-                    // Handle interruption if needed.
-                }
-            }
-        } else {
-            // If no ship is present, mark the cell as a miss with '*'.
-            opponentBoard.updateCell(row, col, '*');
-            result = '*';
-            MessageFormatter.printBoxedMessage("Miss!");
-            try {
-                Thread.sleep(3000);
-            } catch (InterruptedException e) {
-                // Handle interruption if needed.
-            }
+        char result = opponentBoard.fireAt(row, col);
+        recordShot(opponent, target, result);
+        Ship ship = opponentBoard.getShipAt(row, col);
+        switch (result) {
+            case 'X' -> MessageFormatter.printBoxedMessage(getOutput(),
+                    MessageFormatter.sunkMessage(ship, opponentBoard.getFleetState()));
+            case 'x' -> MessageFormatter.printBoxedMessage(getOutput(), "Hit!");
+            default -> MessageFormatter.printBoxedMessage(getOutput(), "Miss!");
         }
+        // Pause briefly so the user can see the outcome.
+        getOutput().flush();
+        pause(3000);
 
         // Create a Move object to record this shot.
-        Move move = new Move(this, new Coordinate(row, col), result);
+        Move move = new Move(this, target, result);
 
         // If the shot sunk a ship, record the sunk ship's information (name and coordinates)
         // for use in replay functionality.
         if (result == 'X') {
-            move.setSunkShipInfo(cell.getShip().getName(),
-                    new ArrayList<>(cell.getShip().getCoordinates()));
+            move.setSunkShipInfo(ship.getName(), new ArrayList<>(ship.getCoordinates()));
         }
 
         // Return the move.
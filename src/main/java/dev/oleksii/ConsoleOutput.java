@@ -0,0 +1,43 @@
+package dev.oleksii;
+
+import java.io.PrintStream;
+
+/**
+ * Output writing each piece of text straight to a console stream, for interactive play.
+ */
+public class ConsoleOutput implements GameOutput {
+    // The shared console output on System.out, looked up on every write so that System.setOut is honoured.
+    static final ConsoleOutput SYSTEM_OUT = new ConsoleOutput(null);
+
+    // The stream text is written to, or null to write to whatever System.out is at the time.
+    private final PrintStream stream;
+
+    /**
+     * Constructs an output writing to the given stream.
+     *
+     * @param stream the console stream.
+     */
+    public ConsoleOutput(PrintStream stream) {
+        this.stream = stream;
+    }
+
+    @Override
+    public void print(CharSequence text) {
+        stream().append(text);
+    }
+
+    @Override
+    public void println(CharSequence text) {
+        stream().println(text);
+    }
+
+    @Override
+    public void flush() {
+        stream().flush();
+    }
+
+    // The stream to write to now.
+    private PrintStream stream() {
+        return stream != null ? stream : System.out;
+    }
+}
@@ -3,6 +3,138 @@ package dev.oleksii;
  * Represents a coordinate on the game board defined by a row and a column.
  * Being a record, Coordinate is immutable and automatically generates
  * accessor methods, as well as implementations for equals, hashCode, and toString.
+ * <p>
+ * Coordinates on boards up to {@value #CACHED_SIZE}x{@value #CACHED_SIZE} are canonical:
+ * {@link #of(int, int)} returns a shared instance from a table built when the class is loaded,
+ * so play never allocates coordinates.
+ * <p>
+ * Players name cells by a row label and a 1-based column number, e.g. {@code A5}. Rows are labelled like
+ * spreadsheet columns, {@code A} to {@code Z}, then {@code AA} to {@code ZZ}, then {@code AAA}, and so on,
+ * so boards of any size have a label for every row.
  */
 public record Coordinate(int row, int col) {
-}
\ No newline at end of file
+    // Largest board dimension whose coordinates are cached.
+    private static final int CACHED_SIZE = 128;
+
+    // Cached coordinates, indexed by row and then column.
+    private static final Coordinate[][] CACHE = new Coordinate[CACHED_SIZE][CACHED_SIZE];
+
+    static {
+        // Filled during class initialisation, so every thread sees the complete table.
+        for (int row = 0; row < CACHED_SIZE; row++) {
+            for (int col = 0; col < CACHED_SIZE; col++) {
+                CACHE[row][col] = new Coordinate(row, col);
+            }
+        }
+    }
+
+    /**
+     * Returns the coordinate for a row and column, shared between callers when it lies within the cache.
+     *
+     * @param row the row index.
+     * @param col the column index.
+     * @return the coordinate.
+     */
+    public static Coordinate of(int row, int col) {
+        if (row < 0 || row >= CACHED_SIZE || col < 0 || col >= CACHED_SIZE) {
+            return new Coordinate(row, col);
+        }
+        return CACHE[row][col];
+    }
+
+    /**
+     * Returns the coordinate with the given ordinal on a board of the given size.
+     *
+     * @param ordinal   the cell index, {@code row * boardSize + col}.
+     * @param boardSize the board dimension.
+     * @return the coordinate.
+     */
+    public static Coordinate ofOrdinal(int ordinal, int boardSize) {
+        return of(ordinal / boardSize, ordinal % boardSize);
+    }
+
+    /**
+     * Returns the index of this coordinate in a row-major array over a board of the given size.
+     *
+     * @param boardSize the board dimension.
+     * @return {@code row * boardSize + col}.
+     */
+    public int ordinal(int boardSize) {
+        return row * boardSize + col;
+    }
+
+    /**
+     * Returns the label of a row: A to Z, then AA, AB, ... ZZ, AAA, ...
+     *
+     * @param row the row index.
+     * @return the row label.
+     */
+    public static String rowLabel(int row) {
+        if (row < 0) {
+            throw new IllegalArgumentException("Row index must not be negative: " + row);
+        }
+        // Bijective base 26: there is no zero digit, so "A" follows nothing and "AA" follows "Z".
+        StringBuilder label = new StringBuilder();
+        for (int n = row + 1; n > 0; n = (n - 1) / 26) {
+            label.append((char) ('A' + (n - 1) % 26));
+        }
+        return label.reverse().toString();
+    }
+
+    /**
+     * Returns the row index of a row label, ignoring case.
+     *
+     * @param label the row label, e.g. {@code C} or {@code AB}.
+     * @return the row index, or -1 if the label is not made of letters A to Z (or is too long).
+     */
+    public static int parseRowLabel(String label) {
+        if (label.isEmpty() || label.length() > 6) {
+            return -1;
+        }
+        int row = 0;
+        for (int i = 0; i < label.length(); i++) {
+            char letter = Character.toUpperCase(label.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                return -1;
+            }
+            row = row * 26 + (letter - 'A' + 1);
+        }
+        return row - 1;
+    }
+
+    /**
+     * Parses a cell name such as {@code A5} or {@code ab120} (row label, then 1-based column number).
+     * The coordinate is not checked against any board size, so the column may be out of range (e.g. {@code A0}).
+     *
+     * @param text the cell name; surrounding whitespace is ignored.
+     * @return the coordinate.
+     * @throws IllegalArgumentException if the text is not a row label followed by a column number
+     */
+    public static Coordinate parse(String text) {
+        String cell = text.trim();
+        int letters = 0;
+        while (letters < cell.length() && Character.isLetter(cell.charAt(letters))) {
+            letters++;
+        }
+        int row = parseRowLabel(cell.substring(0, letters));
+        if (row < 0 || letters == cell.length()) {
+            throw new IllegalArgumentException("Invalid format. Must be letters + number (e.g. A5).");
+        }
+        int col;
+        try {
+            col = Integer.parseInt(cell.substring(letters)) - 1;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number format. Try again.");
+        }
+        return of(row, col);
+    }
+
+    /**
+     * Returns the name players use for this cell, e.g. {@code A5} for row 0 and column 4.
+     *
+     * @return the row label followed by the 1-based column number.
+     */
+    public String label() {
+        return rowLabel(row) + (col + 1);
+    }
+}
@@ -0,0 +1,112 @@
+package dev.oleksii;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * CustomGameMode is a game mode defined by data instead of code, e.g. for stress scenarios on very large boards.
+ * It is read from a properties file such as:
+ * <pre>
+ * name = Armada
+ * boardSize = 1000
+ * ships = Carrier:5x50, Battleship:4x100, Cruiser:3x150, Destroyer:2x200
+ * </pre>
+ * Each ship entry is a name and a size, optionally followed by {@code x} and the number of such ships
+ * (one if omitted). A ship can be at most as long as the board and at most {@value Ship#MAX_SIZE} cells.
+ * Boards can have up to {@link MoveLog#MAX_CELLS} cells (1024x1024) and fleets up to
+ * {@link MoveLog#MAX_SHIPS} ships, the limits of the move log every game is recorded in.
+ */
+public class CustomGameMode extends GameMode {
+
+    /**
+     * Constructs a CustomGameMode from its definition.
+     *
+     * @param definition the properties {@code name}, {@code boardSize} and {@code ships}.
+     * @throws IllegalArgumentException if a property is missing or invalid, or the fleet cannot fit on the board
+     */
+    public CustomGameMode(Properties definition) {
+        String name = definition.getProperty("name", "").trim();
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("A custom game mode needs a name.");
+        }
+        int boardSize = parseNumber(definition.getProperty("boardSize"), "boardSize");
+        if (boardSize < 1 || (long) boardSize * boardSize > MoveLog.MAX_CELLS) {
+            throw new IllegalArgumentException("Board size must be between 1 and "
+                    + (int) Math.sqrt(MoveLog.MAX_CELLS) + ": " + boardSize);
+        }
+
+        List<Ship> ships = new ArrayList<>();
+        long shipCells = 0;
+        for (String entry : definition.getProperty("ships", "").split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            // "Name:size" or "Name:sizexcount"
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("Invalid ship entry (expected name:size or name:sizexcount): "
+                        + entry.trim());
+            }
+            String[] sizeAndCount = parts[1].trim().split("[xX]");
+            int size = parseNumber(sizeAndCount[0], "ship size");
+            int count = sizeAndCount.length > 1 ? parseNumber(sizeAndCount[1], "ship count") : 1;
+            if (size < 1 || size > Math.min(boardSize, Ship.MAX_SIZE)) {
+                throw new IllegalArgumentException("Ship size must be between 1 and the board size, at most "
+                        + Ship.MAX_SIZE + ": " + entry.trim());
+            }
+            if (count < 1 || sizeAndCount.length > 2) {
+                throw new IllegalArgumentException("Invalid ship count: " + entry.trim());
+            }
+            if (ships.size() + count > MoveLog.MAX_SHIPS) {
+                throw new IllegalArgumentException("A fleet can have at most " + MoveLog.MAX_SHIPS + " ships.");
+            }
+            for (int i = 0; i < count; i++) {
+                ships.add(new Ship(parts[0].trim(), size));
+            }
+            shipCells += (long) size * count;
+        }
+        if (ships.isEmpty()) {
+            throw new IllegalArgumentException("A custom game mode needs at least one ship.");
+        }
+        if (shipCells > (long) boardSize * boardSize) {
+            throw new IllegalArgumentException("The fleet covers " + shipCells + " cells, more than the board has.");
+        }
+
+        setName(name);
+        setBoardSize(boardSize);
+        setShips(ships);
+    }
+
+    /**
+     * Reads a game mode from a properties file (UTF-8).
+     *
+     * @param file the file defining the mode.
+     * @return the game mode.
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the definition is invalid
+     */
+    public static CustomGameMode load(Path file) throws IOException {
+        Properties definition = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            definition.load(reader);
+        }
+        return new CustomGameMode(definition);
+    }
+
+    private static int parseNumber(String value, String what) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + what + ".");
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + what + ": " + value.trim());
+        }
+    }
+}
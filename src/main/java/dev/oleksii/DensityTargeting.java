@@ -0,0 +1,321 @@
+package dev.oleksii;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Targeting strategy that fires at the cell covered by the most legal placements of the ships still afloat.
+ * <p>
+ * A placement (start cell and orientation for a ship length) stays legal until one of its cells is a miss
+ * or part of a sunk ship. For every ship length the strategy keeps how many legal placements cover each cell,
+ * and the combined density is the sum of those counts weighted by how many ships of that length are afloat.
+ * Both are updated incrementally: a miss or a sink only touches the placements crossing the affected cells,
+ * so a move costs one scan of the board to pick the maximum.
+ * <p>
+ * While there are hits on ships that have not been sunk yet, the strategy switches to target mode and
+ * only considers cells in legal placements that cross those hits.
+ */
+public class DensityTargeting implements TargetingStrategy {
+    // Random generator used for breaking ties between equally good cells.
+    private final RandomGenerator random;
+
+    // The board the state below describes; a different board resets the strategy.
+    private Board board;
+    private int size;
+
+    // Distinct ship lengths of the opponent's fleet, and how many ships of each are still afloat.
+    private int[] lengths;
+    private int[] afloat;
+
+    // For each length: whether each placement has become illegal, and how many legal placements cover each cell.
+    private boolean[][] dead;
+    private int[][] cover;
+
+    // Sum over lengths of afloat[length] * cover[length][cell].
+    private int[] density;
+
+    // Cells that were hit but whose ship has not been sunk yet.
+    private int[] openHits;
+    private int openHitCount;
+
+    // Scratch space for target mode scores, and the cells whose score was touched.
+    private int[] score;
+    private int[] touched;
+
+    /**
+     * Constructs a DensityTargeting strategy.
+     *
+     * @param random the random generator used for breaking ties.
+     */
+    public DensityTargeting(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public Coordinate nextTarget(Board opponentBoard, List<Ship> opponentShips) {
+        if (opponentBoard != board) {
+            initialise(opponentBoard, opponentShips);
+        }
+        int cell = openHitCount > 0 ? bestTargetCell() : -1;
+        if (cell < 0) {
+            cell = bestHuntCell();
+        }
+        return Coordinate.ofOrdinal(cell, size);
+    }
+
+    @Override
+    public void recordShot(Board opponentBoard, int row, int col, char result) {
+        if (opponentBoard != board) {
+            return; // The strategy has not been asked for a target on this board yet.
+        }
+        int cell = row * size + col;
+        switch (result) {
+            case '*' -> block(cell);
+            case 'x' -> openHits[openHitCount++] = cell;
+            case 'X' -> {
+                // The sunk ship is revealed, so all of its cells are resolved and can no longer hold another ship.
+                Ship ship = opponentBoard.getShipAt(row, col);
+                int step = ship.isHorizontal() ? 1 : size;
+                int shipCell = ship.getRow() * size + ship.getCol();
+                for (int i = 0; i < ship.getSize(); i++, shipCell += step) {
+                    removeOpenHit(shipCell);
+                    block(shipCell);
+                }
+                // One ship of this length fewer: remove its weight from the density.
+                int l = lengthIndex(ship.getSize());
+                afloat[l]--;
+                int[] lengthCover = cover[l];
+                for (int i = 0; i < density.length; i++) {
+                    density[i] -= lengthCover[i];
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown shot result: " + result);
+        }
+    }
+
+    /**
+     * Builds the placement counts for a fresh board, taking any shots already on it into account.
+     */
+    private void initialise(Board opponentBoard, List<Ship> opponentShips) {
+        board = opponentBoard;
+        size = opponentBoard.getSize();
+        int cells = size * size;
+
+        // Count the ships afloat for each distinct length.
+        lengths = opponentShips.stream().mapToInt(Ship::getSize).distinct().sorted().toArray();
+        afloat = new int[lengths.length];
+        for (Ship ship : opponentShips) {
+            if (!ship.isSunk()) {
+                afloat[lengthIndex(ship.getSize())]++;
+            }
+        }
+
+        dead = new boolean[lengths.length][];
+        cover = new int[lengths.length][];
+        density = new int[cells];
+        for (int l = 0; l < lengths.length; l++) {
+            int length = lengths[l];
+            int starts = Math.max(0, size - length + 1);
+            dead[l] = new boolean[2 * size * starts];
+            cover[l] = new int[cells];
+            // Every cell starts covered by all horizontal and vertical placements that can reach it.
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int count = spanCount(col, length) + spanCount(row, length);
+                    cover[l][row * size + col] = count;
+                    density[row * size + col] += afloat[l] * count;
+                }
+            }
+        }
+
+        openHits = new int[cells];
+        openHitCount = 0;
+        score = new int[cells];
+        touched = new int[cells];
+
+        // Apply shots that happened before this strategy saw the board.
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                char symbol = opponentBoard.getSymbol(row, col);
+                if (symbol == '*' || symbol == 'X') {
+                    block(row * size + col);
+                } else if (symbol == 'x') {
+                    openHits[openHitCount++] = row * size + col;
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks every legal placement crossing the cell as illegal and removes it from the counts.
+     */
+    private void block(int cell) {
+        int row = cell / size;
+        int col = cell % size;
+        for (int l = 0; l < lengths.length; l++) {
+            int length = lengths[l];
+            int starts = size - length + 1;
+            if (starts <= 0) {
+                continue;
+            }
+            boolean[] lengthDead = dead[l];
+            int[] lengthCover = cover[l];
+            int weight = afloat[l];
+            // Horizontal placements crossing the cell start between col - length + 1 and col.
+            for (int start = Math.max(0, col - length + 1); start <= Math.min(col, starts - 1); start++) {
+                int placement = row * starts + start;
+                if (!lengthDead[placement]) {
+                    lengthDead[placement] = true;
+                    for (int i = 0; i < length; i++) {
+                        int covered = row * size + start + i;
+                        lengthCover[covered]--;
+                        density[covered] -= weight;
+                    }
+                }
+            }
+            // Vertical placements crossing the cell start between row - length + 1 and row.
+            for (int start = Math.max(0, row - length + 1); start <= Math.min(row, starts - 1); start++) {
+                int placement = size * starts + start * size + col;
+                if (!lengthDead[placement]) {
+                    lengthDead[placement] = true;
+                    for (int i = 0; i < length; i++) {
+                        int covered = (start + i) * size + col;
+                        lengthCover[covered]--;
+                        density[covered] -= weight;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Hunt mode: picks the untargeted cell with the highest density, breaking ties at random.
+     */
+    private int bestHuntCell() {
+        int best = -1;
+        int bestDensity = -1;
+        int ties = 0;
+        for (int cell = 0; cell < density.length; cell++) {
+            if (board.isTargeted(cell / size, cell % size)) {
+                continue;
+            }
+            int value = density[cell];
+            if (value > bestDensity) {
+                best = cell;
+                bestDensity = value;
+                ties = 1;
+            } else if (value == bestDensity && random.nextInt(++ties) == 0) {
+                best = cell;
+            }
+        }
+        if (best < 0) {
+            throw new IllegalStateException("Every cell has already been targeted.");
+        }
+        return best;
+    }
+
+    /**
+     * Target mode: scores untargeted cells by the legal placements that cross the open hits,
+     * weighted by how many open hits each placement covers. Returns -1 if no placement crosses an open hit.
+     */
+    private int bestTargetCell() {
+        int touchedCount = 0;
+        for (int h = 0; h < openHitCount; h++) {
+            int row = openHits[h] / size;
+            int col = openHits[h] % size;
+            for (int l = 0; l < lengths.length; l++) {
+                int length = lengths[l];
+                int starts = size - length + 1;
+                if (afloat[l] == 0 || starts <= 0) {
+                    continue;
+                }
+                for (int start = Math.max(0, col - length + 1); start <= Math.min(col, starts - 1); start++) {
+                    if (!dead[l][row * starts + start]) {
+                        touchedCount = scorePlacement(row * size + start, 1, length, afloat[l], touchedCount);
+                    }
+                }
+                for (int start = Math.max(0, row - length + 1); start <= Math.min(row, starts - 1); start++) {
+                    if (!dead[l][size * starts + start * size + col]) {
+                        touchedCount = scorePlacement(start * size + col, size, length, afloat[l], touchedCount);
+                    }
+                }
+            }
+        }
+
+        int best = -1;
+        long bestValue = -1;
+        int ties = 0;
+        for (int t = 0; t < touchedCount; t++) {
+            int cell = touched[t];
+            // Prefer the highest target score, then the highest hunt density.
+            long value = ((long) score[cell] << 32) | density[cell];
+            if (value > bestValue) {
+                best = cell;
+                bestValue = value;
+                ties = 1;
+            } else if (value == bestValue && random.nextInt(++ties) == 0) {
+                best = cell;
+            }
+        }
+        // Reset only the cells that were scored.
+        for (int t = 0; t < touchedCount; t++) {
+            score[touched[t]] = 0;
+        }
+        return best;
+    }
+
+    /**
+     * Adds a legal placement's weight to the score of each of its untargeted cells.
+     *
+     * @return the new number of touched cells.
+     */
+    private int scorePlacement(int first, int step, int length, int weight, int touchedCount) {
+        // Placements covering several open hits are much more likely to be the wounded ship.
+        int hits = 0;
+        for (int i = 0, cell = first; i < length; i++, cell += step) {
+            if (board.getSymbol(cell / size, cell % size) == 'x') {
+                hits++;
+            }
+        }
+        for (int i = 0, cell = first; i < length; i++, cell += step) {
+            if (!board.isTargeted(cell / size, cell % size)) {
+                if (score[cell] == 0) {
+                    touched[touchedCount++] = cell;
+                }
+                score[cell] += weight * hits;
+            }
+        }
+        return touchedCount;
+    }
+
+    /**
+     * Removes a cell from the open hits, if present.
+     */
+    private void removeOpenHit(int cell) {
+        for (int h = 0; h < openHitCount; h++) {
+            if (openHits[h] == cell) {
+                openHits[h] = openHits[--openHitCount];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of a ship length in {@link #lengths}.
+     */
+    private int lengthIndex(int length) {
+        return Arrays.binarySearch(lengths, length);
+    }
+
+    /**
+     * Returns how many placements of the given length along one line cover the given position.
+     */
+    private int spanCount(int position, int length) {
+        int starts = size - length + 1;
+        if (starts <= 0) {
+            return 0;
+        }
+        return Math.min(position, starts - 1) - Math.max(0, position - length + 1) + 1;
+    }
+}
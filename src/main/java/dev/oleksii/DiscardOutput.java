@@ -0,0 +1,30 @@
+package dev.oleksii;
+
+/**
+ * Output dropping everything written to it, for headless runs.
+ * It reports itself as disabled, so callers skip building boards and messages altogether.
+ */
+public final class DiscardOutput implements GameOutput {
+    // The single instance; the output has no state.
+    static final DiscardOutput INSTANCE = new DiscardOutput();
+
+    private DiscardOutput() {
+    }
+
+    @Override
+    public void print(CharSequence text) {
+    }
+
+    @Override
+    public void println(CharSequence text) {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
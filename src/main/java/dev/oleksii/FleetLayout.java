@@ -0,0 +1,37 @@
+package dev.oleksii;
+
+/**
+ * A complete placement of a game mode's fleet, encoded compactly so it can be generated ahead of time
+ * and copied onto a {@link Board} cheaply.
+ *
+ * @param boardSize the size of the board the layout is for.
+ * @param occupancy one bit per cell (index = row * size + col), set where a ship lies.
+ * @param slots     the placement of each ship, in the order of the game mode's ships, encoded as a
+ *                  {@link PlacementIndex} slot: {@code (row * size + col) * 2 + (vertical ? 1 : 0)}.
+ */
+public record FleetLayout(int boardSize, long[] occupancy, int[] slots) {
+
+    /**
+     * @param ship the index of a ship in the game mode's fleet.
+     * @return the starting row index of the ship.
+     */
+    public int row(int ship) {
+        return (slots[ship] >>> 1) / boardSize;
+    }
+
+    /**
+     * @param ship the index of a ship in the game mode's fleet.
+     * @return the starting column index of the ship.
+     */
+    public int col(int ship) {
+        return (slots[ship] >>> 1) % boardSize;
+    }
+
+    /**
+     * @param ship the index of a ship in the game mode's fleet.
+     * @return true if the ship is placed horizontally.
+     */
+    public boolean isHorizontal(int ship) {
+        return PlacementIndex.isHorizontal(slots[ship]);
+    }
+}
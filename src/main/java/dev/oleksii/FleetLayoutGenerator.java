@@ -0,0 +1,140 @@
+package dev.oleksii;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates fleet layouts for a game mode, uniformly distributed over all valid layouts.
+ * <p>
+ * Placing ships one after another at random legal positions favours some layouts over others:
+ * ships placed late are squeezed into whatever room is left. Instead, this generator draws every ship
+ * independently among all positions that fit on the empty board and rejects the whole layout if any
+ * two ships overlap, so every valid layout is equally likely. Ships are drawn longest first, which
+ * does not change the distribution but lets most rejections happen after only a few ships.
+ */
+public class FleetLayoutGenerator {
+    // Whole-fleet draws made by the rejection loop, and searches that gave up.
+    private static final Metrics.Counter DRAWS = Metrics.global().counter(
+            "battleship_layout_draws_total", "Whole-fleet draws made while generating fleet layouts.");
+    private static final Metrics.Counter FAILURES = Metrics.global().counter(
+            "battleship_layout_failures_total", "Layout searches that gave up without a valid layout.");
+
+    // Number of whole-fleet draws after which generation gives up.
+    private static final int MAX_ATTEMPTS = 1_000_000;
+
+    private final int size;
+    // Ship lengths in the order of the game mode's fleet, and the fleet indices sorted longest first.
+    private final int[] lengths;
+    private final int[] order;
+
+    /**
+     * Constructs a FleetLayoutGenerator for the given game mode.
+     *
+     * @param mode the game mode whose board size and ships the layouts are for.
+     * @throws IllegalArgumentException if a ship does not fit on the board
+     */
+    public FleetLayoutGenerator(GameMode mode) {
+        this(mode.getBoardSize(), mode.getShips());
+    }
+
+    /**
+     * Constructs a FleetLayoutGenerator for a board size and fleet.
+     *
+     * @param boardSize the size of the board.
+     * @param ships     the fleet; layouts list the ships' slots in this order.
+     * @throws IllegalArgumentException if a ship does not fit on the board
+     */
+    public FleetLayoutGenerator(int boardSize, List<Ship> ships) {
+        this.size = boardSize;
+        this.lengths = new int[ships.size()];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = ships.get(i).getSize();
+            if (lengths[i] < 1 || lengths[i] > size) {
+                throw new IllegalArgumentException("Ship " + ships.get(i).getName() + " does not fit on the board.");
+            }
+        }
+        this.order = new int[lengths.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // Sort the fleet indices by descending length (insertion sort; fleets are small).
+        for (int i = 1; i < order.length; i++) {
+            int current = order[i];
+            int j = i - 1;
+            while (j >= 0 && lengths[order[j]] < lengths[current]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+    }
+
+    /**
+     * Generates a uniformly random valid layout.
+     *
+     * @param random the random generator used for the draws.
+     * @return the layout.
+     * @throws IllegalStateException if no valid layout was found within the attempt limit
+     */
+    public FleetLayout next(RandomGenerator random) {
+        FleetLayout layout = tryNext(random, MAX_ATTEMPTS);
+        if (layout == null) {
+            throw new IllegalStateException("Could not find a valid fleet layout after " + MAX_ATTEMPTS + " attempts.");
+        }
+        return layout;
+    }
+
+    /**
+     * Generates a uniformly random valid layout, giving up after the given number of whole-fleet draws.
+     * On crowded boards valid layouts can be too rare for rejection to find one quickly.
+     *
+     * @param random      the random generator used for the draws.
+     * @param maxAttempts the maximum number of whole-fleet draws.
+     * @return the layout, or null if none was found.
+     */
+    public FleetLayout tryNext(RandomGenerator random, int maxAttempts) {
+        long[] occupancy = new long[(size * size + 63) >>> 6];
+        int[] slots = new int[lengths.length];
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            if (tryLayout(random, occupancy, slots)) {
+                DRAWS.add(attempt + 1);
+                return new FleetLayout(size, occupancy, slots);
+            }
+            Arrays.fill(occupancy, 0L);
+        }
+        DRAWS.add(maxAttempts);
+        FAILURES.increment();
+        return null;
+    }
+
+    /**
+     * Draws every ship once, filling the occupancy bits and slots.
+     *
+     * @return false as soon as a ship overlaps one drawn before it.
+     */
+    private boolean tryLayout(RandomGenerator random, long[] occupancy, int[] slots) {
+        for (int ship : order) {
+            int length = lengths[ship];
+            // Uniform over the 2 * size * (size - length + 1) positions that fit on the empty board.
+            int starts = size - length + 1;
+            int position = random.nextInt(2 * size * starts);
+            boolean horizontal = position < size * starts;
+            int line = (horizontal ? position : position - size * starts) / starts;
+            int start = (horizontal ? position : position - size * starts) % starts;
+            int row = horizontal ? line : start;
+            int col = horizontal ? start : line;
+
+            int step = horizontal ? 1 : size;
+            int first = row * size + col;
+            for (int i = 0, cell = first; i < length; i++, cell += step) {
+                if ((occupancy[cell >>> 6] & (1L << cell)) != 0) {
+                    return false;
+                }
+                occupancy[cell >>> 6] |= 1L << cell;
+            }
+            slots[ship] = first * 2 + (horizontal ? 0 : 1);
+        }
+        return true;
+    }
+}
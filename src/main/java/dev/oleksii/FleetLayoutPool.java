@@ -0,0 +1,102 @@
+package dev.oleksii;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.random.RandomGenerator;
+
+/**
+ * A bounded pool of ready-made fleet layouts for one game mode, kept full by a background virtual thread.
+ * <p>
+ * Layouts are stored in a fixed-capacity ring buffer; the background thread generates layouts with a
+ * {@link FleetLayoutGenerator} and blocks while the buffer is full. Taking a layout never waits: if the
+ * buffer happens to be empty, the layout is generated on the caller's thread instead.
+ * The pool may be shared by many players and threads. Since layouts are generated ahead of time from
+ * the pool's own random generator, games using a pool are not reproducible from their seed alone.
+ */
+public class FleetLayoutPool implements AutoCloseable {
+    // The game mode the layouts are for.
+    private final GameMode mode;
+    private final FleetLayoutGenerator generator;
+
+    // Ring buffer of ready layouts.
+    private final BlockingQueue<FleetLayout> layouts;
+
+    // Random generator for layouts generated on demand; guarded by itself.
+    private final RandomGenerator onDemandRandom;
+
+    // Background thread refilling the buffer.
+    private final Thread filler;
+
+    /**
+     * Constructs a FleetLayoutPool and starts filling it in the background.
+     *
+     * @param mode     the game mode the layouts are for.
+     * @param capacity the maximum number of ready layouts.
+     * @param random   the random generator from which the pool's generators are split.
+     * @throws IllegalArgumentException if the capacity is not positive or a ship does not fit on the board
+     */
+    public FleetLayoutPool(GameMode mode, int capacity, RandomGenerator.SplittableGenerator random) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Pool capacity must be positive.");
+        }
+        this.mode = mode;
+        this.generator = new FleetLayoutGenerator(mode);
+        this.layouts = new ArrayBlockingQueue<>(capacity);
+        this.onDemandRandom = random.split();
+        RandomGenerator fillerRandom = random.split();
+        this.filler = Thread.ofVirtual().name("fleet-layout-pool").start(() -> fill(fillerRandom));
+    }
+
+    /**
+     * Takes a layout from the pool, or generates one if the pool is empty.
+     *
+     * @return a layout no other caller has received.
+     */
+    public FleetLayout take() {
+        FleetLayout layout = layouts.poll();
+        if (layout != null) {
+            return layout;
+        }
+        synchronized (onDemandRandom) {
+            return generator.next(onDemandRandom);
+        }
+    }
+
+    /**
+     * @return the game mode the layouts are for.
+     */
+    public GameMode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return the number of layouts currently ready.
+     */
+    public int available() {
+        return layouts.size();
+    }
+
+    /**
+     * Stops the background thread. Layouts can still be taken afterwards; they are generated on demand.
+     */
+    @Override
+    public void close() {
+        filler.interrupt();
+    }
+
+    /**
+     * Keeps the buffer full until interrupted. If generation fails, the thread stops and callers
+     * get the same failure when they generate on demand.
+     */
+    private void fill(RandomGenerator random) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                layouts.put(generator.next(random));
+            }
+        } catch (InterruptedException e) {
+            // Closed; let the thread end.
+        } catch (IllegalStateException e) {
+            // No valid layout for this mode; take() will report it.
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package dev.oleksii;
+
+/**
+ * Running health of the fleet placed on a {@link Board}: how many ships are still afloat (in total and by
+ * length) and how many ship cells have not been hit yet.
+ * <p>
+ * The board updates the counters as ships are placed and as {@link Board#fireAt} lands new hits, so every
+ * query is a field read, however many ships the fleet has. Game end detection, the "ships left" messages and
+ * targeting strategies read it instead of checking every ship after each shot.
+ */
+public class FleetState {
+    // Ships placed on the board, and how many of them are not sunk yet.
+    private int ships;
+    private int afloat;
+    // Cells covered by the placed ships, and how many of them have not been hit yet.
+    private int hullCells;
+    private int remainingHull;
+    // Ships afloat by length (index = length); ships are at most 64 cells long.
+    private final int[] afloatByLength = new int[Long.SIZE + 1];
+
+    /**
+     * Counts a ship that has just been placed on the board.
+     */
+    void add(Ship ship) {
+        ships++;
+        hullCells += ship.getSize();
+        if (ship.isSunk()) {
+            return;
+        }
+        afloat++;
+        afloatByLength[ship.getSize()]++;
+        remainingHull += ship.getSize();
+    }
+
+    /**
+     * Counts a hit on a cell of a ship that was not hit before; the ship has already registered the hit.
+     */
+    void recordHit(Ship ship) {
+        remainingHull--;
+        if (ship.isSunk()) {
+            afloat--;
+            afloatByLength[ship.getSize()]--;
+        }
+    }
+
+    /**
+     * @return the number of ships placed on the board.
+     */
+    public int getShipCount() {
+        return ships;
+    }
+
+    /**
+     * @return the number of ships that are not sunk yet.
+     */
+    public int getShipsAfloat() {
+        return afloat;
+    }
+
+    /**
+     * Returns the number of ships of a given length that are not sunk yet.
+     *
+     * @param length the length of the ships.
+     * @return the number of such ships afloat; 0 for lengths no ship has.
+     */
+    public int getShipsAfloat(int length) {
+        return length >= 0 && length < afloatByLength.length ? afloatByLength[length] : 0;
+    }
+
+    /**
+     * @return the number of ships sunk.
+     */
+    public int getShipsSunk() {
+        return ships - afloat;
+    }
+
+    /**
+     * @return the number of cells covered by the placed ships.
+     */
+    public int getHullCells() {
+        return hullCells;
+    }
+
+    /**
+     * @return the number of ship cells that have not been hit yet.
+     */
+    public int getRemainingHull() {
+        return remainingHull;
+    }
+
+    /**
+     * Checks whether every ship on the board has been sunk (trivially true for a board without ships).
+     *
+     * @return true if no ship is afloat.
+     */
+    public boolean isDefeated() {
+        return afloat == 0;
+    }
+}
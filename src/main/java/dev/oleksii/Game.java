@@ -1,6 +1,5 @@
 package dev.oleksii;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.Scanner;
@@ -17,8 +16,26 @@ public class Game {
     // GameMode contains information like board size and ship configuration.
     protected GameMode mode;
 
-    // List to store all the moves made during the game.
-    protected List<Move> gameMoves;
+    // Packed log of all the moves made during the game.
+    protected MoveLog gameMoves;
+
+    // Number of events a spectator may fall behind before it is evicted.
+    private static final int SPECTATOR_CAPACITY = 1024;
+
+    // Turn durations (including human think time and pauses), shots fired and games won.
+    private static final Metrics.Histogram TURN_TIME = Metrics.global().histogram(
+            "battleship_turn_seconds", "Time taken by a player's takeTurn, including input and pauses.");
+    private static final Metrics.Counter MOVES = Metrics.global().counter(
+            "battleship_moves_total", "Shots fired in played games.");
+    private static final Metrics.Counter GAMES = Metrics.global().counter(
+            "battleship_games_total", "Played games that ended with a winner.");
+
+    // Streams the board updates to spectators; created when first asked for, never for an archived game.
+    // The move log, the feed and the game over flag are shared with spectator threads, guarded by this lock.
+    private final Object spectatorLock = new Object();
+    private final boolean live;
+    private SpectatorFeed spectators;
+    private boolean over;
 
     // Stores the eventual winner. If null, no winner has been determined yet.
     private Player winner = null;
@@ -39,60 +56,151 @@ public class Game {
         // Each player sets up their board and places their ships.
         player1.setup(mode, scanner);
         player2.setup(mode, scanner);
-        // Initialize the move history list.
-        gameMoves = new ArrayList<>();
+        // Initialize the move log.
+        gameMoves = new MoveLog(mode.getBoardSize(), player1, player2);
+        live = true;
+    }
+
+    /**
+     * Constructs a Game whose players are both shown on the given output, e.g. a discarding output
+     * for a game between computer players that nobody watches.
+     *
+     * @param mode    the game mode (defines board size and ship configuration)
+     * @param player1 the first player
+     * @param player2 the second player
+     * @param scanner a Scanner object for user input during setup
+     * @param output  the output both players are shown on
+     */
+    public Game(GameMode mode, Player player1, Player player2, Scanner scanner, GameOutput output) {
+        this(mode, withOutput(player1, output), withOutput(player2, output), scanner);
+    }
+
+    /**
+     * Constructs a finished Game from recorded data, without setting up the players.
+     * Used to replay archived games.
+     *
+     * @param mode    the game mode
+     * @param player1 the first player, with their fleet already placed
+     * @param player2 the second player, with their fleet already placed
+     * @param moves   the moves of the game
+     * @param winner  the winner, or null if the game had none
+     */
+    Game(GameMode mode, Player player1, Player player2, MoveLog moves, Player winner) {
+        this.mode = mode;
+        this.player1 = player1;
+        this.player2 = player2;
+        this.gameMoves = moves;
+        this.winner = winner;
+        this.live = false;
     }
 
     /**
      * Manages the main game loop where players take turns until one wins.
+     * The boards and messages are shown on each player's output; players sharing an output see them once.
      *
-     * @param scanner a Scanner object for reading user input during play
+     * @param scanner a Scanner object for reading user input during play, or null if the players read
+     *                their own input (then the game does not wait for Enter at the end)
+     * @throws IllegalStateException if this is an archived game, which is finished and can only be replayed
      */
     public void play(Scanner scanner) {
+        if (!live) {
+            throw new IllegalStateException("An archived game cannot be played.");
+        }
+        GameEvents.GameRun event = new GameEvents.GameRun();
+        event.begin();
+        try {
+            playTurns(scanner);
+        } finally {
+            // Tell the spectators the game is over, also if it was abandoned.
+            synchronized (spectatorLock) {
+                over = true;
+                if (spectators != null) {
+                    spectators.finish(winner != null ? winner.getName() : null);
+                }
+            }
+            if (event.shouldCommit()) {
+                event.mode = mode.getName();
+                event.boardSize = mode.getBoardSize();
+                event.player1Type = GameEvents.playerType(player1);
+                event.player2Type = GameEvents.playerType(player2);
+                event.moves = gameMoves.size();
+                event.winner = winner != null ? winner.getName() : "";
+                event.winnerType = winner != null ? GameEvents.playerType(winner) : "";
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Runs the turns of {@link #play} until a player wins.
+     */
+    private void playTurns(Scanner scanner) {
         // Randomly choose which player goes first.
         boolean player1Turn = new Random().nextBoolean();
 
+        // One renderer per distinct output, each drawing only the cells changed by the last shot.
+        List<GameOutput> outputs = player1.getOutput() == player2.getOutput()
+                ? List.of(player1.getOutput())
+                : List.of(player1.getOutput(), player2.getOutput());
+        List<BoardRenderer> renderers = outputs.stream().map(BoardRenderer::new).toList();
+
         // Game loop continues until a win condition is met.
         while (true) {
-            // Clear the screen for a fresh display.
-            MainMenu.clearScreen();
-
             // Determine current player and opponent based on turn.
             Player current = player1Turn ? player1 : player2;
             Player opponent = player1Turn ? player2 : player1;
 
-            // Display both players' boards side by side.
-            Board.displayBoards(player1.getBoard(), player1.getName(),
-                    player2.getBoard(), player2.getName());
-            // Show whose turn it is.
-            MessageFormatter.printBoxedMessage(current.getName() + "'s turn to shoot!");
+            // Display both players' boards side by side and show whose turn it is.
+            renderBoards(renderers);
+            announce(outputs, current.getName() + "'s turn to shoot!");
 
             // Current player takes a shot against the opponent.
+            GameEvents.Turn turn = new GameEvents.Turn();
+            turn.begin();
+            long turnStart = Metrics.start();
             Move move = current.takeTurn(scanner, opponent);
-            // Record the move in the current player's history.
-            current.addMove(move);
-            // Also record the move in the overall game move history.
-            gameMoves.add(move);
+            TURN_TIME.recordSince(turnStart);
+            if (current instanceof HumanPlayer human && human.getRejectedGuesses() > 0) {
+                // The error messages may have scrolled the boards on the player's screen.
+                renderers.get(outputs.indexOf(current.getOutput())).invalidate();
+            }
+            if (turn.shouldCommit()) {
+                turn.boardSize = mode.getBoardSize();
+                turn.playerType = GameEvents.playerType(current);
+                turn.target = move.getCoordinate().label();
+                turn.result = move.getResult();
+                turn.commit();
+            }
+            MOVES.increment();
+            // Record the move in the game's move log and send it to the spectators.
+            record(move, opponent);
+            // Send the turn's output, e.g. in one write per remote player.
+            outputs.forEach(GameOutput::flush);
 
             // Check if the opponent has lost (i.e., all ships sunk).
             if (checkWin(opponent)) {
                 // Current player wins.
                 this.winner = current;  // Store the winner.
+                GAMES.increment();
 
                 // Reveal any un-hit ship parts on both boards.
                 player1.getBoard().revealShips();
                 player2.getBoard().revealShips();
 
                 // Refresh the screen and display the final state.
-                MainMenu.clearScreen();
-                Board.displayBoards(player1.getBoard(), player1.getName(),
-                        player2.getBoard(), player2.getName());
+                renderBoards(renderers);
 
                 // Congratulate the winner.
-                MessageFormatter.printBoxedMessage(
-                        "Congratulations " + current.getName() + ", you won!"
-                );
-                System.out.println("Press Enter to continue...");
+                announce(outputs, "Congratulations " + current.getName() + ", you won!");
+                if (scanner == null) {
+                    // Nobody at a shared terminal (e.g. a game hosted by GameServer): no need to wait.
+                    outputs.forEach(GameOutput::flush);
+                    return;
+                }
+                for (GameOutput output : outputs) {
+                    output.println("Press Enter to continue...");
+                    output.flush();
+                }
                 scanner.nextLine();  // Wait for the player to press Enter.
                 return;  // End the game loop.
             }
@@ -107,124 +215,218 @@ public class Game {
         }
     }
 
+    /**
+     * Draws both players' boards with each renderer.
+     */
+    private void renderBoards(List<BoardRenderer> renderers) {
+        for (BoardRenderer renderer : renderers) {
+            renderer.render(player1.getBoard(), player1.getName(), player2.getBoard(), player2.getName());
+        }
+    }
+
+    /**
+     * Prints a boxed message on each output.
+     */
+    private static void announce(List<GameOutput> outputs, String message) {
+        for (GameOutput output : outputs) {
+            MessageFormatter.printBoxedMessage(output, message);
+        }
+    }
+
+    /**
+     * Appends a move to the move log and sends its result to the spectators, if anyone subscribed.
+     */
+    private void record(Move move, Player opponent) {
+        synchronized (spectatorLock) {
+            gameMoves.add(move);
+            if (spectators != null) {
+                int row = move.getCoordinate().row();
+                int col = move.getCoordinate().col();
+                Ship sunk = move.getResult() == 'X' ? opponent.getBoard().getShipAt(row, col) : null;
+                spectators.publishShot(opponent == player1 ? 1 : 2, row, col, move.getResult(), sunk);
+            }
+        }
+    }
+
+    /**
+     * Creates the spectator feed from the moves logged so far. The boards are not read, since the game thread
+     * may be firing at them; the ships are, but their positions never change during play.
+     */
+    private SpectatorFeed createSpectatorFeed() {
+        int size = mode.getBoardSize();
+        SpectatorFeed feed = new SpectatorFeed(player1.getName(), player2.getName(), size, SPECTATOR_CAPACITY);
+        for (int i = 0; i < gameMoves.size(); i++) {
+            int entry = gameMoves.entry(i);
+            Player opponent = MoveLog.isPlayer2(entry) ? player1 : player2;
+            char result = MoveLog.result(entry);
+            int cell = MoveLog.cell(entry);
+            Ship sunk = result == 'X' ? opponent.getShips().get(MoveLog.shipId(entry)) : null;
+            feed.publishShot(opponent == player1 ? 1 : 2, cell / size, cell % size, result, sunk);
+        }
+        if (over) {
+            feed.finish(winner != null ? winner.getName() : null);
+        }
+        return feed;
+    }
+
+    /**
+     * Sets a player's output and returns the player, for use in constructor chaining.
+     */
+    private static Player withOutput(Player player, GameOutput output) {
+        player.setOutput(output);
+        return player;
+    }
+
     /**
      * Checks if all ships of the opponent have been sunk.
+     * The opponent's board counts the ships afloat as hits land, so this does not depend on the fleet size.
      *
      * @param opponent the player whose ships are being checked
      * @return true if all ships are sunk, false otherwise
      */
     protected boolean checkWin(Player opponent) {
-        for (Ship ship : opponent.getShips()) {
-            // If any ship is not sunk, the game is still ongoing.
-            if (!ship.isSunk()) {
-                return false;
-            }
-        }
-        return true;
+        return opponent.getFleetState().isDefeated();
     }
 
     /**
-     * Applies a move to a given board by updating the cell.
-     * If the move resulted in a sunk ship, all coordinates of that ship are marked.
+     * Replays the game move-by-move.
+     * Displays the boards after each move and lets the user step forwards or backwards, or jump to any move.
      *
-     * @param board the board to update
-     * @param move  the move to apply
-     */
-    private void applyMoveToBoard(Board board, Move move) {
-        if (move.isSunk()) {
-            // For a sunk ship, mark all the ship's coordinates with 'X'.
-            for (Coordinate c : move.getSunkShipCoords()) {
-                board.updateCell(c.row(), c.col(), 'X');
-            }
-        } else {
-            // Otherwise, update the single coordinate with the move's result.
-            Coordinate c = move.getCoordinate();
-            board.updateCell(c.row(), c.col(), move.getResult());
-        }
+     * @param scanner a Scanner object for reading the user's replay commands
+     */
+    public void replayGame(Scanner scanner) {
+        replayGame(scanner, GameOutput.console());
     }
 
     /**
-     * Replays the game move-by-move.
-     * Displays the board after each move and allows the user to step through the moves.
+     * Replays the game move-by-move on the given output.
+     * Displays the boards after each move and lets the user step forwards or backwards, or jump to any move.
+     *
+     * @param scanner a Scanner object for reading the user's replay commands
+     * @param out     the output the replay is shown on
      */
-    public void replayGame() {
-        // Create fresh boards for the replay (to avoid altering the original boards).
-        Board replayBoard1 = new Board(mode.getBoardSize());
-        Board replayBoard2 = new Board(mode.getBoardSize());
-
-        Scanner replayScanner = new Scanner(System.in);
-
-        // Iterate over each move in the game.
-        for (Move move : gameMoves) {
-            // 1) Retrieve the player's name and convert the move's coordinate to a string.
-            String playerName = move.getPlayer().getName();
-            String stringCoordinate = coordinateToString(move.getCoordinate());
+    public void replayGame(Scanner scanner, GameOutput out) {
+        // Replay on fresh boards (to avoid altering the original boards), with checkpoints for seeking.
+        ReplaySession session = new ReplaySession(this);
 
-            // 2) Apply the move to the OPPOSITE board:
-            // If player1 made the move, apply it to player2's replay board, and vice versa.
-            if (move.getPlayer() == player1) {
-                applyMoveToBoard(replayBoard2, move);
+        while (true) {
+            GameEvents.ReplayFrame frame = new GameEvents.ReplayFrame();
+            frame.begin();
+            Move move = session.lastMove();
+            if (move != null) {
+                // Display a message indicating the move.
+                MessageFormatter.printBoxedMessage(out, "Move " + session.position() + " of " + session.size() + ": "
+                        + move.getPlayer().getName() + " guessed " + move.getCoordinate().label());
             } else {
-                applyMoveToBoard(replayBoard1, move);
+                MessageFormatter.printBoxedMessage(out, "Start of game (" + session.size() + " moves)");
             }
 
-            // Display a message indicating the move.
-            MessageFormatter.printBoxedMessage(playerName + " guessed " + stringCoordinate);
-
             // Display the current state of both boards.
-            Board.displayBoards(replayBoard1, player1.getName(),
-                    replayBoard2, player2.getName());
+            Board.displayBoards(out, session.getBoard1(), player1.getName(),
+                    session.getBoard2(), player2.getName());
 
             // If the move resulted in a sunk ship, display that information.
-            if (move.isSunk()) {
-                MessageFormatter.printBoxedMessage(move.getSunkShipName() + " sunk!");
+            if (move != null && move.isSunk()) {
+                MessageFormatter.printBoxedMessage(out, move.getSunkShipName() + " sunk!");
+            }
+
+            if (session.position() == session.size()) {
+                // Announce the winner if one exists.
+                if (winner != null) {
+                    MessageFormatter.printBoxedMessage(out, "Winner was " + winner.getName() + "!");
+                } else {
+                    MessageFormatter.printBoxedMessage(out, "No winner information available!");
+                }
+            }
+            if (frame.shouldCommit()) {
+                frame.boardSize = mode.getBoardSize();
+                frame.position = session.position();
+                frame.moves = session.size();
+                frame.commit();
             }
 
-            // Prompt the user to press Enter to proceed to the next move,
-            // or input 'B' to go back to the replay menu.
-            System.out.print("(Enter = next move, B = back to replay menu): ");
-            String userInput = replayScanner.nextLine().trim().toUpperCase();
+            // Enter steps forward, P steps back, G <n> jumps to move n, B goes back to the replay menu.
+            out.print("(Enter = next move, P = previous, G <n> = go to move n, B = back to replay menu): ");
+            out.flush();
+            if (!scanner.hasNextLine()) {
+                return;
+            }
+            String userInput = scanner.nextLine().trim().toUpperCase();
 
             if (userInput.equals("B")) {
                 // Exit the replay loop and return to the replay menu.
-                MessageFormatter.printBoxedMessage("Returning to Replay Menu...");
+                MessageFormatter.printBoxedMessage(out, "Returning to Replay Menu...");
+                out.flush();
                 return;
+            } else if (userInput.equals("P")) {
+                session.previous();
+            } else if (userInput.startsWith("G")) {
+                try {
+                    int target = Integer.parseInt(userInput.substring(1).trim());
+                    session.seek(Math.clamp(target, 0, session.size()));
+                } catch (NumberFormatException e) {
+                    MessageFormatter.printBoxedMessage(out, "Enter a move number after G, e.g. G 42.");
+                }
+            } else if (userInput.isEmpty()) {
+                if (!session.next()) {
+                    MessageFormatter.printBoxedMessage(out, "That was the last move.");
+                }
+            } else {
+                MessageFormatter.printBoxedMessage(out, "Unknown command.");
             }
         }
+    }
 
-        // After all moves, reveal any ships that remain hidden.
-        replayBoard1.revealShips();
-        replayBoard2.revealShips();
+    /**
+     * Returns the feed spectators subscribe to for this game's board updates.
+     * The feed is created on the first call, so games nobody watches never pay for it.
+     *
+     * @return the feed, or null for an archived game.
+     */
+    public SpectatorFeed getSpectators() {
+        if (!live) {
+            return null;
+        }
+        synchronized (spectatorLock) {
+            if (spectators == null) {
+                spectators = createSpectatorFeed();
+            }
+            return spectators;
+        }
+    }
 
-        // Display the final boards with all ships revealed.
-        MessageFormatter.printBoxedMessage("Final Boards with all ships revealed:");
-        Board.displayBoards(replayBoard1, player1.getName(),
-                replayBoard2, player2.getName());
+    /**
+     * @return the game mode.
+     */
+    public GameMode getMode() {
+        return mode;
+    }
 
-        // Announce the winner if one exists.
-        if (winner != null) {
-            MessageFormatter.printBoxedMessage("Winner was " + winner.getName() + "!");
-        } else {
-            MessageFormatter.printBoxedMessage("No winner information available!");
-        }
+    /**
+     * @return the first player.
+     */
+    public Player getPlayer1() {
+        return player1;
+    }
+
+    /**
+     * @return the second player.
+     */
+    public Player getPlayer2() {
+        return player2;
+    }
 
-        // Close the scanner used for replay.
-        replayScanner.close();
+    /**
+     * @return the log of the moves made so far.
+     */
+    public MoveLog getMoveLog() {
+        return gameMoves;
     }
 
     /**
-     * Converts a Coordinate object to a user-friendly string.
-     * For example, a coordinate (0, 4) becomes "A5".
-     *
-     * @param coordinate the coordinate to convert
-     * @return the string representation of the coordinate
-     */
-    private static String coordinateToString(Coordinate coordinate) {
-        // Convert the row number to a corresponding uppercase letter.
-        char letter = (char) ('A' + coordinate.row());
-        // Convert the column index to a 1-based number.
-        int number = coordinate.col() + 1;
-        // Concatenate letter and number to form the coordinate string.
-        return letter + String.valueOf(number);
+     * @return the winner, or null if no winner has been determined yet.
+     */
+    public Player getWinner() {
+        return winner;
     }
 }
\ No newline at end of file
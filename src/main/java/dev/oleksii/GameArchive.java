@@ -0,0 +1,456 @@
+package dev.oleksii;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only file of finished games, so past games survive restarts and do not stay on the heap.
+ * <p>
+ * The file starts with a magic number and then holds one record per game:
+ * <pre>
+ * int    length of the rest of the record, in bytes
+ * long   time the game finished (epoch milliseconds)
+ * str    mode name
+ * short  board size
+ * str    player 1 name
+ * str    player 2 name
+ * byte   winner (0 none, 1 player 1, 2 player 2)
+ * short  number of ships, then per ship: str name, byte size, int player 1 slot, int player 2 slot
+ * int    number of moves, then the packed {@link MoveLog} entries
+ * </pre>
+ * Strings ({@code str}) are a short byte length followed by UTF-8 bytes. Each record is assembled in a buffer
+ * and written through a {@link FileChannel} with a single append.
+ * <p>
+ * Next to the archive, an index file ({@code <archive>.idx}) holds one fixed-width entry per game,
+ * so the entry of game number {@code id} starts at byte {@code id * 32}:
+ * <pre>
+ * long   offset of the record in the archive
+ * int    record length (as stored in the record)
+ * long   time the game finished (epoch milliseconds)
+ * int    number of moves
+ * short  board size
+ * byte   winner
+ * byte[5] reserved
+ * </pre>
+ * The index is appended after each record and rebuilt from the archive whenever it is missing or does not
+ * end where the archive ends. Games are read back through an {@link ArchiveReader}, which maps both files.
+ */
+public class GameArchive {
+    // Identifies archive files ("BSA1").
+    static final int MAGIC = 0x42534131;
+
+    // Size of one index entry, in bytes.
+    static final int INDEX_ENTRY_BYTES = 32;
+
+    // Shortest possible record after its length field: empty names, no ships and no moves.
+    private static final int MIN_RECORD_BYTES = 8 + 2 + 2 + 2 + 2 + 1 + 2 + 4;
+
+    // Longest stored string, in bytes; longer names are truncated.
+    private static final int MAX_STRING_BYTES = 255;
+
+    // The archive file and its index.
+    private final Path path;
+    private final Path indexPath;
+
+    /**
+     * Summary of an archived game, from its index entry and record header.
+     *
+     * @param id         the game's number in the archive, starting at 0.
+     * @param offset     position of the record in the archive file.
+     * @param length     length of the record after its length field.
+     * @param finishedAt when the game finished.
+     * @param modeName   the game mode's name.
+     * @param boardSize  the board size.
+     * @param player1    the first player's name.
+     * @param player2    the second player's name.
+     * @param winner     0 if the game had no winner, otherwise 1 or 2.
+     * @param moveCount  the number of moves.
+     */
+    public record Entry(int id, long offset, int length, Instant finishedAt, String modeName, int boardSize,
+                        String player1, String player2, int winner, int moveCount) {
+    }
+
+    /**
+     * Fields at the start of a record, after its length.
+     */
+    record RecordHeader(long finishedAt, String modeName, int boardSize, String player1, String player2,
+                        int winner) {
+    }
+
+    /**
+     * Constructs a GameArchive backed by the given file. The file and its index are created on the first append.
+     *
+     * @param path the archive file.
+     */
+    public GameArchive(Path path) {
+        this.path = path;
+        this.indexPath = path.resolveSibling(path.getFileName() + ".idx");
+    }
+
+    /**
+     * Returns the archive file configured by the {@code battleship.archive} system property,
+     * or {@code .battleship/games.bin} in the user's home directory.
+     *
+     * @return the default archive path.
+     */
+    public static Path defaultPath() {
+        String configured = System.getProperty("battleship.archive");
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        return Path.of(System.getProperty("user.home"), ".battleship", "games.bin");
+    }
+
+    /**
+     * @return the archive file.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return the index file.
+     */
+    public Path getIndexPath() {
+        return indexPath;
+    }
+
+    /**
+     * Appends a finished game to the archive and its index.
+     *
+     * @param game the game to archive.
+     * @return the entry describing the archived game.
+     * @throws IOException if the archive cannot be written
+     */
+    public synchronized Entry append(Game game) throws IOException {
+        GameMode mode = game.getMode();
+        Player player1 = game.getPlayer1();
+        Player player2 = game.getPlayer2();
+        MoveLog moves = game.getMoveLog();
+        List<Ship> ships1 = player1.getShips();
+        List<Ship> ships2 = player2.getShips();
+        int winner = game.getWinner() == player1 ? 1 : game.getWinner() == player2 ? 2 : 0;
+        long finishedAt = System.currentTimeMillis();
+
+        byte[] modeName = encode(mode.getName());
+        byte[] name1 = encode(player1.getName());
+        byte[] name2 = encode(player2.getName());
+        byte[][] shipNames = new byte[ships1.size()][];
+        int shipBytes = 0;
+        for (int i = 0; i < shipNames.length; i++) {
+            shipNames[i] = encode(ships1.get(i).getName());
+            shipBytes += 2 + shipNames[i].length + 1 + 4 + 4;
+        }
+        int length = 8 + (2 + modeName.length) + 2 + (2 + name1.length) + (2 + name2.length) + 1
+                + 2 + shipBytes + 4 + 4 * moves.size();
+
+        ByteBuffer buffer = ByteBuffer.allocate(4 + length);
+        buffer.putInt(length);
+        buffer.putLong(finishedAt);
+        putString(buffer, modeName);
+        buffer.putShort((short) mode.getBoardSize());
+        putString(buffer, name1);
+        putString(buffer, name2);
+        buffer.put((byte) winner);
+        buffer.putShort((short) shipNames.length);
+        for (int i = 0; i < shipNames.length; i++) {
+            putString(buffer, shipNames[i]);
+            buffer.put((byte) ships1.get(i).getSize());
+            buffer.putInt(slot(ships1.get(i), mode.getBoardSize()));
+            buffer.putInt(slot(ships2.get(i), mode.getBoardSize()));
+        }
+        buffer.putInt(moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            buffer.putInt(moves.entry(i));
+        }
+        buffer.flip();
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        // Bring the index up to date first, so the new entry lands at the right position.
+        ensureIndex();
+        long offset;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            if (channel.size() == 0) {
+                writeFully(channel, ByteBuffer.allocate(4).putInt(0, MAGIC));
+            }
+            offset = channel.size();
+            writeFully(channel, buffer);
+        }
+        int id;
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            id = (int) (channel.size() / INDEX_ENTRY_BYTES);
+            writeFully(channel, indexEntry(offset, length, finishedAt, moves.size(), mode.getBoardSize(), winner));
+        }
+        return new Entry(id, offset, length, Instant.ofEpochMilli(finishedAt), mode.getName(),
+                mode.getBoardSize(), player1.getName(), player2.getName(), winner, moves.size());
+    }
+
+    /**
+     * Opens a reader over the games archived so far, rebuilding the index first if it is out of date.
+     *
+     * @return the reader.
+     * @throws IOException if the archive cannot be read or is not a game archive
+     */
+    public synchronized ArchiveReader openReader() throws IOException {
+        ensureIndex();
+        return new ArchiveReader(path, indexPath);
+    }
+
+    /**
+     * Rebuilds the index from the archive unless it already ends where the archive ends.
+     */
+    private void ensureIndex() throws IOException {
+        if (!Files.exists(path)) {
+            Files.deleteIfExists(indexPath);
+            return;
+        }
+        long archiveSize = Files.size(path);
+        if (Files.exists(indexPath)) {
+            long indexSize = Files.size(indexPath);
+            if (indexSize == 0 && (archiveSize == 0 || archiveSize == 4)) {
+                return;
+            }
+            if (indexSize > 0 && indexSize % INDEX_ENTRY_BYTES == 0) {
+                ByteBuffer last = ByteBuffer.allocate(INDEX_ENTRY_BYTES);
+                try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+                    readFully(channel, last, indexSize - INDEX_ENTRY_BYTES);
+                }
+                if (last.getLong(0) + 4 + last.getInt(8) == archiveSize) {
+                    return;
+                }
+            }
+        }
+        rebuildIndex(archiveSize);
+    }
+
+    /**
+     * Scans every record of the archive and writes a fresh index, replacing the old one in a single move.
+     * <p>
+     * If the process died in the middle of an append, the archive ends in a partial record. The scan stops at
+     * the last complete record and the archive is truncated there, so the torn game is lost but every earlier
+     * game stays readable and later games are appended after it.
+     */
+    private void rebuildIndex(long archiveSize) throws IOException {
+        Path temporary = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        try (FileChannel archive = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel index = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (archiveSize < 4) {
+                // Not even the magic number was written completely.
+                archive.truncate(0);
+            } else {
+                checkMagic(archive);
+            }
+            ByteBuffer lengthBuffer = ByteBuffer.allocate(4);
+            long offset = 4;
+            while (offset + 4 <= archiveSize) {
+                lengthBuffer.clear();
+                readFully(archive, lengthBuffer, offset);
+                int length = lengthBuffer.getInt(0);
+                if (length < MIN_RECORD_BYTES || length > archiveSize - offset - 4) {
+                    break;
+                }
+                ByteBuffer record = ByteBuffer.allocate(length);
+                readFully(archive, record, offset + 4);
+                record.flip();
+                ByteBuffer entry = indexEntry(offset, record);
+                if (entry == null) {
+                    break;
+                }
+                writeFully(index, entry);
+                offset += 4 + length;
+            }
+            if (archiveSize >= 4 && offset < archiveSize) {
+                archive.truncate(offset);
+            }
+        }
+        Files.move(temporary, indexPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Encodes the index entry of a record read in full, positioned just after its length.
+     *
+     * @return the entry, or null if the record's contents do not add up to its length.
+     */
+    private static ByteBuffer indexEntry(long offset, ByteBuffer record) {
+        int length = record.remaining();
+        try {
+            RecordHeader header = readHeader(record);
+            skipShips(record);
+            int moveCount = record.getInt();
+            if (moveCount < 0 || record.remaining() != 4L * moveCount) {
+                return null;
+            }
+            return indexEntry(offset, length, header.finishedAt(), moveCount, header.boardSize(), header.winner());
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the header fields of a record positioned just after its length.
+     */
+    static RecordHeader readHeader(ByteBuffer record) {
+        long finishedAt = record.getLong();
+        String modeName = getString(record);
+        int boardSize = record.getShort();
+        String player1 = getString(record);
+        String player2 = getString(record);
+        int winner = record.get();
+        return new RecordHeader(finishedAt, modeName, boardSize, player1, player2, winner);
+    }
+
+    /**
+     * Reads a whole record, positioned just after its length, back into a game ready to be replayed.
+     */
+    static Game readGame(ByteBuffer record) {
+        RecordHeader header = readHeader(record);
+        int boardSize = header.boardSize();
+
+        int shipCount = record.getShort();
+        List<Ship> prototypes = new ArrayList<>(shipCount);
+        List<Ship> ships1 = new ArrayList<>(shipCount);
+        List<Ship> ships2 = new ArrayList<>(shipCount);
+        int[] slots1 = new int[shipCount];
+        int[] slots2 = new int[shipCount];
+        for (int i = 0; i < shipCount; i++) {
+            String shipName = getString(record);
+            int shipSize = record.get();
+            prototypes.add(new Ship(shipName, shipSize));
+            ships1.add(new Ship(shipName, shipSize));
+            ships2.add(new Ship(shipName, shipSize));
+            slots1[i] = record.getInt();
+            slots2[i] = record.getInt();
+        }
+
+        GameMode mode = new GameMode() { };
+        mode.setName(header.modeName());
+        mode.setBoardSize(boardSize);
+        mode.setShips(prototypes);
+        Player player1 = new ArchivedPlayer(header.player1(), boardSize, ships1, slots1);
+        Player player2 = new ArchivedPlayer(header.player2(), boardSize, ships2, slots2);
+
+        MoveLog moves = new MoveLog(boardSize, player1, player2);
+        int moveCount = record.getInt();
+        for (int i = 0; i < moveCount; i++) {
+            int packed = record.getInt();
+            moves.add(MoveLog.isPlayer2(packed), MoveLog.cell(packed), MoveLog.result(packed),
+                    MoveLog.shipId(packed));
+        }
+        int winner = header.winner();
+        return new Game(mode, player1, player2, moves, winner == 1 ? player1 : winner == 2 ? player2 : null);
+    }
+
+    /**
+     * Skips the ship table of a record positioned just after its header.
+     */
+    private static void skipShips(ByteBuffer record) {
+        int shipCount = record.getShort();
+        for (int i = 0; i < shipCount; i++) {
+            int nameLength = record.getShort();
+            record.position(record.position() + nameLength + 1 + 4 + 4);
+        }
+    }
+
+    /**
+     * Encodes one index entry.
+     */
+    private static ByteBuffer indexEntry(long offset, int length, long finishedAt, int moveCount,
+                                         int boardSize, int winner) {
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_BYTES);
+        entry.putLong(offset);
+        entry.putInt(length);
+        entry.putLong(finishedAt);
+        entry.putInt(moveCount);
+        entry.putShort((short) boardSize);
+        entry.put((byte) winner);
+        entry.position(INDEX_ENTRY_BYTES); // Reserved bytes stay zero
+        return entry.flip();
+    }
+
+    /**
+     * Returns a ship's placement slot (see {@link PlacementIndex}), or -1 if it was never placed.
+     */
+    private static int slot(Ship ship, int boardSize) {
+        if (!ship.isPlaced()) {
+            return -1;
+        }
+        return (ship.getRow() * boardSize + ship.getCol()) * 2 + (ship.isHorizontal() ? 0 : 1);
+    }
+
+    /**
+     * Fails unless the file starts with the archive magic number.
+     */
+    private static void checkMagic(FileChannel channel) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(4);
+        readFully(channel, magic, 0);
+        if (magic.getInt(0) != MAGIC) {
+            throw new IOException("Not a game archive.");
+        }
+    }
+
+    /**
+     * Fills the buffer (up to its limit) from the given file position.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Game archive is truncated.");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Writes the whole buffer to the channel.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Encodes a string as UTF-8, truncated to the longest stored length.
+     */
+    private static byte[] encode(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_STRING_BYTES) {
+            return bytes;
+        }
+        // Cut on a character boundary: drop trailing UTF-8 continuation bytes.
+        int end = MAX_STRING_BYTES;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,109 @@
+package dev.oleksii;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * GameEngine runs a complete game between two computer players without any console I/O,
+ * pauses or user input. It follows the same rules as {@link Game#play}: a random player
+ * starts and a player keeps shooting for as long as they hit.
+ * This makes it suitable for simulations that play a large number of games.
+ */
+public class GameEngine {
+    // Games finished and moves made, by all engines.
+    private static final Metrics.Counter GAMES = Metrics.global().counter(
+            "battleship_engine_games_total", "Headless games played by GameEngine.");
+    private static final Metrics.Counter MOVES = Metrics.global().counter(
+            "battleship_engine_moves_total", "Shots fired in headless games played by GameEngine.");
+
+    // The game mode (board size and fleet) used for every game run by this engine.
+    private final GameMode mode;
+
+    // Random generator used for choosing which player goes first.
+    private final RandomGenerator random;
+
+    /**
+     * Constructs a GameEngine for the given mode.
+     *
+     * @param mode   the game mode that defines board size and ship configuration.
+     * @param random the random generator used to decide who goes first.
+     */
+    public GameEngine(GameMode mode, RandomGenerator random) {
+        this.mode = mode;
+        this.random = random;
+    }
+
+    /**
+     * Sets up both players and plays the game to completion.
+     *
+     * @param player1 the first player.
+     * @param player2 the second player.
+     * @return the result of the game.
+     */
+    public GameResult run(ComputerPlayer player1, ComputerPlayer player2) {
+        GameEvents.GameRun event = new GameEvents.GameRun();
+        event.begin();
+        // Each player sets up their board and places their ships (no scanner is needed).
+        player1.setup(mode, null);
+        player2.setup(mode, null);
+
+        int cells = mode.getBoardSize() * mode.getBoardSize();
+        // Each player can fire at most once per cell, which bounds the length of the game.
+        char[] outcomes = new char[2 * cells];
+        int moveCount = 0;
+        // Shots fired and ships sunk so far by player 1 and player 2 respectively.
+        int shotsByPlayer1 = 0;
+        int shotsByPlayer2 = 0;
+        int sunkByPlayer1 = 0;
+        int sunkByPlayer2 = 0;
+
+        boolean player1Turn = random.nextBoolean();
+        while (true) {
+            ComputerPlayer current = player1Turn ? player1 : player2;
+            Player opponent = player1Turn ? player2 : player1;
+
+            // Stop once the current player has no cells left to fire at (e.g. a ship could not be placed).
+            int shots = player1Turn ? shotsByPlayer1++ : shotsByPlayer2++;
+            if (shots == cells) {
+                finish(event, player1, player2, moveCount, null);
+                return new GameResult(null, moveCount, 0, Arrays.copyOf(outcomes, moveCount));
+            }
+
+            Coordinate target = current.chooseTarget(opponent);
+            char result = opponent.getBoard().fireAt(target.row(), target.col());
+            current.recordShot(opponent, target, result);
+            outcomes[moveCount++] = result;
+
+            if (result == 'X') {
+                // Count the sink and check whether the opponent's whole fleet is gone.
+                int sunk = player1Turn ? ++sunkByPlayer1 : ++sunkByPlayer2;
+                if (sunk == opponent.getShips().size()) {
+                    int winnerShots = player1Turn ? shotsByPlayer1 : shotsByPlayer2;
+                    finish(event, player1, player2, moveCount, current);
+                    return new GameResult(current, moveCount, winnerShots, Arrays.copyOf(outcomes, moveCount));
+                }
+            } else if (result == '*') {
+                // A miss passes the turn to the other player.
+                player1Turn = !player1Turn;
+            }
+        }
+    }
+
+    /**
+     * Records a finished game in the metrics and the flight recorder.
+     */
+    private void finish(GameEvents.GameRun event, Player player1, Player player2, int moveCount, Player winner) {
+        GAMES.increment();
+        MOVES.add(moveCount);
+        if (event.shouldCommit()) {
+            event.mode = mode.getName();
+            event.boardSize = mode.getBoardSize();
+            event.player1Type = GameEvents.playerType(player1);
+            event.player2Type = GameEvents.playerType(player2);
+            event.moves = moveCount;
+            event.winner = winner != null ? winner.getName() : "";
+            event.winnerType = winner != null ? GameEvents.playerType(winner) : "";
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package dev.oleksii;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events emitted by the game, so a recording can relate slow games, turns or shots to
+ * garbage collections, lock contention and the other events the JVM records.
+ * <p>
+ * Every event is a duration event: it is begun before the work and committed after it, with its fields
+ * filled in only if the recording wants it ({@link Event#shouldCommit()}). While no recording is running
+ * (or the event is disabled) an event costs a check of a final flag, and the JIT usually removes the
+ * allocation as well. The per-shot events ({@link Shot} and {@link Search}) are disabled by default and
+ * can be enabled in a recording's settings, e.g.
+ * {@code -XX:StartFlightRecording:+dev.oleksii.Shot#enabled=true}; the others are enabled and have no stack trace.
+ */
+public final class GameEvents {
+    // Category shown for the events in JDK Mission Control.
+    private static final String CATEGORY = "Battleship";
+
+    private GameEvents() {
+    }
+
+    /**
+     * Returns the name shown for a kind of player, e.g. {@code ComputerPlayer}.
+     */
+    static String playerType(Player player) {
+        return player.getClass().getSimpleName();
+    }
+
+    /**
+     * A game played from setup to its end, by {@link Game#play} or {@link GameEngine#run}.
+     */
+    @Name("dev.oleksii.Game")
+    @Label("Game")
+    @Category(CATEGORY)
+    @Description("A game played to its end.")
+    @StackTrace(false)
+    public static final class GameRun extends Event {
+        @Label("Mode")
+        public String mode;
+
+        @Label("Board Size")
+        public int boardSize;
+
+        @Label("Player 1 Type")
+        public String player1Type;
+
+        @Label("Player 2 Type")
+        public String player2Type;
+
+        @Label("Moves")
+        public int moves;
+
+        @Label("Winner")
+        @Description("Name of the winner; empty if the game ended without one.")
+        public String winner;
+
+        @Label("Winner Type")
+        public String winnerType;
+    }
+
+    /**
+     * A player's {@link Player#setup}: creating the board and placing the fleet.
+     */
+    @Name("dev.oleksii.Setup")
+    @Label("Player Setup")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class Setup extends Event {
+        @Label("Mode")
+        public String mode;
+
+        @Label("Board Size")
+        public int boardSize;
+
+        @Label("Player Type")
+        public String playerType;
+
+        @Label("Ships")
+        public int ships;
+    }
+
+    /**
+     * A player's turn in {@link Game#play}, including any input, output and pauses.
+     */
+    @Name("dev.oleksii.Turn")
+    @Label("Turn")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class Turn extends Event {
+        @Label("Board Size")
+        public int boardSize;
+
+        @Label("Player Type")
+        public String playerType;
+
+        @Label("Target")
+        public String target;
+
+        @Label("Result")
+        @Description("'*' for a miss, 'x' for a hit, 'X' for a sinking shot.")
+        public char result;
+    }
+
+    /**
+     * A computer player's choice of target ({@link ComputerPlayer#chooseTarget}), without the pauses of its turn.
+     */
+    @Name("dev.oleksii.Decision")
+    @Label("Computer Decision")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class Decision extends Event {
+        @Label("Board Size")
+        public int boardSize;
+
+        @Label("Strategy")
+        public String strategy;
+
+        @Label("Row")
+        public int row;
+
+        @Label("Column")
+        public int col;
+    }
+
+    /**
+     * One Monte Carlo search for a target ({@link MonteCarloTargeting#nextTarget}).
+     */
+    @Name("dev.oleksii.Search")
+    @Label("Monte Carlo Search")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    @Enabled(false)
+    public static final class Search extends Event {
+        @Label("Board Size")
+        public int boardSize;
+
+        @Label("Tasks")
+        public int tasks;
+
+        @Label("Samples Drawn")
+        public int samplesDrawn;
+
+        @Label("Samples Accepted")
+        @Description("Sampled layouts consistent with the shots seen so far.")
+        public int samplesAccepted;
+
+        @Label("Fallback")
+        @Description("Whether no consistent layout was found and the density strategy chose the target.")
+        public boolean fallback;
+    }
+
+    /**
+     * A shot resolved by {@link Board#fireAt}.
+     */
+    @Name("dev.oleksii.Shot")
+    @Label("Shot")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    @Enabled(false)
+    public static final class Shot extends Event {
+        @Label("Board Size")
+        public int boardSize;
+
+        @Label("Row")
+        public int row;
+
+        @Label("Column")
+        public int col;
+
+        @Label("Result")
+        public char result;
+    }
+
+    /**
+     * One frame of {@link Game#replayGame}: drawing the move and both boards at a position.
+     */
+    @Name("dev.oleksii.ReplayFrame")
+    @Label("Replay Frame")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class ReplayFrame extends Event {
+        @Label("Board Size")
+        public int boardSize;
+
+        @Label("Position")
+        public int position;
+
+        @Label("Moves")
+        public int moves;
+    }
+}
@@ -7,12 +7,33 @@ import java.util.List;
  * A GameMode defines the board size and the set of ships used for that mode.
  */
 public abstract class GameMode {
+    // The display name of this game mode (e.g., "Sea").
+    private String name;
+
     // The size of the game board (e.g., 10 for a 10x10 grid).
     private int boardSize;
 
     // The list of ships (prototypes) used in this game mode.
     private List<Ship> ships;
 
+    /**
+     * Returns the display name of this game mode.
+     *
+     * @return the mode name, or the class name if none was set.
+     */
+    public String getName() {
+        return name != null ? name : getClass().getSimpleName();
+    }
+
+    /**
+     * Sets the display name of this game mode.
+     *
+     * @param name the mode name to set.
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
     /**
      * Returns the size of the board for this game mode.
      *
@@ -0,0 +1,75 @@
+package dev.oleksii;
+
+/**
+ * Destination for everything the game shows to a player: boards, boxed messages and prompts.
+ * <p>
+ * Text may be held back until {@link #flush()}, so callers flush before waiting for input and at the end
+ * of a turn. Implementations decide where the text goes: straight to the console ({@link ConsoleOutput}),
+ * batched into one write per flush ({@link BufferedOutput}, {@link NetworkOutput}), kept for inspection
+ * ({@link CapturedOutput}) or dropped ({@link DiscardOutput}). Output that would be discarded should not be
+ * built at all, which callers can check with {@link #isEnabled()}.
+ */
+public interface GameOutput {
+    // ANSI sequence moving the cursor home and clearing the screen.
+    String CLEAR_SCREEN = "\033[H\033[2J";
+
+    /**
+     * Writes text without a line terminator.
+     *
+     * @param text the text to write.
+     */
+    void print(CharSequence text);
+
+    /**
+     * Writes any held-back text to its destination.
+     */
+    void flush();
+
+    /**
+     * Writes text followed by a line terminator.
+     *
+     * @param text the text to write.
+     */
+    default void println(CharSequence text) {
+        print(text);
+        print("\n");
+    }
+
+    /**
+     * Writes a line terminator.
+     */
+    default void println() {
+        print("\n");
+    }
+
+    /**
+     * Clears the terminal screen and flushes.
+     */
+    default void clearScreen() {
+        print(CLEAR_SCREEN);
+        flush();
+    }
+
+    /**
+     * Returns whether written text goes anywhere. When false, callers may skip building the text.
+     *
+     * @return true unless this output discards everything.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * @return an output writing straight to {@code System.out}.
+     */
+    static GameOutput console() {
+        return ConsoleOutput.SYSTEM_OUT;
+    }
+
+    /**
+     * @return an output dropping everything written to it.
+     */
+    static GameOutput discard() {
+        return DiscardOutput.INSTANCE;
+    }
+}
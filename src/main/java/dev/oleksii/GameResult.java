@@ -0,0 +1,14 @@
+package dev.oleksii;
+
+/**
+ * Represents the outcome of a headless game run by the {@link GameEngine}.
+ * Being a record, GameResult is immutable and only carries the compact facts
+ * needed for statistics: who won, how many shots were fired, and the result of each shot.
+ *
+ * @param winner      the winning player, or null if the game ended without a winner.
+ * @param moveCount   the total number of shots fired by both players.
+ * @param winnerShots the number of shots fired by the winner, or 0 if there is no winner.
+ * @param outcomes    the result of each shot in order ('*' for a miss, 'x' for a hit, 'X' for a sink).
+ */
+public record GameResult(Player winner, int moveCount, int winnerShots, char[] outcomes) {
+}
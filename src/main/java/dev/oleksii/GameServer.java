@@ -0,0 +1,336 @@
+package dev.oleksii;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * TCP server hosting many games between {@link RemotePlayer}s at once.
+ * <p>
+ * Every connection is served by its own virtual thread, so blocking reads of a player's guesses cost no
+ * platform thread and a single JVM can hold thousands of matches. A client is asked for its name and game mode
+ * and joins the {@link Lobby}, which pairs it with another client of the same mode or, after a timeout,
+ * with a computer opponent; the game runs on one of the clients' threads and the connections are closed when
+ * it ends. Clients are plain text terminals (e.g. {@code telnet} or {@code nc}) and enter guesses such as
+ * {@code A5}. If a client disconnects, the game is abandoned and the other client told.
+ * <p>
+ * A client entering {@code WATCH <game>} instead of a name becomes a spectator of that running game and
+ * receives its {@link SpectatorFeed} as lines of text ({@link SpectatorEvent#toLine()}) until the game ends.
+ */
+public class GameServer implements AutoCloseable {
+    // Port used when none is given on the command line.
+    public static final int DEFAULT_PORT = 7777;
+
+    private final ServerSocket serverSocket;
+
+    // Pairs the connected players.
+    private final Lobby lobby;
+
+    // Length of the pauses after each shot, in milliseconds.
+    private final long pauseMillis;
+
+    // Runs one virtual thread per connection, plus the accept loop.
+    private final ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Games being played, by game number.
+    private final Map<Integer, Game> games = new ConcurrentHashMap<>();
+    private final AtomicInteger nextGameId = new AtomicInteger();
+
+    /**
+     * Binds a server to a port. Connections are accepted once {@link #start()} is called.
+     *
+     * @param port         the port to listen on, or 0 for any free port.
+     * @param modes        factories for the game modes clients can choose from.
+     * @param matchTimeout how long a client waits for a human opponent before playing the computer.
+     * @param pauseMillis  the length of the pauses after each shot, in milliseconds.
+     * @throws IOException if the port cannot be bound
+     */
+    public GameServer(int port, List<Supplier<GameMode>> modes, Duration matchTimeout, long pauseMillis)
+            throws IOException {
+        this.serverSocket = new ServerSocket(port);
+        this.lobby = new Lobby(modes, matchTimeout, () -> new ComputerPlayer(new Random()), this::play);
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * Starts accepting connections in the background.
+     */
+    public void start() {
+        threads.submit(this::run);
+    }
+
+    /**
+     * @return the port the server listens on.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return the lobby pairing the server's clients.
+     */
+    public Lobby getLobby() {
+        return lobby;
+    }
+
+    /**
+     * @return the number of games being played.
+     */
+    public int activeGames() {
+        return games.size();
+    }
+
+    /**
+     * Registers gauges for the server's active games and the lobby's longest wait, and counters for the lobby's
+     * joins and matches, replacing those of any server registered before.
+     *
+     * @param metrics the registry to register the metrics in.
+     */
+    public void registerMetrics(Metrics metrics) {
+        metrics.gauge("battleship_server_active_games", "Games being played on the server.", this::activeGames);
+        metrics.counterFunction("battleship_lobby_joins_total", "Players who joined the lobby.",
+                () -> lobby.stats().joins());
+        metrics.counterFunction("battleship_lobby_human_matches_total", "Lobby matches between two clients.",
+                () -> lobby.stats().humanMatches());
+        metrics.counterFunction("battleship_lobby_computer_matches_total",
+                "Lobby matches against a computer after the timeout.", () -> lobby.stats().computerMatches());
+        metrics.gauge("battleship_lobby_max_wait_millis", "Longest time a client waited to be matched.",
+                () -> lobby.stats().maxWait().toMillis());
+    }
+
+    /**
+     * Stops accepting connections and interrupts every game, closing their connections.
+     */
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Closing anyway.
+        }
+        // Interrupting the threads also closes the connections they are blocked on.
+        threads.shutdownNow();
+    }
+
+    /**
+     * Accepts connections on the calling thread until the server is closed, serving each on a new virtual thread.
+     */
+    public void run() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                threads.submit(() -> serve(socket));
+            } catch (SocketException e) {
+                return; // The server socket was closed.
+            } catch (IOException e) {
+                System.err.println("[WARNING] Could not accept a connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Greets a new client, asks for its name and game mode, and waits in the lobby until it is matched.
+     */
+    private void serve(Socket socket) {
+        RemotePlayer player;
+        String modeName;
+        try {
+            // Output is already batched into one write per flush; don't let Nagle hold it back for an ACK.
+            socket.setTcpNoDelay(true);
+            NetworkOutput output = new NetworkOutput(socket);
+            Scanner input = new Scanner(socket.getInputStream(), StandardCharsets.UTF_8);
+            MessageFormatter.printBoxedMessage(output, "Welcome to Battleship!");
+            output.print("Enter name (or WATCH <game> to spectate): ");
+            output.flush();
+            String name = input.nextLine().trim();
+            if (name.equalsIgnoreCase("WATCH") || name.toUpperCase().startsWith("WATCH ")) {
+                watch(socket, output, name.substring(5).trim());
+                return;
+            }
+            player = new RemotePlayer(name.isEmpty() ? "Player" : name, socket, input, output, pauseMillis);
+            modeName = chooseMode(input, output);
+        } catch (IOException | NoSuchElementException e) {
+            // The client left before joining the lobby.
+            closeQuietly(socket);
+            return;
+        }
+
+        MessageFormatter.printBoxedMessage(player.getOutput(), "Waiting for an opponent...");
+        player.getOutput().flush();
+        try {
+            lobby.join(modeName, player);
+        } catch (InterruptedException e) {
+            // The server is shutting down.
+            player.close();
+        }
+    }
+
+    /**
+     * Asks a client for a game mode, unless there is only one.
+     *
+     * @return the name of the chosen mode.
+     * @throws NoSuchElementException if the client disconnects
+     */
+    private String chooseMode(Scanner input, GameOutput output) {
+        List<String> names = lobby.modeNames();
+        if (names.size() == 1) {
+            return names.getFirst();
+        }
+        String[] options = new String[names.size()];
+        for (int i = 0; i < options.length; i++) {
+            options[i] = (i + 1) + ". " + names.get(i);
+        }
+        while (true) {
+            MessageFormatter.printBoxedMenu(output, "Choose a game mode:", options);
+            output.print("Enter your choice: ");
+            output.flush();
+            String choice = input.nextLine().trim();
+            try {
+                int index = Integer.parseInt(choice) - 1;
+                if (index >= 0 && index < names.size()) {
+                    return names.get(index);
+                }
+            } catch (NumberFormatException e) {
+                // Also accept the mode's name.
+                for (String name : names) {
+                    if (name.equalsIgnoreCase(choice)) {
+                        return name;
+                    }
+                }
+            }
+            MessageFormatter.printBoxedMessage(output, "Invalid option. Please try again.");
+        }
+    }
+
+    /**
+     * Plays a game matched by the lobby and closes the clients' connections.
+     * A computer opponent shows its moves on the client's output, as in a local single-player game.
+     */
+    private void play(GameMode mode, Player player1, Player player2) {
+        if (!(player1 instanceof RemotePlayer)) {
+            player1.setOutput(player2.getOutput());
+        } else if (!(player2 instanceof RemotePlayer)) {
+            player2.setOutput(player1.getOutput());
+        }
+        int id = nextGameId.incrementAndGet();
+        try {
+            Game game = new Game(mode, player1, player2, null);
+            games.put(id, game);
+            for (GameOutput output : List.of(player1.getOutput(), player2.getOutput())) {
+                MessageFormatter.printBoxedMessage(output, "Game " + id + " is starting. Spectators: WATCH " + id);
+            }
+            game.play(null);
+        } catch (NoSuchElementException e) {
+            // A client disconnected while the game was waiting for its guess.
+            for (Player player : new Player[]{player1, player2}) {
+                MessageFormatter.printBoxedMessage(player.getOutput(), "The game was abandoned: a player left.");
+                player.getOutput().flush();
+            }
+        } catch (IllegalStateException e) {
+            // The game could not be set up, e.g. a fleet did not fit on the board.
+            for (Player player : new Player[]{player1, player2}) {
+                MessageFormatter.printBoxedMessage(player.getOutput(), "The game could not start: " + e.getMessage());
+                player.getOutput().flush();
+            }
+        } finally {
+            for (Player player : new Player[]{player1, player2}) {
+                if (player instanceof RemotePlayer remote) {
+                    remote.close();
+                }
+            }
+            games.remove(id);
+        }
+    }
+
+    /**
+     * Streams a running game's spectator feed to a client until the game ends or the client falls behind,
+     * then closes the connection.
+     */
+    private void watch(Socket socket, NetworkOutput output, String gameNumber) {
+        Game game = null;
+        try {
+            game = games.get(Integer.parseInt(gameNumber));
+        } catch (NumberFormatException e) {
+            // Reported below.
+        }
+        if (game == null) {
+            MessageFormatter.printBoxedMessage(output, "No running game " + gameNumber + ". Running: " + games.keySet());
+            output.flush();
+            closeQuietly(socket);
+            return;
+        }
+        try (SpectatorFeed.Subscription subscription = game.getSpectators().subscribe()) {
+            SpectatorEvent event;
+            while ((event = subscription.next()) != null && output.isConnected()) {
+                output.println(event.toLine());
+                // Send every event that is already waiting in the same write.
+                while ((event = subscription.poll()) != null) {
+                    output.println(event.toLine());
+                }
+                output.flush();
+            }
+        } catch (InterruptedException e) {
+            // The server is shutting down.
+        } finally {
+            closeQuietly(socket);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Nothing left to clean up.
+        }
+    }
+
+    /**
+     * Runs a server for Sea and Ocean mode games, plus any custom modes given, until the process is stopped.
+     * Players wait up to 30 seconds for a human opponent. The system property {@code battleship.metrics.port}
+     * serves the {@link Metrics} over HTTP on that port, and {@code battleship.metrics.dump} prints them every
+     * so many seconds.
+     *
+     * @param args optionally the port to listen on (default 7777), followed by {@link CustomGameMode} files.
+     * @throws IOException if the port cannot be bound or a game mode file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        List<Supplier<GameMode>> modes = new ArrayList<>(List.of(SeaGameMode::new, OceanGameMode::new));
+        for (int i = 1; i < args.length; i++) {
+            // A custom mode is never modified, so every match can share the loaded instance.
+            GameMode custom = CustomGameMode.load(Path.of(args[i]));
+            modes.add(() -> custom);
+        }
+        try (GameServer server = new GameServer(port, modes, Duration.ofSeconds(30), 1000)) {
+            System.out.println("Battleship server listening on port " + server.getPort());
+            server.registerMetrics(Metrics.global());
+            // Optional metrics endpoint and periodic dump to standard output.
+            Integer metricsPort = Integer.getInteger("battleship.metrics.port");
+            if (metricsPort != null) {
+                Metrics.global().serve(new InetSocketAddress(metricsPort));
+                System.out.println("Metrics served at http://localhost:" + metricsPort + "/metrics");
+            }
+            Integer dumpSeconds = Integer.getInteger("battleship.metrics.dump");
+            if (dumpSeconds != null) {
+                Metrics.global().startDump(Duration.ofSeconds(dumpSeconds), System.out);
+            }
+            server.run();
+        }
+    }
+}
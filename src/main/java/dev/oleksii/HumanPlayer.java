@@ -1,5 +1,6 @@
 package dev.oleksii;
 
+import java.util.ArrayList;
 import java.util.Scanner;
 
 /**
@@ -7,6 +8,8 @@ import java.util.Scanner;
  * It implements the methods for placing ships and taking turns using console input.
  */
 public class HumanPlayer extends Player {
+    // Guesses rejected during the last turn; each printed a message that may have scrolled the screen.
+    private int rejectedGuesses;
 
     /**
      * Constructs a HumanPlayer with the given name.
@@ -35,52 +38,41 @@ public class HumanPlayer extends Player {
             // Continue prompting until the ship is placed successfully.
             while (!placed) {
                 // Clear the screen for clarity.
-                MainMenu.clearScreen();
-                System.out.println();
+                getOutput().clearScreen();
+                getOutput().println();
                 // Display the current state of the board with the player's name.
-                getBoard().display(this.getName());
+                getBoard().display(getOutput(), this.getName());
 
                 // Prompt the player to place the current ship.
-                MessageFormatter.printBoxedMessage("Place your " + ship.getName() + " (size " + ship.getSize() + ")");
+                MessageFormatter.printBoxedMessage(getOutput(), "Place your " + ship.getName() + " (size " + ship.getSize() + ")");
 
                 int row, col;
 
                 // Loop until a valid starting coordinate is entered.
                 while (true) {
-                    System.out.print("Enter starting coordinate (e.g., A5): ");
-                    // Read the input, trim whitespace, and convert it to uppercase.
-                    String input = scanner.nextLine().trim().toUpperCase();
-
-                    // Check that the input has at least 2 characters (e.g., "A5").
-                    if (input.length() < 2) {
-                        MessageFormatter.printBoxedMessage("Invalid format. Must be letter + number (e.g. A5).");
+                    getOutput().print("Enter starting coordinate (e.g., A5): ");
+                    getOutput().flush();
+                    // Parse the row label and column number, e.g. "A5" or "AB12".
+                    Coordinate start;
+                    try {
+                        start = Coordinate.parse(scanner.nextLine());
+                    } catch (IllegalArgumentException e) {
+                        MessageFormatter.printBoxedMessage(getOutput(), e.getMessage());
                         continue;
                     }
-
-                    // Extract the letter (row indicator) and convert it to a row index.
-                    char letter = input.charAt(0);
-                    row = letter - 'A';
+                    row = start.row();
+                    col = start.col();
 
                     // Validate that the row index is within the bounds of the board.
-                    if (row < 0 || row >= boardSize) {
-                        MessageFormatter.printBoxedMessage("Row out of range (must be between A and "
-                                                           + (char)('A' + boardSize - 1) + ").");
-                        continue;
-                    }
-
-                    // Extract the column part from the input string.
-                    String colPart = input.substring(1); // e.g., "5" from "A5"
-                    try {
-                        // Parse the column number and convert it to a zero-based index.
-                        col = Integer.parseInt(colPart) - 1;
-                    } catch (NumberFormatException e) {
-                        MessageFormatter.printBoxedMessage("Invalid number format. Try again.");
+                    if (row >= boardSize) {
+                        MessageFormatter.printBoxedMessage(getOutput(), "Row out of range (must be between A and "
+                                                           + Coordinate.rowLabel(boardSize - 1) + ").");
                         continue;
                     }
 
                     // Validate that the column index is within the board range.
                     if (col < 0 || col >= boardSize) {
-                        MessageFormatter.printBoxedMessage(
+                        MessageFormatter.printBoxedMessage(getOutput(),
                                 "Column out of range (must be between 1 and " + boardSize + ")."
                         );
                         continue;
@@ -96,7 +88,8 @@ public class HumanPlayer extends Player {
                 boolean horizontal;
                 // Loop until a valid orientation is provided.
                 while (true) {
-                    System.out.print("Enter orientation (H for horizontal, V for vertical): ");
+                    getOutput().print("Enter orientation (H for horizontal, V for vertical): ");
+                    getOutput().flush();
                     String orient = scanner.nextLine().trim().toUpperCase();
 
                     // Set orientation based on user input.
@@ -107,19 +100,20 @@ public class HumanPlayer extends Player {
                         horizontal = false;
                         break;
                     } else {
-                        MessageFormatter.printBoxedMessage("Invalid orientation. Please enter H or V.");
+                        MessageFormatter.printBoxedMessage(getOutput(), "Invalid orientation. Please enter H or V.");
                     }
                 }
 
                 // Attempt to place the ship on the board using the specified coordinate and orientation.
-                if (getBoard().placeShip(ship, row, col, horizontal, true)) {
+                if (getBoard().placeShip(ship, row, col, horizontal, getOutput())) {
                     placed = true; // Placement was successful.
-                    MessageFormatter.printBoxedMessage(ship.getName() + " placed successfully.");
+                    MessageFormatter.printBoxedMessage(getOutput(), ship.getName() + " placed successfully.");
                 } else {
-                    MessageFormatter.printBoxedMessage("Invalid placement, try again.");
+                    MessageFormatter.printBoxedMessage(getOutput(), "Invalid placement, try again.");
                 }
                 // Pause briefly so the player can see the message.
-                try { Thread.sleep(1000); } catch (InterruptedException ignored) { }
+                getOutput().flush();
+                pause(1000);
             }
         }
     }
@@ -138,41 +132,39 @@ public class HumanPlayer extends Player {
         // Get the board size from the opponent's board.
         int boardSize = opponent.getBoard().getSize();
         int row, col;
+        rejectedGuesses = 0;
 
         // Loop until a valid coordinate is entered.
         while (true) {
-            System.out.print("Enter your guess: ");
-            String input = scanner.nextLine().trim().toUpperCase();
-
-            // Validate input format: at least 2 characters and must start with a letter.
-            if (input.length() < 2 || !Character.isLetter(input.charAt(0))) {
-                MessageFormatter.printBoxedMessage("Invalid format. Must be letter + number (e.g., A5).");
-                continue;
-            }
-
-            // Convert the first character (letter) to a row index.
-            row = input.charAt(0) - 'A';
-            if (row < 0 || row >= boardSize) {
-                MessageFormatter.printBoxedMessage("Row out of range. Valid letters: A-" + (char) ('A' + boardSize - 1));
+            getOutput().print("Enter your guess: ");
+            getOutput().flush();
+            // Parse the row label and column number, e.g. "A5" or "AB12".
+            Coordinate guess;
+            try {
+                guess = Coordinate.parse(scanner.nextLine());
+            } catch (IllegalArgumentException e) {
+                MessageFormatter.printBoxedMessage(getOutput(), e.getMessage());
+                rejectedGuesses++;
                 continue;
             }
-
-            // Convert the numeric part of the input to a column index.
-            try {
-                col = Integer.parseInt(input.substring(1)) - 1;
-            } catch (NumberFormatException e) {
-                MessageFormatter.printBoxedMessage("Invalid number format. Try again.");
+            row = guess.row();
+            col = guess.col();
+            if (row >= boardSize) {
+                MessageFormatter.printBoxedMessage(getOutput(), "Row out of range. Valid letters: A-"
+                                                   + Coordinate.rowLabel(boardSize - 1));
+                rejectedGuesses++;
                 continue;
             }
             if (col < 0 || col >= boardSize) {
-                MessageFormatter.printBoxedMessage("Column out of range. Valid range: 1-" + boardSize);
+                MessageFormatter.printBoxedMessage(getOutput(), "Column out of range. Valid range: 1-" + boardSize);
+                rejectedGuesses++;
                 continue;
             }
 
             // Check whether the chosen cell has already been hit.
-            Cell cell = opponent.getBoard().getGameState().get(new Coordinate(row, col));
-            if (cell.isHit()) {
-                MessageFormatter.printBoxedMessage("This cell has already been targeted. Please choose another cell.");
+            if (opponent.getBoard().isTargeted(row, col)) {
+                MessageFormatter.printBoxedMessage(getOutput(), "This cell has already been targeted. Please choose another cell.");
+                rejectedGuesses++;
                 continue;
             }
 
@@ -180,41 +172,36 @@ public class HumanPlayer extends Player {
             break;
         }
 
-        // Retrieve the cell corresponding to the chosen coordinate.
-        Cell cell = opponent.getBoard().getGameState().get(new Coordinate(row, col));
-        char result;
-        // Process the move based on whether a ship occupies that cell.
-        if (cell.hasShip()) {
-            // Register a hit on the ship at the specified coordinate.
-            cell.getShip().checkHit(row, col);
-
-            // If the ship is now sunk, mark all its coordinates with 'X'.
-            if (cell.getShip().isSunk()) {
-                for (Coordinate c : cell.getShip().getCoordinates()) {
-                    opponent.getBoard().updateCell(c.row(), c.col(), 'X');
-                }
-                MessageFormatter.printBoxedMessage(cell.getShip().getName() + " sunk!");
-                result = 'X';
-            } else {
-                // If the ship is hit but not sunk, mark the cell with a lowercase 'x'.
-                opponent.getBoard().updateCell(row, col, 'x');
-                result = 'x';
-                MessageFormatter.printBoxedMessage("Hit!");
-            }
-        } else {
-            // If no ship is present at the coordinate, mark it as a miss using '*'.
-            opponent.getBoard().updateCell(row, col, '*');
-            result = '*';
-            MessageFormatter.printBoxedMessage("Miss!");
+        // Resolve the shot on the opponent's board and report the outcome.
+        char result = opponent.getBoard().fireAt(row, col);
+        Ship ship = opponent.getBoard().getShipAt(row, col);
+        switch (result) {
+            case 'X' -> MessageFormatter.printBoxedMessage(getOutput(),
+                    MessageFormatter.sunkMessage(ship, opponent.getFleetState()));
+            case 'x' -> MessageFormatter.printBoxedMessage(getOutput(), "Hit!");
+            default -> MessageFormatter.printBoxedMessage(getOutput(), "Miss!");
         }
-        try {
-            // Pause briefly so the player can see the outcome of their move.
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            // If the pause is interrupted, simply continue.
+        // Pause briefly so the player can see the outcome of their move.
+        getOutput().flush();
+        pause(3000);
+
+        // Create a new Move object that records this move, including its result.
+        Move move = new Move(this, row, col, result);
+
+        // If the shot sunk a ship, record the sunk ship's information for replay.
+        if (result == 'X') {
+            move.setSunkShipInfo(ship.getName(), new ArrayList<>(ship.getCoordinates()));
         }
+        return move;
+    }
 
-        // Create and return a new Move object that records this move, including its result.
-        return new Move(this, new Coordinate(row, col), result);
+    /**
+     * Returns how many guesses were rejected during the last turn. Each rejection printed a message below the
+     * boards, so the screen may have scrolled.
+     *
+     * @return the number of rejected guesses in the last call to {@link #takeTurn}.
+     */
+    int getRejectedGuesses() {
+        return rejectedGuesses;
     }
-}
\ No newline at end of file
+}
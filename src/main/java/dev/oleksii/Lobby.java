@@ -0,0 +1,287 @@
+package dev.oleksii;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Matchmaking lobby pairing the players who join it, with one queue of waiting players per game mode.
+ * <p>
+ * The queues are lock-free {@link ConcurrentLinkedQueue}s of tickets. A joining player takes waiting tickets
+ * off its mode's queue until it claims one (a compare-and-set, so a ticket is matched at most once) and then
+ * starts the match on its own thread; if nobody is waiting it leaves its own ticket and waits. A player still
+ * unmatched when the timeout expires claims its own ticket and plays a computer opponent instead; tickets
+ * claimed that way stay in the queue until the next joiner skips them.
+ * <p>
+ * Two players may find the queue empty at the same moment and both queue a ticket. So after queueing, a player
+ * looks for a waiting ticket ahead of its own in the queue and pairs with it. It first reserves that ticket,
+ * then claims its own, and only then claims the reserved one; if its own ticket was taken meanwhile, the
+ * reservation is released. The queue order is the same for everyone and the ticket queued second always sees
+ * the first, so of two simultaneous joiners exactly one makes the match, and a ticket is never reserved by its
+ * own player. Anyone who finds a reserved ticket waits the few instructions until it is claimed or released.
+ * <p>
+ * The lobby counts joins and matches and keeps the pairing latency (time from joining to being matched),
+ * available through {@link #stats()}.
+ */
+public class Lobby {
+    // Game mode factories and waiting tickets, by mode name, in the order the modes were given.
+    private final Map<String, Supplier<GameMode>> modes = new LinkedHashMap<>();
+    private final Map<String, Queue<Ticket>> queues = new LinkedHashMap<>();
+
+    // How long a player waits for a human opponent, and where computer opponents come from.
+    private final long timeoutNanos;
+    private final Supplier<? extends Player> computers;
+
+    // Runs each match.
+    private final MatchStarter starter;
+
+    // Runs when a joining player has found nobody waiting, just before queueing its ticket; tests use it to
+    // make two players queue at the same moment.
+    volatile Runnable beforeQueueing = () -> { };
+
+    // Throughput and pairing latency.
+    private final LongAdder joins = new LongAdder();
+    private final LongAdder humanMatches = new LongAdder();
+    private final LongAdder computerMatches = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructs a Lobby.
+     *
+     * @param modes     factories for the game modes players can join; each mode is known by its name.
+     * @param timeout   how long a player waits for a human opponent before playing the computer.
+     * @param computers creates a computer opponent for a player nobody was matched with.
+     * @param starter   runs a match; called on the thread of one of the two players.
+     * @throws IllegalArgumentException if no mode is given or two modes have the same name
+     */
+    public Lobby(List<Supplier<GameMode>> modes, Duration timeout,
+                 Supplier<? extends Player> computers, MatchStarter starter) {
+        if (modes.isEmpty()) {
+            throw new IllegalArgumentException("A lobby needs at least one game mode.");
+        }
+        for (Supplier<GameMode> mode : modes) {
+            String name = mode.get().getName();
+            if (this.modes.putIfAbsent(name, mode) != null) {
+                throw new IllegalArgumentException("Duplicate game mode: " + name);
+            }
+            queues.put(name, new ConcurrentLinkedQueue<>());
+        }
+        this.timeoutNanos = timeout.toNanos();
+        this.computers = computers;
+        this.starter = starter;
+    }
+
+    /**
+     * @return the names of the game modes players can join, in menu order.
+     */
+    public List<String> modeNames() {
+        return new ArrayList<>(modes.keySet());
+    }
+
+    /**
+     * Joins the queue of a game mode and waits until the player has been matched.
+     * If this thread makes the match, the match is played on it before this method returns;
+     * otherwise the match is played on the opponent's thread and this method returns as soon as it starts.
+     *
+     * @param modeName the name of the game mode.
+     * @param player   the joining player.
+     * @throws IllegalArgumentException if there is no such game mode
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     */
+    public void join(String modeName, Player player) throws InterruptedException {
+        Queue<Ticket> queue = queues.get(modeName);
+        if (queue == null) {
+            throw new IllegalArgumentException("Unknown game mode: " + modeName);
+        }
+        joins.increment();
+        Ticket mine = new Ticket(player);
+
+        // Match with the longest-waiting player whose ticket can still be claimed.
+        Ticket other;
+        while ((other = queue.poll()) != null) {
+            if (other.claim()) {
+                startHumanMatch(modeName, other, mine);
+                return;
+            }
+        }
+
+        // Nobody waiting: wait in the queue. Another player may have done the same at the same moment,
+        // so look once more for a player queued ahead of us before settling down.
+        beforeQueueing.run();
+        queue.add(mine);
+        if (claimWaitingAhead(modeName, queue, mine)) {
+            return;
+        }
+        if (mine.matched.await(timeoutNanos, TimeUnit.NANOSECONDS)) {
+            return;
+        }
+        if (mine.claim()) {
+            // Nobody came: play the computer.
+            recordWait(mine);
+            computerMatches.increment();
+            starter.start(modes.get(modeName).get(), player, computers.get());
+        } else {
+            // Matched just as the timeout expired; the opponent's thread starts the match.
+            mine.matched.await();
+        }
+    }
+
+    /**
+     * Tries to pair a ticket that has just been queued with a waiting ticket ahead of it in the queue.
+     *
+     * @return true if the match was made (and played), or this ticket was claimed meanwhile and its match started.
+     */
+    private boolean claimWaitingAhead(String modeName, Queue<Ticket> queue, Ticket mine)
+            throws InterruptedException {
+        for (Ticket other : queue) {
+            if (other == mine) {
+                break;
+            }
+            if (!other.reserve()) {
+                continue;
+            }
+            // The ticket ahead is held for us; now take our own out of play.
+            if (mine.state.compareAndSet(Ticket.WAITING, Ticket.CLAIMED)) {
+                other.state.set(Ticket.CLAIMED);
+                queue.remove(other);
+                queue.remove(mine);
+                startHumanMatch(modeName, other, mine);
+                return true;
+            }
+            // Another player took (or is taking) our ticket: let the one ahead go again.
+            other.state.set(Ticket.WAITING);
+            if (mine.awaitResolved() == Ticket.CLAIMED) {
+                mine.matched.await();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Releases a waiting player and starts their match against a joining player on this thread.
+     */
+    private void startHumanMatch(String modeName, Ticket waiting, Ticket joining) {
+        recordWait(waiting);
+        recordWait(joining);
+        humanMatches.increment();
+        waiting.matched.countDown();
+        starter.start(modes.get(modeName).get(), waiting.player, joining.player);
+    }
+
+    private void recordWait(Ticket ticket) {
+        long wait = System.nanoTime() - ticket.joinedAt;
+        totalWaitNanos.add(wait);
+        waits.increment();
+        maxWaitNanos.accumulate(wait);
+    }
+
+    /**
+     * @return the lobby's counters so far.
+     */
+    public Stats stats() {
+        long count = waits.sum();
+        return new Stats(joins.sum(), humanMatches.sum(), computerMatches.sum(),
+                count == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos.sum() / count),
+                Duration.ofNanos(maxWaitNanos.get()));
+    }
+
+    /**
+     * Runs a match between two players.
+     */
+    @FunctionalInterface
+    public interface MatchStarter {
+        /**
+         * Plays a match to its end.
+         *
+         * @param mode    a fresh instance of the match's game mode.
+         * @param player1 the player who waited longer.
+         * @param player2 the other player.
+         */
+        void start(GameMode mode, Player player1, Player player2);
+    }
+
+    /**
+     * Counters of a lobby.
+     *
+     * @param joins           number of players who joined.
+     * @param humanMatches    number of matches between two joined players.
+     * @param computerMatches number of matches against a computer after the timeout.
+     * @param averageWait     average time from joining to being matched.
+     * @param maxWait         longest time from joining to being matched.
+     */
+    public record Stats(long joins, long humanMatches, long computerMatches, Duration averageWait,
+                        Duration maxWait) {
+    }
+
+    /**
+     * A player's place in a queue.
+     */
+    private static final class Ticket {
+        // States: waiting to be matched, held by a ticket behind it that is pairing with it, or matched for good.
+        static final int WAITING = 0;
+        static final int RESERVED = 1;
+        static final int CLAIMED = 2;
+
+        final Player player;
+        final long joinedAt = System.nanoTime();
+        // Claimed by whoever matches the ticket: a joining player, or its owner when the timeout expires.
+        final AtomicInteger state = new AtomicInteger(WAITING);
+        // Released when a joining player has matched the ticket.
+        final CountDownLatch matched = new CountDownLatch(1);
+
+        Ticket(Player player) {
+            this.player = player;
+        }
+
+        /**
+         * Claims the ticket for good, waiting out a reservation first.
+         *
+         * @return false if someone else has claimed it.
+         */
+        boolean claim() {
+            while (true) {
+                if (state.compareAndSet(WAITING, CLAIMED)) {
+                    return true;
+                }
+                if (awaitResolved() == CLAIMED) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Holds a waiting ticket while a ticket behind it pairs with it.
+         *
+         * @return false if the ticket is not waiting.
+         */
+        boolean reserve() {
+            return state.compareAndSet(WAITING, RESERVED);
+        }
+
+        /**
+         * Waits until the ticket is not reserved; a reservation lasts a few instructions.
+         *
+         * @return the state then, WAITING or CLAIMED.
+         */
+        int awaitResolved() {
+            int current;
+            while ((current = state.get()) == RESERVED) {
+                Thread.onSpinWait();
+            }
+            return current;
+        }
+    }
+}
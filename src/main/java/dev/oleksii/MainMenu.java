@@ -1,13 +1,30 @@
 package dev.oleksii;
 
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
 
 public class MainMenu {
-    // History of games
-    private static final List<Game> gameHistory = new ArrayList<>();
+    // Archive of finished games, kept on disk
+    private static final GameArchive archive = new GameArchive(GameArchive.defaultPath());
+
+    // Number of games listed per page of the replay menu
+    private static final int REPLAY_PAGE_SIZE = 10;
+
+    // Format of the finish time shown in the replay menu
+    private static final DateTimeFormatter ARCHIVE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
 
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
@@ -21,6 +38,7 @@ public class MainMenu {
                     "Please choose an option:",
                     "1. Start New Game",
                     "2. Watch Previous Games",
+                    "3. Run Computer Tournament",
                     "0. Exit Game"
             );
             System.out.print("Enter your choice: ");
@@ -28,6 +46,7 @@ public class MainMenu {
             switch (choice) {
                 case 1 -> newGameMenu(scanner);
                 case 2 -> replayMenu(scanner);
+                case 3 -> tournamentMenu(scanner);
                 case 0 -> {
                     MessageFormatter.printBoxedMessage("Exiting...");
                     break mainLoop;
@@ -83,7 +102,7 @@ public class MainMenu {
             }
 
             // Now choose a game mode
-            GameMode gameMode = chooseGameMode(scanner);
+            GameMode gameMode = chooseGameMode(scanner, "0. Back to Opponent Selection");
             if (gameMode == null) {
                 continue; // user picked 0 => back to Opponent Selection
             }
@@ -94,15 +113,23 @@ public class MainMenu {
             if (opponentChoice == 1) {
                 // human vs human
                 player2 = new HumanPlayer(player2Name);
-            } else {
-                // human vs computer
+            } else if (opponentChoice == 2) {
+                // human vs computer firing at random
                 player2 = new ComputerPlayer(new Random());
+            } else {
+                // human vs computer using probability-density targeting
+                Random random = new Random();
+                player2 = new ComputerPlayer(random, new DensityTargeting(random));
             }
 
             // Create & play the game
             Game game = new Game(gameMode, player1, player2, scanner);
             game.play(scanner);
-            gameHistory.add(game);
+            try {
+                archive.append(game);
+            } catch (IOException e) {
+                MessageFormatter.printBoxedMessage("Could not save the game: " + e.getMessage());
+            }
 
             // After the game ends, return to main menu
             return;
@@ -114,7 +141,7 @@ public class MainMenu {
      * Displays a submenu to choose an opponent type:
      * Returns:
      *  0 if user wants to go back,
-     *  1 or 2 if valid selection,
+     *  1 to 3 if valid selection,
      * -1 if invalid input.
      */
     private static int chooseOpponent(Scanner scanner) {
@@ -125,6 +152,7 @@ public class MainMenu {
                 "New Game - Choose Opponent",
                 "1. Play with a Friend",
                 "2. Play with the Computer",
+                "3. Play with the Computer (Hard)",
                 "0. Back to Main Menu"
         );
         System.out.print("Enter your choice: ");
@@ -133,6 +161,7 @@ public class MainMenu {
             case 0 -> 0;    // 0 => back to main menu
             case 1 -> 1;    // Play with a Friend
             case 2 -> 2;    // Play with the Computer
+            case 3 -> 3;    // Play with the Computer (Hard)
             default -> {
                 MessageFormatter.printBoxedMessage("Invalid option. Please try again.");
                 yield -1;
@@ -144,7 +173,7 @@ public class MainMenu {
      * Displays a submenu to choose a game mode:
      * Returns the chosen GameMode, or null if user chooses 0.
      */
-    private static GameMode chooseGameMode(Scanner scanner) {
+    private static GameMode chooseGameMode(Scanner scanner, String backOption) {
         clearScreen();
         printLogo();
 
@@ -152,7 +181,8 @@ public class MainMenu {
                 "Select Game Mode",
                 "1. Sea (10x10 grid, standard ships)",
                 "2. Ocean (20x20 grid, twice the ships)",
-                "0. Back to Opponent Selection"
+                "3. Custom (load a mode from a file)",
+                backOption
         );
         System.out.print("Enter your choice: ");
         int modeChoice = getIntInput(scanner);
@@ -160,6 +190,7 @@ public class MainMenu {
             case 0 -> null; // user wants to go back
             case 1 -> new SeaGameMode();
             case 2 -> new OceanGameMode();
+            case 3 -> loadCustomGameMode(scanner);
             default -> {
                 MessageFormatter.printBoxedMessage("Invalid mode. Please try again.");
                 yield null;
@@ -168,26 +199,133 @@ public class MainMenu {
     }
 
     /**
-     * Allows user to list and replay past games.
+     * Asks for a game mode file and loads it.
+     * Returns the loaded CustomGameMode, or null if it could not be loaded.
+     */
+    private static GameMode loadCustomGameMode(Scanner scanner) {
+        System.out.print("Enter the path of the game mode file: ");
+        String path = scanner.nextLine().trim();
+        try {
+            return CustomGameMode.load(Path.of(path));
+        } catch (IOException | InvalidPathException e) {
+            MessageFormatter.printBoxedMessage("Could not read the game mode file: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            MessageFormatter.printBoxedMessage("Invalid game mode: " + e.getMessage());
+        }
+        Pacer.configured().pause(3000); // Let user see the message
+        return null;
+    }
+
+    /**
+     * Runs a tournament of computer-vs-computer games on all cores and prints the statistics.
+     */
+    private static void tournamentMenu(Scanner scanner) {
+        GameMode gameMode = chooseGameMode(scanner, "0. Back to Main Menu");
+        if (gameMode == null) {
+            return;
+        }
+
+        // Fleet layouts are generated in the background while the tournament is set up and played.
+        TournamentResult result;
+        try (FleetLayoutPool layouts = new FleetLayoutPool(gameMode, 1024, new SplittableRandom())) {
+            Function<RandomGenerator, ComputerPlayer> player1Factory = chooseStrategy(scanner, "Computer I", layouts);
+            Function<RandomGenerator, ComputerPlayer> player2Factory = chooseStrategy(scanner, "Computer II", layouts);
+
+            MessageFormatter.printBoxedMessage("How many games should the computers play?");
+            System.out.print("Enter number of games: ");
+            int games = getIntInput(scanner);
+            if (games <= 0) {
+                MessageFormatter.printBoxedMessage("Number of games must be positive.");
+                return;
+            }
+
+            MessageFormatter.printBoxedMessage("Playing " + games + " games...");
+            result = new Tournament(gameMode, player1Factory, player2Factory)
+                    .run(games, new Random().nextLong());
+        }
+
+        MessageFormatter.printBoxedMenu(
+                "Tournament Results",
+                String.format("Games played:          %d", result.games()),
+                String.format("Computer I wins:       %d (%.1f%%)", result.player1Wins(), result.player1WinRate() * 100),
+                String.format("Computer II wins:      %d (%.1f%%)", result.player2Wins(), result.player2WinRate() * 100),
+                String.format("Undecided:             %d", result.undecided()),
+                String.format("Average shots to win:  %.1f", result.averageShotsToWin()),
+                String.format("Shots to win (min/p50/p90/p99/max): %d/%d/%d/%d/%d",
+                        result.minShotsToWin(), result.medianShotsToWin(), result.p90ShotsToWin(),
+                        result.p99ShotsToWin(), result.maxShotsToWin()),
+                String.format("Games per second:      %.0f", result.gamesPerSecond())
+        );
+        System.out.println("Press Enter to continue...");
+        scanner.nextLine();
+    }
+
+    /**
+     * Displays a submenu to choose the targeting strategy of a tournament computer player.
+     * Returns a factory creating such a player from a random generator, placing its fleet from the layout pool.
+     */
+    private static Function<RandomGenerator, ComputerPlayer> chooseStrategy(Scanner scanner, String playerName,
+                                                                            FleetLayoutPool layouts) {
+        while (true) {
+            MessageFormatter.printBoxedMenu(
+                    "Targeting for " + playerName,
+                    "1. Random",
+                    "2. Probability Density",
+                    "3. Monte Carlo Sampling"
+            );
+            System.out.print("Enter your choice: ");
+            int choice = getIntInput(scanner);
+            switch (choice) {
+                case 1 -> {
+                    return random -> new ComputerPlayer(random, new RandomTargeting(random), layouts);
+                }
+                case 2 -> {
+                    return random -> new ComputerPlayer(random, new DensityTargeting(random), layouts);
+                }
+                case 3 -> {
+                    // A small budget per move keeps tournaments with many games practical.
+                    return random -> {
+                        SplittableRandom sampling = new SplittableRandom(random.nextLong());
+                        return new ComputerPlayer(random, new MonteCarloTargeting(sampling,
+                                ForkJoinPool.commonPool(), Duration.ofMillis(5), 2_000), layouts);
+                    };
+                }
+                default -> MessageFormatter.printBoxedMessage("Invalid option. Please try again.");
+            }
+        }
+    }
+
+    /**
+     * Allows user to page through past games from the archive, newest first, and replay one.
+     * Only the games on the current page are read; a game is loaded when it is chosen.
      */
     private static void replayMenu(Scanner scanner) {
-        if (gameHistory.isEmpty()) {
+        ArchiveReader reader;
+        try {
+            reader = archive.openReader();
+        } catch (IOException e) {
+            MessageFormatter.printBoxedMessage("Could not read the game archive: " + e.getMessage());
+            return;
+        }
+        if (reader.size() == 0) {
             MessageFormatter.printBoxedMessage("No games have been played yet.");
-            try {
-                Thread.sleep(3000); // Let user see the message
-            } catch (InterruptedException e) {
-                // ignore
-            }
+            Pacer.configured().pause(3000); // Let user see the message
             return;
         }
 
+        int pages = (reader.size() + REPLAY_PAGE_SIZE - 1) / REPLAY_PAGE_SIZE;
+        int page = 0;
         while (true) {
-            // Build the list of options (games + "0. Back...")
+            // Build the list of options for the current page (newest games first)
             List<String> options = new ArrayList<>();
-            options.add("Select a game:"); // subheader or instruction
-            for (int i = 0; i < gameHistory.size(); i++) {
-                options.add((i + 1) + ". Game " + (i + 1));
+            options.add("Select a game (page " + (page + 1) + " of " + pages + "):");
+            int newest = reader.size() - 1 - page * REPLAY_PAGE_SIZE;
+            for (int id = newest; id > newest - REPLAY_PAGE_SIZE && id >= 0; id--) {
+                GameArchive.Entry entry = reader.entry(id);
+                options.add((id + 1) + ". " + ARCHIVE_TIME_FORMAT.format(entry.finishedAt()) + "  "
+                        + entry.modeName() + ": " + entry.player1() + " vs " + entry.player2());
             }
+            options.add("N. Next Page   P. Previous Page");
             options.add("0. Back to Main Menu");
 
             // Print it all in one box
@@ -197,17 +335,34 @@ public class MainMenu {
             );
 
             System.out.print("Enter your choice: ");
-            // Now read the user's choice
-            int choice = getIntInput(scanner);
+            if (!scanner.hasNextLine()) {
+                return;
+            }
+            String input = scanner.nextLine().trim().toUpperCase();
+            if (input.equals("N")) {
+                page = Math.min(page + 1, pages - 1);
+                continue;
+            }
+            if (input.equals("P")) {
+                page = Math.max(page - 1, 0);
+                continue;
+            }
+            int choice;
+            try {
+                choice = Integer.parseInt(input);
+            } catch (NumberFormatException e) {
+                MessageFormatter.printBoxedMessage("Invalid choice. Try again.");
+                continue;
+            }
             if (choice == 0) {
                 return; // back to main menu
             }
-            if (choice < 1 || choice > gameHistory.size()) {
+            if (choice < 1 || choice > reader.size()) {
                 MessageFormatter.printBoxedMessage("Invalid choice. Try again.");
                 continue;
             }
 
-            gameHistory.get(choice - 1).replayGame();
+            reader.load(choice - 1).replayGame(scanner);
         }
     }
 
@@ -237,8 +392,7 @@ public class MainMenu {
      * May not work on all terminals (particularly Windows cmd without ANSI support).
      */
     public static void clearScreen() {
-        System.out.print("\033[H\033[2J");
-        System.out.flush();
+        GameOutput.console().clearScreen();
     }
 
     private static void printLogo() {
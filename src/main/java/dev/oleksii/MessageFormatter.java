@@ -2,14 +2,29 @@ package dev.oleksii;
 
 public class MessageFormatter {
 
+    /**
+     * Prints a single-line message in a box to the console.
+     *
+     * @param message the message to display in the box.
+     * @see #printBoxedMessage(GameOutput, String)
+     */
+    public static void printBoxedMessage(String message) {
+        printBoxedMessage(GameOutput.console(), message);
+    }
+
     /**
      * Prints a single-line message in a box with 2 spaces on each side.
      * The box consists of a top border, a middle line containing the message,
      * and a bottom border.
      *
+     * @param out     the output the box is written to.
      * @param message the message to display in the box.
      */
-    public static void printBoxedMessage(String message) {
+    public static void printBoxedMessage(GameOutput out, String message) {
+        // Nothing to build if the output is discarded.
+        if (!out.isEnabled()) {
+            return;
+        }
         // Set the horizontal padding (2 spaces on the left and right).
         int horizontalPadding = 2;
         // Calculate the total width of the box: message length + padding on both sides.
@@ -30,7 +45,7 @@ public class MessageFormatter {
                         + "║";
 
         // Print the complete box.
-        System.out.println(String.join("\n",
+        out.println(String.join("\n",
                 topBorder,
                 middle,
                 bottomBorder
@@ -38,15 +53,46 @@ public class MessageFormatter {
 
     }
 
+    /**
+     * Builds the message announcing a sunk ship, with the number of ships the opponent has left.
+     *
+     * @param ship  the ship that was sunk.
+     * @param fleet the state of the fleet the ship belonged to.
+     * @return the message, e.g. "Cruiser sunk! 3 ships left."
+     */
+    public static String sunkMessage(Ship ship, FleetState fleet) {
+        int left = fleet.getShipsAfloat();
+        if (left == 0) {
+            return ship.getName() + " sunk!";
+        }
+        return ship.getName() + " sunk! " + left + (left == 1 ? " ship" : " ships") + " left.";
+    }
+
+    /**
+     * Prints a multi-line menu in a box to the console.
+     *
+     * @param header  the header text for the menu (e.g., "Main Menu").
+     * @param options the list of option strings to display.
+     * @see #printBoxedMenu(GameOutput, String, String...)
+     */
+    public static void printBoxedMenu(String header, String... options) {
+        printBoxedMenu(GameOutput.console(), header, options);
+    }
+
     /**
      * Prints a multi-line menu in a box with a header and multiple option lines.
      * The header is separated from the options by a horizontal divider.
      * Each line (header and options) is padded with 2 spaces on the left and right.
      *
+     * @param out     the output the box is written to.
      * @param header  the header text for the menu (e.g., "Main Menu").
      * @param options the list of option strings to display.
      */
-    public static void printBoxedMenu(String header, String... options) {
+    public static void printBoxedMenu(GameOutput out, String header, String... options) {
+        // Nothing to build if the output is discarded.
+        if (!out.isEnabled()) {
+            return;
+        }
         // Find the longest string among header and all option lines.
         int maxLength = header.length();
         for (String opt : options) {
@@ -94,6 +140,6 @@ public class MessageFormatter {
         sb.append(bottomBorder);
 
         // Print the entire box.
-        System.out.println(sb);
+        out.println(sb);
     }
 }
\ No newline at end of file
@@ -0,0 +1,341 @@
+package dev.oleksii;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Lightweight registry of the game's counters, gauges and latency histograms.
+ * <p>
+ * Counters and histogram buckets are striped {@link LongAdder}s, so recording from many threads at once costs
+ * a few nanoseconds and never blocks. Histograms have fixed power-of-two buckets over nanoseconds, which keeps
+ * recording allocation-free at the price of a factor-of-two resolution in the reported percentiles.
+ * Metrics are looked up once, usually into a static field, and recorded many times.
+ * <p>
+ * The registry renders itself in the Prometheus text format ({@link #render()}), which can be served over HTTP
+ * ({@link #serve}) or printed periodically ({@link #startDump}).
+ */
+public class Metrics {
+    // The registry the game records into.
+    private static final Metrics GLOBAL = new Metrics();
+
+    // Number of histogram buckets: bucket i counts values up to 2^i nanoseconds (bucket 0 counts 0 and 1).
+    private static final int BUCKETS = 48;
+
+    // Registered metrics by name, rendered in name order.
+    private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * @return the registry the game records into.
+     */
+    public static Metrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the counter with the given name, registering it if needed.
+     *
+     * @param name the metric name, e.g. {@code battleship_games_total}.
+     * @param help a one-line description.
+     * @return the counter.
+     * @throws IllegalArgumentException if the name is registered as another kind of metric
+     */
+    public Counter counter(String name, String help) {
+        return register(name, Counter.class, () -> new Counter(name, help));
+    }
+
+    /**
+     * Returns the histogram with the given name, registering it if needed.
+     *
+     * @param name the metric name, e.g. {@code battleship_turn_seconds}.
+     * @param help a one-line description.
+     * @return the histogram.
+     * @throws IllegalArgumentException if the name is registered as another kind of metric
+     */
+    public Histogram histogram(String name, String help) {
+        return register(name, Histogram.class, () -> new Histogram(name, help));
+    }
+
+    /**
+     * Registers a gauge whose value is read when the metrics are rendered, replacing any gauge of that name.
+     *
+     * @param name  the metric name.
+     * @param help  a one-line description.
+     * @param value supplies the current value.
+     */
+    public void gauge(String name, String help, LongSupplier value) {
+        metrics.put(name, new SuppliedValue(name, help, "gauge", value));
+    }
+
+    /**
+     * Registers a counter whose value is kept elsewhere and read when the metrics are rendered, replacing any
+     * counter of that name registered this way.
+     *
+     * @param name  the metric name, e.g. {@code battleship_lobby_joins_total}.
+     * @param help  a one-line description.
+     * @param value supplies the current count, which must never decrease.
+     */
+    public void counterFunction(String name, String help, LongSupplier value) {
+        metrics.put(name, new SuppliedValue(name, help, "counter", value));
+    }
+
+    private <T extends Metric> T register(String name, Class<T> type, Supplier<T> factory) {
+        Metric metric = metrics.computeIfAbsent(name, key -> factory.get());
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as another type.");
+        }
+        return type.cast(metric);
+    }
+
+    /**
+     * Renders every metric in the Prometheus text exposition format.
+     *
+     * @return the metrics, one sample per line.
+     */
+    public String render() {
+        StringBuilder text = new StringBuilder();
+        for (Metric metric : metrics.values()) {
+            text.append("# HELP ").append(metric.name).append(' ').append(metric.help).append('\n');
+            metric.render(text);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Serves the rendered metrics over HTTP at {@code /metrics}, one virtual thread per request.
+     *
+     * @param address the address to listen on.
+     * @return the running server; stop it with {@link HttpServer#stop(int)}.
+     * @throws IOException if the address cannot be bound
+     */
+    public HttpServer serve(InetSocketAddress address) throws IOException {
+        HttpServer server = HttpServer.create(address, 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/metrics", exchange -> {
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    /**
+     * Prints the rendered metrics to a stream at a fixed period, from a background virtual thread.
+     *
+     * @param period the time between dumps.
+     * @param out    the stream the metrics are printed to.
+     * @return a handle that stops the dumps when closed.
+     */
+    public AutoCloseable startDump(Duration period, PrintStream out) {
+        Thread dumper = Thread.ofVirtual().name("metrics-dump").start(() -> {
+            try {
+                while (true) {
+                    Thread.sleep(period);
+                    out.print(render());
+                    out.flush();
+                }
+            } catch (InterruptedException e) {
+                // Stopped.
+            }
+        });
+        return dumper::interrupt;
+    }
+
+    /**
+     * Starts a timing measurement.
+     *
+     * @return the current time, to be passed to {@link Histogram#recordSince}.
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * A registered metric.
+     */
+    private abstract static class Metric {
+        final String name;
+        final String help;
+
+        Metric(String name, String help) {
+            this.name = name;
+            this.help = help;
+        }
+
+        abstract void render(StringBuilder text);
+    }
+
+    /**
+     * A monotonically increasing count.
+     */
+    public static final class Counter extends Metric {
+        private final LongAdder value = new LongAdder();
+
+        private Counter(String name, String help) {
+            super(name, help);
+        }
+
+        /**
+         * Adds one to the counter.
+         */
+        public void increment() {
+            value.increment();
+        }
+
+        /**
+         * Adds to the counter.
+         *
+         * @param amount the amount to add; must not be negative.
+         */
+        public void add(long amount) {
+            value.add(amount);
+        }
+
+        /**
+         * @return the count so far.
+         */
+        public long sum() {
+            return value.sum();
+        }
+
+        @Override
+        void render(StringBuilder text) {
+            text.append("# TYPE ").append(name).append(" counter\n");
+            text.append(name).append(' ').append(value.sum()).append('\n');
+        }
+    }
+
+    /**
+     * A value read when rendered, exported as a gauge or as a counter.
+     */
+    private static final class SuppliedValue extends Metric {
+        private final String type;
+        private final LongSupplier value;
+
+        SuppliedValue(String name, String help, String type, LongSupplier value) {
+            super(name, help);
+            this.type = type;
+            this.value = value;
+        }
+
+        @Override
+        void render(StringBuilder text) {
+            text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            text.append(name).append(' ').append(value.getAsLong()).append('\n');
+        }
+    }
+
+    /**
+     * A distribution of durations, in power-of-two buckets of nanoseconds. Rendered in seconds.
+     */
+    public static final class Histogram extends Metric {
+        // Bucket i counts the values v with 2^(i-1) < v <= 2^i, matching the inclusive Prometheus bound
+        // le="2^i"; bucket 0 counts 0 and 1.
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private Histogram(String name, String help) {
+            super(name, help);
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Records a duration.
+         *
+         * @param nanos the duration in nanoseconds; negative values count as zero.
+         */
+        public void record(long nanos) {
+            long value = Math.max(0, nanos);
+            buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, value - 1)))].increment();
+            count.increment();
+            sum.add(value);
+            max.accumulate(value);
+        }
+
+        /**
+         * Records the time elapsed since a measurement was started.
+         *
+         * @param start the value returned by {@link Metrics#start()}.
+         */
+        public void recordSince(long start) {
+            record(System.nanoTime() - start);
+        }
+
+        /**
+         * @return the number of recorded durations.
+         */
+        public long count() {
+            return count.sum();
+        }
+
+        /**
+         * Returns an upper bound of a percentile: the top of the bucket it falls in.
+         *
+         * @param quantile the quantile, between 0 and 1 (e.g. 0.99).
+         * @return the bound in nanoseconds, or 0 if nothing was recorded.
+         */
+        public long percentile(double quantile) {
+            long total = count.sum();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i].sum();
+                if (seen >= rank && seen > 0) {
+                    return Math.min(upperBound(i), max.get());
+                }
+            }
+            return max.get();
+        }
+
+        @Override
+        void render(StringBuilder text) {
+            text.append("# TYPE ").append(name).append(" histogram\n");
+            // Cumulative buckets, reported at every other boundary (256 ns, 1 µs, 4 µs, ...) to keep it short.
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS - 1; i++) {
+                cumulative += buckets[i].sum();
+                if (i >= 8 && i % 2 == 0) {
+                    text.append(name).append("_bucket{le=\"").append(seconds(upperBound(i))).append("\"} ")
+                            .append(cumulative).append('\n');
+                }
+            }
+            long total = count.sum();
+            text.append(name).append("_bucket{le=\"+Inf\"} ").append(total).append('\n');
+            text.append(name).append("_sum ").append(seconds(sum.sum())).append('\n');
+            text.append(name).append("_count ").append(total).append('\n');
+        }
+
+        /**
+         * Returns the largest value that falls into bucket i.
+         */
+        private static long upperBound(int bucket) {
+            return 1L << bucket;
+        }
+
+        private static String seconds(long nanos) {
+            return Double.toString(nanos / 1e9);
+        }
+    }
+}
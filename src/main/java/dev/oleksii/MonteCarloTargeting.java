@@ -0,0 +1,425 @@
+package dev.oleksii;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+/**
+ * Targeting strategy that samples many fleet layouts consistent with the shots seen so far
+ * and fires at the untargeted cell occupied most often across the samples.
+ * <p>
+ * A sample places every ship still afloat so that no ship overlaps another, a miss or a sunk ship,
+ * and every hit on a ship that is not yet sunk is covered. Samples are built around the evidence: ships are
+ * placed through the open hits first, and each sample is weighted so that the weighted samples are uniformly
+ * distributed over such layouts, however few of them a blind draw would find. Sampling is split into one task per worker
+ * of a {@link ForkJoinPool}, each with its own random generator, and stops when either the sample quota
+ * or the per-move time budget is used up, so its strength grows with the hardware while latency stays bounded.
+ * If no consistent layout is found in time, the move is chosen by {@link DensityTargeting}.
+ */
+public class MonteCarloTargeting implements TargetingStrategy {
+    // How many times a free ship position on a miss or sunk ship is redrawn before the sample is abandoned.
+    private static final int PLACEMENT_ATTEMPTS = 50;
+
+    // Random generator from which each sampling task's generator is split.
+    private final RandomGenerator.SplittableGenerator random;
+
+    // Pool running the sampling tasks.
+    private final ForkJoinPool pool;
+
+    // Wall-clock budget and maximum number of samples per move.
+    private final Duration timeBudget;
+    private final int maxSamples;
+
+    // Strategy used when sampling finds no consistent layout; it is kept informed of every shot.
+    private final DensityTargeting fallback;
+
+    /**
+     * Constructs a MonteCarloTargeting strategy.
+     *
+     * @param random     the random generator from which the sampling tasks' generators are split.
+     * @param pool       the pool running the sampling tasks.
+     * @param timeBudget the maximum time spent sampling per move.
+     * @param maxSamples the maximum number of samples drawn per move.
+     */
+    public MonteCarloTargeting(RandomGenerator.SplittableGenerator random, ForkJoinPool pool,
+                               Duration timeBudget, int maxSamples) {
+        this.random = random;
+        this.pool = pool;
+        this.timeBudget = timeBudget;
+        this.maxSamples = maxSamples;
+        this.fallback = new DensityTargeting(random.split());
+    }
+
+    @Override
+    public Coordinate nextTarget(Board opponentBoard, List<Ship> opponentShips) {
+        GameEvents.Search event = new GameEvents.Search();
+        event.begin();
+        Evidence evidence = new Evidence(opponentBoard, opponentShips);
+        double[] counts = sample(evidence, event);
+
+        int best = -1;
+        double bestCount = 0;
+        for (int cell = 0; cell < counts.length; cell++) {
+            if (counts[cell] > bestCount && !evidence.targeted[cell]) {
+                best = cell;
+                bestCount = counts[cell];
+            }
+        }
+        Coordinate target = best < 0
+                ? fallback.nextTarget(opponentBoard, opponentShips)
+                : Coordinate.ofOrdinal(best, evidence.size);
+        if (event.shouldCommit()) {
+            event.boardSize = evidence.size;
+            event.fallback = best < 0;
+            event.commit();
+        }
+        return target;
+    }
+
+    @Override
+    public void recordShot(Board opponentBoard, int row, int col, char result) {
+        fallback.recordShot(opponentBoard, row, col, result);
+    }
+
+    /**
+     * Estimates how likely each cell of the opponent's board is to hold a ship, given the shots seen so far.
+     *
+     * @param opponentBoard the opponent's board.
+     * @param opponentShips the opponent's ships.
+     * @return the summed weight of the samples occupying each cell (index = row * size + col).
+     */
+    double[] occupancy(Board opponentBoard, List<Ship> opponentShips) {
+        return sample(new Evidence(opponentBoard, opponentShips), new GameEvents.Search());
+    }
+
+    /**
+     * Runs one sampling task per pool worker and merges their occupancy counts.
+     * The number of tasks and samples is recorded in the given event.
+     */
+    private double[] sample(Evidence evidence, GameEvents.Search event) {
+        int tasks = Math.max(1, Math.min(pool.getParallelism(), maxSamples));
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        List<Callable<Sampler>> work = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            // Each task gets its own generator and an equal share of the sample quota.
+            RandomGenerator taskRandom = random.split();
+            int quota = maxSamples / tasks + (t < maxSamples % tasks ? 1 : 0);
+            work.add(() -> new Sampler(evidence, taskRandom).run(quota, deadline));
+        }
+
+        double[] counts = new double[evidence.size * evidence.size];
+        event.tasks = tasks;
+        try {
+            for (Future<Sampler> future : pool.invokeAll(work)) {
+                Sampler sampler = future.get();
+                for (int cell = 0; cell < counts.length; cell++) {
+                    counts[cell] += sampler.counts[cell];
+                }
+                event.samplesDrawn += sampler.drawn;
+                event.samplesAccepted += sampler.accepted;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fleet sampling failed", e.getCause());
+        }
+        return counts;
+    }
+
+    /**
+     * Read-only snapshot of what is known about the opponent's board, shared by the sampling tasks.
+     */
+    private static final class Evidence {
+        final int size;
+        // Cells that cannot hold a ship afloat (misses and sunk ships), and cells already fired at.
+        final boolean[] blocked;
+        final boolean[] targeted;
+        // Hits on ships that are not sunk yet; every sample must cover them, and no ship may lie on hits only.
+        final int[] openHits;
+        final boolean[] hit;
+        // Distinct lengths of the ships still afloat, longest first, and how many ships of each are afloat.
+        final int[] lengths;
+        final int[] afloat;
+        // For each length, the number of positions (with orientation) that avoid blocked cells.
+        final long[] freePlacements;
+
+        Evidence(Board board, List<Ship> ships) {
+            size = board.getSize();
+            blocked = new boolean[size * size];
+            targeted = new boolean[size * size];
+            hit = new boolean[size * size];
+            int[] hits = new int[size * size];
+            int hitCount = 0;
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int cell = row * size + col;
+                    char symbol = board.getSymbol(row, col);
+                    blocked[cell] = symbol == '*' || symbol == 'X';
+                    targeted[cell] = board.isTargeted(row, col);
+                    if (symbol == 'x') {
+                        hit[cell] = true;
+                        hits[hitCount++] = cell;
+                    }
+                }
+            }
+            openHits = Arrays.copyOf(hits, hitCount);
+            // Longer ships are placed first, as they are the hardest to fit.
+            int[] sizes = ships.stream().filter(ship -> !ship.isSunk()).mapToInt(Ship::getSize).sorted().toArray();
+            int[] distinct = Arrays.stream(sizes).distinct().toArray();
+            lengths = new int[distinct.length];
+            afloat = new int[distinct.length];
+            freePlacements = new long[distinct.length];
+            for (int d = 0; d < distinct.length; d++) {
+                lengths[d] = distinct[distinct.length - 1 - d];
+                for (int length : sizes) {
+                    afloat[d] += length == lengths[d] ? 1 : 0;
+                }
+                freePlacements[d] = countFreePlacements(lengths[d]);
+            }
+        }
+
+        /**
+         * Counts the horizontal and vertical positions of a ship of the given length that avoid blocked cells,
+         * from the runs of unblocked cells in every row and column.
+         */
+        private long countFreePlacements(int length) {
+            long count = 0;
+            for (int line = 0; line < size; line++) {
+                int rowRun = 0;
+                int colRun = 0;
+                for (int i = 0; i < size; i++) {
+                    rowRun = blocked[line * size + i] ? 0 : rowRun + 1;
+                    colRun = blocked[i * size + line] ? 0 : colRun + 1;
+                    count += (rowRun >= length ? 1 : 0) + (colRun >= length ? 1 : 0);
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Draws samples for one task, adding each sample's weight to the cells its ships occupy.
+     */
+    private static final class Sampler {
+        private final Evidence evidence;
+        private final RandomGenerator random;
+        private final int size;
+        private final double[] counts;
+        // Occupied cells of the sample being built, and the ships placed so far (first cell, step, length).
+        private final boolean[] occupied;
+        private final int[] starts;
+        private final int[] steps;
+        private final int[] shipLengths;
+        private int placed;
+        // Ships of each distinct length not yet placed in the sample being built.
+        private final int[] remaining;
+        // Candidate positions through an open hit: first cell, step and distinct length index.
+        private final int[] optionStarts;
+        private final int[] optionSteps;
+        private final int[] optionLengths;
+        // Samples drawn and samples consistent with the evidence.
+        private int drawn;
+        private int accepted;
+
+        Sampler(Evidence evidence, RandomGenerator random) {
+            this.evidence = evidence;
+            this.random = random;
+            this.size = evidence.size;
+            this.counts = new double[size * size];
+            this.occupied = new boolean[size * size];
+            int ships = Arrays.stream(evidence.afloat).sum();
+            this.starts = new int[ships];
+            this.steps = new int[ships];
+            this.shipLengths = new int[ships];
+            this.remaining = new int[evidence.lengths.length];
+            int options = 0;
+            for (int length : evidence.lengths) {
+                options += 2 * length;
+            }
+            this.optionStarts = new int[options];
+            this.optionSteps = new int[options];
+            this.optionLengths = new int[options];
+        }
+
+        Sampler run(int quota, long deadline) {
+            for (; drawn < quota && System.nanoTime() < deadline; drawn++) {
+                double weight = buildSample();
+                if (weight > 0) {
+                    accepted++;
+                    for (int s = 0; s < placed; s++) {
+                        for (int i = 0, cell = starts[s]; i < shipLengths[s]; i++, cell += steps[s]) {
+                            counts[cell] += weight;
+                        }
+                    }
+                }
+                clearSample();
+            }
+            return this;
+        }
+
+        /**
+         * Builds one layout around the evidence and returns its importance weight.
+         * <p>
+         * First, while an open hit is uncovered, a ship afloat is placed through it, chosen uniformly among every
+         * ship and position that covers it without touching a blocked cell, another ship, or only hits. Then the
+         * remaining ships are drawn uniformly among the positions that avoid blocked cells, and the layout is
+         * rejected if they overlap (which includes covering a hit that already has its ship).
+         * <p>
+         * Every layout consistent with the evidence is built in exactly one way, so weighting it by the inverse
+         * of its probability makes the weighted samples uniform over those layouts. A placement through a hit
+         * has probability 1 / (number of options); the remaining ships have probability 1 / freePlacements
+         * each, a product that is the same for every layout except for the ships placed through hits. So the
+         * weight is the product, over the placements through hits, of options / freePlacements of that length.
+         *
+         * @return the weight of the layout, or 0 if it was rejected.
+         */
+        private double buildSample() {
+            System.arraycopy(evidence.afloat, 0, remaining, 0, remaining.length);
+            double weight = 1;
+            for (int hit : evidence.openHits) {
+                if (occupied[hit]) {
+                    continue;
+                }
+                int options = collectOptions(hit);
+                if (options == 0) {
+                    return 0;
+                }
+                // Pick a ship (not just a length) uniformly: each position counts once per ship of its length.
+                long total = 0;
+                for (int o = 0; o < options; o++) {
+                    total += remaining[optionLengths[o]];
+                }
+                long pick = random.nextLong(total);
+                int o = 0;
+                while (pick >= remaining[optionLengths[o]]) {
+                    pick -= remaining[optionLengths[o]];
+                    o++;
+                }
+                int d = optionLengths[o];
+                place(optionStarts[o], optionSteps[o], evidence.lengths[d]);
+                remaining[d]--;
+                weight *= (double) total / evidence.freePlacements[d];
+            }
+            for (int d = 0; d < remaining.length; d++) {
+                int length = evidence.lengths[d];
+                for (int ship = 0; ship < remaining[d]; ship++) {
+                    if (!placeFreely(length)) {
+                        return 0;
+                    }
+                }
+            }
+            return weight;
+        }
+
+        /**
+         * Lists the positions of the ships not yet placed that cover a hit, avoiding blocked cells and other ships,
+         * and not lying on hits only (such a ship would have been sunk).
+         *
+         * @return the number of positions listed.
+         */
+        private int collectOptions(int hit) {
+            int row = hit / size;
+            int col = hit % size;
+            int options = 0;
+            for (int d = 0; d < remaining.length; d++) {
+                if (remaining[d] == 0) {
+                    continue;
+                }
+                int length = evidence.lengths[d];
+                for (int offset = 0; offset < length; offset++) {
+                    if (col - offset >= 0 && col - offset + length <= size
+                            && fits(hit - offset, 1, length)) {
+                        optionStarts[options] = hit - offset;
+                        optionSteps[options] = 1;
+                        optionLengths[options++] = d;
+                    }
+                    if (row - offset >= 0 && row - offset + length <= size
+                            && fits(hit - offset * size, size, length)) {
+                        optionStarts[options] = hit - offset * size;
+                        optionSteps[options] = size;
+                        optionLengths[options++] = d;
+                    }
+                }
+            }
+            return options;
+        }
+
+        /**
+         * Checks that a position avoids blocked cells and placed ships, and does not lie on hits only.
+         */
+        private boolean fits(int start, int step, int length) {
+            boolean onHitsOnly = true;
+            for (int i = 0, cell = start; i < length; i++, cell += step) {
+                if (evidence.blocked[cell] || occupied[cell]) {
+                    return false;
+                }
+                onHitsOnly &= evidence.hit[cell];
+            }
+            return !onHitsOnly;
+        }
+
+        /**
+         * Draws a position uniformly among those avoiding blocked cells and places the ship there,
+         * unless it overlaps a ship already placed.
+         *
+         * @return false if no position was found or the ship overlaps another.
+         */
+        private boolean placeFreely(int length) {
+            if (length > size) {
+                return false;
+            }
+            for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS; attempt++) {
+                boolean horizontal = random.nextBoolean();
+                int row = random.nextInt(horizontal ? size : size - length + 1);
+                int col = random.nextInt(horizontal ? size - length + 1 : size);
+                int step = horizontal ? 1 : size;
+                int start = row * size + col;
+                boolean free = true;
+                for (int i = 0, cell = start; i < length && free; i++, cell += step) {
+                    free = !evidence.blocked[cell];
+                }
+                if (!free) {
+                    continue;
+                }
+                for (int i = 0, cell = start; i < length; i++, cell += step) {
+                    if (occupied[cell]) {
+                        return false;
+                    }
+                }
+                place(start, step, length);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Adds a ship to the current sample.
+         */
+        private void place(int start, int step, int length) {
+            for (int i = 0, cell = start; i < length; i++, cell += step) {
+                occupied[cell] = true;
+            }
+            starts[placed] = start;
+            steps[placed] = step;
+            shipLengths[placed++] = length;
+        }
+
+        /**
+         * Removes the ships of the current sample.
+         */
+        private void clearSample() {
+            for (int s = 0; s < placed; s++) {
+                for (int i = 0, cell = starts[s]; i < shipLengths[s]; i++, cell += steps[s]) {
+                    occupied[cell] = false;
+                }
+            }
+            placed = 0;
+        }
+    }
+}
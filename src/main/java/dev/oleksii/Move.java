@@ -34,6 +34,18 @@ public class Move {
         this.result = result;
     }
 
+    /**
+     * Constructs a Move targeting the given cell, using the canonical {@link Coordinate} for it.
+     *
+     * @param player the player making the move.
+     * @param row    the row index of the targeted cell.
+     * @param col    the column index of the targeted cell.
+     * @param result the result of the move ('*', 'x', or 'X').
+     */
+    public Move(Player player, int row, int col, char result) {
+        this(player, Coordinate.of(row, col), result);
+    }
+
     /**
      * Sets additional information for a move that resulted in a sunk ship.
      *
@@ -0,0 +1,209 @@
+package dev.oleksii;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A compact log of the moves of one game, each move packed into a single int in a growable array.
+ * <p>
+ * Layout of an entry, from the lowest bit: the targeted cell index ({@code row * size + col}, 20 bits),
+ * the result (2 bits: 0 miss, 1 hit, 2 sunk), the player who fired (1 bit: 0 for player 1, 1 for player 2)
+ * and, for a sink, the index of the sunk ship in the opponent's fleet (9 bits).
+ * {@link Move} objects are rebuilt on demand from the entry and the players' fleets.
+ */
+public class MoveLog implements Iterable<Move> {
+    // Bit layout of an entry.
+    private static final int CELL_BITS = 20;
+    private static final int RESULT_SHIFT = CELL_BITS;
+    private static final int PLAYER_SHIFT = RESULT_SHIFT + 2;
+    private static final int SHIP_SHIFT = PLAYER_SHIFT + 1;
+    private static final int CELL_MASK = (1 << CELL_BITS) - 1;
+    private static final int SHIP_MASK = (1 << (Integer.SIZE - SHIP_SHIFT)) - 1;
+
+    /** Largest number of cells a board may have to be logged. */
+    public static final int MAX_CELLS = 1 << CELL_BITS;
+
+    /** Largest fleet whose ships can be identified in the log. */
+    public static final int MAX_SHIPS = SHIP_MASK + 1;
+
+    // The board size, and the players in the order of the player bit.
+    private final int boardSize;
+    private final Player player1;
+    private final Player player2;
+
+    // Packed entries; the first count are in use.
+    private int[] entries = new int[64];
+    private int count;
+
+    /**
+     * Constructs an empty MoveLog.
+     *
+     * @param boardSize the size of the board the moves are made on.
+     * @param player1   the first player.
+     * @param player2   the second player.
+     * @throws IllegalArgumentException if the board has more than {@link #MAX_CELLS} cells
+     */
+    public MoveLog(int boardSize, Player player1, Player player2) {
+        if ((long) boardSize * boardSize > MAX_CELLS) {
+            throw new IllegalArgumentException("Board too large for the move log: " + boardSize);
+        }
+        this.boardSize = boardSize;
+        this.player1 = player1;
+        this.player2 = player2;
+    }
+
+    /**
+     * Appends a move. For a sink, the sunk ship is looked up on the opponent's board.
+     *
+     * @param move the move to append.
+     * @throws IllegalArgumentException if the move was made by neither player
+     */
+    public void add(Move move) {
+        boolean byPlayer2;
+        if (move.getPlayer() == player1) {
+            byPlayer2 = false;
+        } else if (move.getPlayer() == player2) {
+            byPlayer2 = true;
+        } else {
+            throw new IllegalArgumentException("Move was made by a player outside this game.");
+        }
+        Coordinate c = move.getCoordinate();
+        int shipId = 0;
+        if (move.isSunk()) {
+            Player opponent = byPlayer2 ? player1 : player2;
+            shipId = opponent.getShips().indexOf(opponent.getBoard().getShipAt(c.row(), c.col()));
+        }
+        add(byPlayer2, c.ordinal(boardSize), move.getResult(), shipId);
+    }
+
+    /**
+     * Appends a move given as primitives.
+     *
+     * @param byPlayer2 true if the second player fired.
+     * @param cell      the targeted cell index.
+     * @param result    the result ('*', 'x' or 'X').
+     * @param shipId    for a sink, the index of the sunk ship in the opponent's fleet; ignored otherwise.
+     * @throws IllegalArgumentException if the result is unknown or the ship index does not fit
+     */
+    public void add(boolean byPlayer2, int cell, char result, int shipId) {
+        int code = switch (result) {
+            case '*' -> 0;
+            case 'x' -> 1;
+            case 'X' -> 2;
+            default -> throw new IllegalArgumentException("Unknown shot result: " + result);
+        };
+        if (code == 2 && (shipId < 0 || shipId > SHIP_MASK)) {
+            throw new IllegalArgumentException("Sunk ship index out of range: " + shipId);
+        }
+        if (count == entries.length) {
+            entries = Arrays.copyOf(entries, count * 2);
+        }
+        entries[count++] = cell
+                | code << RESULT_SHIFT
+                | (byPlayer2 ? 1 : 0) << PLAYER_SHIFT
+                | (code == 2 ? shipId : 0) << SHIP_SHIFT;
+    }
+
+    /**
+     * @return the number of moves in the log.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the packed entry of a move.
+     *
+     * @param index the move number, starting at 0.
+     * @return the packed entry.
+     */
+    public int entry(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return entries[index];
+    }
+
+    /**
+     * Rebuilds the Move at the given position.
+     *
+     * @param index the move number, starting at 0.
+     * @return the move, with sunk ship information for a sink.
+     */
+    public Move get(int index) {
+        int entry = entry(index);
+        Player player = isPlayer2(entry) ? player2 : player1;
+        Move move = new Move(player, Coordinate.ofOrdinal(cell(entry), boardSize), result(entry));
+        if (move.isSunk()) {
+            Player opponent = isPlayer2(entry) ? player1 : player2;
+            Ship ship = opponent.getShips().get(shipId(entry));
+            move.setSunkShipInfo(ship.getName(), List.copyOf(ship.getCoordinates()));
+        }
+        return move;
+    }
+
+    @Override
+    public Iterator<Move> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public Move next() {
+                if (next >= count) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    /**
+     * @return the board size the cell indices refer to.
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * @param entry a packed entry.
+     * @return the targeted cell index.
+     */
+    public static int cell(int entry) {
+        return entry & CELL_MASK;
+    }
+
+    /**
+     * @param entry a packed entry.
+     * @return the result ('*', 'x' or 'X').
+     */
+    public static char result(int entry) {
+        return switch ((entry >>> RESULT_SHIFT) & 3) {
+            case 0 -> '*';
+            case 1 -> 'x';
+            default -> 'X';
+        };
+    }
+
+    /**
+     * @param entry a packed entry.
+     * @return true if the second player fired.
+     */
+    public static boolean isPlayer2(int entry) {
+        return ((entry >>> PLAYER_SHIFT) & 1) != 0;
+    }
+
+    /**
+     * @param entry a packed entry.
+     * @return for a sink, the index of the sunk ship in the opponent's fleet; 0 otherwise.
+     */
+    public static int shipId(int entry) {
+        return entry >>> SHIP_SHIFT;
+    }
+}
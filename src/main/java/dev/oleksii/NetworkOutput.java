@@ -0,0 +1,49 @@
+package dev.oleksii;
+
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * Output sending text to a remote player over a socket, one write per {@link #flush()}.
+ * <p>
+ * A failed write marks the connection as lost instead of throwing, so a disconnecting client cannot
+ * break the game for its opponent; later output is dropped and {@link #isConnected()} returns false.
+ */
+public class NetworkOutput extends BufferedOutput {
+    // Set when a write fails; read by the thread serving the opponent as well.
+    private volatile boolean connected = true;
+
+    /**
+     * Constructs an output sending to the given connected socket.
+     *
+     * @param socket the client connection.
+     * @throws IOException if the socket's stream cannot be opened
+     */
+    public NetworkOutput(Socket socket) throws IOException {
+        super(socket.getOutputStream());
+    }
+
+    @Override
+    protected void write(byte[] bytes) throws IOException {
+        if (!connected) {
+            return;
+        }
+        try {
+            super.write(bytes);
+        } catch (IOException e) {
+            connected = false;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return connected;
+    }
+
+    /**
+     * @return false once a write to the client has failed.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+}
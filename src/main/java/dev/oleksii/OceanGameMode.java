@@ -29,6 +29,8 @@ public class OceanGameMode extends GameMode {
         ships.add(new Ship("Destroyer", 2));
         ships.add(new Ship("Destroyer", 2));
 
+        // Name the mode for menus and archived games.
+        setName("Ocean");
         // Set the board size to 20 (i.e., a 20x20 grid).
         setBoardSize(20);
         // Set the list of ships for this game mode.
@@ -0,0 +1,91 @@
+package dev.oleksii;
+
+import java.util.Locale;
+
+/**
+ * Paces the pauses that give a player time to read a message, e.g. a computer's guess or the result of a shot.
+ * <p>
+ * Pauses are written in real-time milliseconds and scaled by the pacer: a console game wants them as written,
+ * a demo or a hosted game may want them shorter, and tests and simulations want none at all. The pacing of a
+ * deployment is chosen with the system property {@value #PROPERTY} ({@code real-time}, {@code fast} or
+ * {@code none}).
+ * <p>
+ * A pause blocks the calling thread. On a virtual thread, such as the connection threads of
+ * {@link GameServer}, the sleeping thread is unmounted and its carrier thread runs other games meanwhile,
+ * so a paused game holds no platform thread.
+ */
+public enum Pacer {
+    /** Pauses as long as requested. */
+    REAL_TIME(1),
+    /** Pauses a tenth of the requested time. */
+    FAST(10),
+    /** Does not pause. */
+    NONE(0);
+
+    // System property selecting the pacing.
+    public static final String PROPERTY = "battleship.pacing";
+
+    // The requested time is divided by this; 0 means no pauses.
+    private final int divisor;
+
+    Pacer(int divisor) {
+        this.divisor = divisor;
+    }
+
+    /**
+     * Returns the pacing configured for this process by the system property {@value #PROPERTY}.
+     *
+     * @return the configured pacer, or {@link #REAL_TIME} if the property is not set.
+     * @throws IllegalArgumentException if the property is not one of {@code real-time}, {@code fast}, {@code none}
+     */
+    public static Pacer configured() {
+        String value = System.getProperty(PROPERTY);
+        return value == null ? REAL_TIME : parse(value);
+    }
+
+    /**
+     * Parses a pacing name as used in the system property, e.g. {@code real-time} or {@code REAL_TIME}.
+     *
+     * @param value the name of the pacing.
+     * @return the pacer.
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static Pacer parse(String value) {
+        String name = value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        for (Pacer pacer : values()) {
+            if (pacer.name().equals(name)) {
+                return pacer;
+            }
+        }
+        throw new IllegalArgumentException("Unknown pacing: " + value + " (expected real-time, fast or none)");
+    }
+
+    /**
+     * Returns how long a pause of the given length actually lasts with this pacing.
+     *
+     * @param millis the requested length of the pause, in milliseconds.
+     * @return the paced length in milliseconds.
+     */
+    public long scale(long millis) {
+        return divisor == 0 ? 0 : millis / divisor;
+    }
+
+    /**
+     * Pauses the calling thread for the paced length of a pause.
+     * If the thread is interrupted, the pause ends early and the thread stays interrupted.
+     *
+     * @param millis the requested length of the pause, in milliseconds.
+     */
+    public void pause(long millis) {
+        long paced = scale(millis);
+        if (paced <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(paced);
+        } catch (InterruptedException e) {
+            // Let the caller (e.g. a game being shut down) see the interruption.
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package dev.oleksii;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Index of the legal ship placements (slots) on a {@link Board}, kept per ship length.
+ * <p>
+ * A slot is a starting cell plus an orientation, encoded as {@code (row * size + col) * 2 + (vertical ? 1 : 0)}.
+ * For each length the live slots are stored densely in an array together with each slot's position in it,
+ * so removing a slot is a swap with the last live slot and picking a random legal slot is a single array read.
+ * The slots of a length are enumerated the first time that length is requested; afterwards the board
+ * reports every occupied cell and only the slots crossing it are removed.
+ */
+public class PlacementIndex {
+    // The board the slots belong to.
+    private final Board board;
+    private final int size;
+
+    // Per ship length: the live slots (first liveCounts[length] entries), and each slot's position or -1.
+    private final int[][] liveSlots;
+    private final int[][] positions;
+    private final int[] liveCounts;
+
+    /**
+     * Constructs an empty index for the given board. Slots are enumerated lazily per ship length.
+     *
+     * @param board the board whose legal placements are indexed.
+     */
+    public PlacementIndex(Board board) {
+        this.board = board;
+        this.size = board.getSize();
+        this.liveSlots = new int[size + 1][];
+        this.positions = new int[size + 1][];
+        this.liveCounts = new int[size + 1];
+    }
+
+    /**
+     * Returns the number of legal placements left for a ship of the given length.
+     *
+     * @param length the ship length.
+     * @return the number of legal slots.
+     */
+    public int count(int length) {
+        if (length < 1 || length > size) {
+            return 0;
+        }
+        enumerate(length);
+        return liveCounts[length];
+    }
+
+    /**
+     * Picks a uniformly random legal slot for a ship of the given length.
+     *
+     * @param length the ship length.
+     * @param random the random generator used for the pick.
+     * @return the slot, or -1 if no legal placement is left.
+     */
+    public int randomSlot(int length, RandomGenerator random) {
+        int count = count(length);
+        if (count == 0) {
+            return -1;
+        }
+        return liveSlots[length][random.nextInt(count)];
+    }
+
+    /**
+     * Removes every slot crossing a cell that has just been occupied by a ship.
+     *
+     * @param row row index of the occupied cell.
+     * @param col column index of the occupied cell.
+     */
+    public void occupy(int row, int col) {
+        for (int length = 1; length <= size; length++) {
+            if (liveSlots[length] == null) {
+                continue; // Not enumerated yet; it will see the ship when it is.
+            }
+            int lastStart = size - length;
+            // Horizontal slots crossing the cell start in the same row, up to length - 1 columns to the left.
+            for (int start = Math.max(0, col - length + 1); start <= Math.min(col, lastStart); start++) {
+                remove(length, slot(row, start, true));
+            }
+            // Vertical slots crossing the cell start in the same column, up to length - 1 rows above.
+            for (int start = Math.max(0, row - length + 1); start <= Math.min(row, lastStart); start++) {
+                remove(length, slot(start, col, false));
+            }
+        }
+    }
+
+    /**
+     * Encodes a slot.
+     *
+     * @param row        starting row index.
+     * @param col        starting column index.
+     * @param horizontal true for a horizontal placement.
+     * @return the slot.
+     */
+    public int slot(int row, int col, boolean horizontal) {
+        return (row * size + col) * 2 + (horizontal ? 0 : 1);
+    }
+
+    /**
+     * @param slot a slot.
+     * @return the starting row index of the slot.
+     */
+    public int row(int slot) {
+        return (slot >>> 1) / size;
+    }
+
+    /**
+     * @param slot a slot.
+     * @return the starting column index of the slot.
+     */
+    public int col(int slot) {
+        return (slot >>> 1) % size;
+    }
+
+    /**
+     * @param slot a slot.
+     * @return true if the slot is horizontal.
+     */
+    public static boolean isHorizontal(int slot) {
+        return (slot & 1) == 0;
+    }
+
+    /**
+     * Builds the live slots of a length from the board's current ships, if not done yet.
+     */
+    private void enumerate(int length) {
+        if (liveSlots[length] != null) {
+            return;
+        }
+        int[] slots = new int[2 * size * (size - length + 1)];
+        int[] slotPositions = new int[2 * size * size];
+        Arrays.fill(slotPositions, -1);
+        int count = 0;
+        for (int slot = 0; slot < slotPositions.length; slot++) {
+            if (board.canPlaceShip(row(slot), col(slot), length, isHorizontal(slot), false)) {
+                slotPositions[slot] = count;
+                slots[count++] = slot;
+            }
+        }
+        liveSlots[length] = slots;
+        positions[length] = slotPositions;
+        liveCounts[length] = count;
+    }
+
+    /**
+     * Removes a slot (if still live) by moving the last live slot into its position.
+     */
+    private void remove(int length, int slot) {
+        int[] slotPositions = positions[length];
+        int position = slotPositions[slot];
+        if (position < 0) {
+            return;
+        }
+        int[] slots = liveSlots[length];
+        int last = slots[--liveCounts[length]];
+        slots[position] = last;
+        slotPositions[last] = position;
+        slotPositions[slot] = -1;
+    }
+}
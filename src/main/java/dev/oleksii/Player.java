@@ -1,15 +1,27 @@
 package dev.oleksii;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Scanner;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract base class for all players in the game.
- * This class encapsulates common functionality such as board setup,
- * storing ships, and recording move history.
+ * This class encapsulates common functionality such as board setup
+ * and storing ships. Moves are recorded by the game in its {@link MoveLog}.
  */
 public abstract class Player {
+    // Time taken by setup, mostly placing the fleet.
+    private static final Metrics.Histogram SETUP_TIME = Metrics.global().histogram(
+            "battleship_player_setup_seconds", "Time taken by Player.setup, including ship placement.");
+    private static final Metrics.Counter PLACEMENT_RESTARTS = Metrics.global().counter(
+            "battleship_placement_restarts_total",
+            "Times a player's board was cleared to place its fleet again.");
+
+    // Maximum number of attempts at placing the whole fleet ship by ship.
+    static final int PLACEMENT_ATTEMPTS = 100;
+
     // The player's name. This is set in the constructor and never changes.
     private final String name;
 
@@ -19,8 +31,11 @@ public abstract class Player {
     // The list of ships belonging to player.
     private List<Ship> ships;
 
-    // The history of moves made by this player.
-    private final List<Move> moveHistory = new ArrayList<>();
+    // Where this player's boards, messages and prompts are shown.
+    private GameOutput output = GameOutput.console();
+
+    // Paces the pauses that let the player read messages.
+    private Pacer pacer = Pacer.configured();
 
     /**
      * Constructs a Player with the given name.
@@ -39,6 +54,9 @@ public abstract class Player {
      * @param scanner the Scanner used for user input.
      */
     public void setup(GameMode mode, Scanner scanner) {
+        GameEvents.Setup event = new GameEvents.Setup();
+        event.begin();
+        long start = Metrics.start();
         // Initialise the player's board with the board size from the game mode.
         setBoard(new Board(mode.getBoardSize()));
 
@@ -55,6 +73,14 @@ public abstract class Player {
 
         // After placement, clear the ship markers from the display (if needed for gameplay).
         getBoard().clearShipsFromDisplay();
+        SETUP_TIME.recordSince(start);
+        if (event.shouldCommit()) {
+            event.mode = mode.getName();
+            event.boardSize = mode.getBoardSize();
+            event.playerType = GameEvents.playerType(this);
+            event.ships = getShips().size();
+            event.commit();
+        }
     }
 
     /**
@@ -75,15 +101,6 @@ public abstract class Player {
      */
     public abstract Move takeTurn(Scanner scanner, Player opponent);
 
-    /**
-     * Adds a move to the player's move history.
-     *
-     * @param move the move to add.
-     */
-    public void addMove(Move move) {
-        moveHistory.add(move);
-    }
-
     /**
      * Returns the list of ships belonging to the player.
      *
@@ -111,6 +128,15 @@ public abstract class Player {
         return board;
     }
 
+    /**
+     * Returns the health of the player's fleet: ships afloat and hull cells left.
+     *
+     * @return the fleet state of the player's board.
+     */
+    public FleetState getFleetState() {
+        return board.getFleetState();
+    }
+
     /**
      * Sets the player's board.
      *
@@ -126,4 +152,85 @@ public abstract class Player {
     public String getName() {
         return name;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the output this player's boards, messages and prompts are shown on.
+     *
+     * @return the output; the console unless another one was set.
+     */
+    public GameOutput getOutput() {
+        return output;
+    }
+
+    /**
+     * Sets the output this player's boards, messages and prompts are shown on.
+     *
+     * @param output the output to use.
+     */
+    public void setOutput(GameOutput output) {
+        this.output = output;
+    }
+
+    /**
+     * @return the pacer of this player's pauses; the configured one ({@link Pacer#configured()}) unless set.
+     */
+    public Pacer getPacer() {
+        return pacer;
+    }
+
+    /**
+     * Sets the pacer of this player's pauses, e.g. {@link Pacer#NONE} for games nobody watches.
+     *
+     * @param pacer the pacer to use.
+     */
+    public void setPacer(Pacer pacer) {
+        this.pacer = pacer;
+    }
+
+    /**
+     * Pauses so the player can read a message before the screen changes, as paced by {@link #getPacer()}.
+     *
+     * @param millis the length of the pause in real time, in milliseconds.
+     */
+    protected void pause(long millis) {
+        pacer.pause(millis);
+    }
+
+    /**
+     * Places the fleet at random: copied from a ready-made layout if one is given, or else ship by ship.
+     * Ships are placed longest first, each at a uniformly random legal position picked from the board's
+     * placement index. If the ships placed so far leave no room for the next one, the board is cleared and
+     * placement starts over, up to a maximum number of attempts.
+     *
+     * @param layout a uniform layout of the fleet, or null to place ships one by one.
+     * @param random the random generator used for ship placement.
+     * @return true if the whole fleet was placed; false if every attempt ran out of room.
+     */
+    protected boolean placeShipsRandomly(FleetLayout layout, RandomGenerator random) {
+        if (layout != null) {
+            board.applyLayout(layout, ships);
+            return true;
+        }
+        // Longer ships are the hardest to fit, so they go first.
+        List<Ship> byLength = new ArrayList<>(ships);
+        byLength.sort(Comparator.comparingInt(Ship::getSize).reversed());
+
+        for (int attempt = 1; attempt <= PLACEMENT_ATTEMPTS; attempt++) {
+            if (attempt > 1) {
+                PLACEMENT_RESTARTS.increment();
+                setBoard(new Board(board.getSize()));  // Start over on an empty board.
+            }
+            boolean placedAll = true;
+            for (Ship ship : byLength) {
+                if (!board.placeShipRandomly(ship, random)) {
+                    placedAll = false;
+                    break;
+                }
+            }
+            if (placedAll) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.oleksii;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Targeting strategy that fires at uniformly random cells which have not been targeted yet.
+ */
+public class RandomTargeting implements TargetingStrategy {
+    // Cells drawn again because they had already been targeted.
+    private static final Metrics.Counter REJECTIONS = Metrics.global().counter(
+            "battleship_random_target_rejections_total", "Targeted cells redrawn while picking a random target.");
+
+    // Random generator used for picking cells.
+    private final RandomGenerator random;
+
+    /**
+     * Constructs a RandomTargeting strategy.
+     *
+     * @param random the random generator used for picking cells.
+     */
+    public RandomTargeting(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public Coordinate nextTarget(Board opponentBoard, List<Ship> opponentShips) {
+        int boardSize = opponentBoard.getSize();
+        int row, col;
+        int rejections = -1;
+
+        // Loop until a cell that hasn't been hit is found.
+        do {
+            row = random.nextInt(boardSize);
+            col = random.nextInt(boardSize);
+            rejections++;
+        } while (opponentBoard.isTargeted(row, col));
+
+        REJECTIONS.add(rejections);
+        return Coordinate.of(row, col);
+    }
+}
@@ -0,0 +1,96 @@
+package dev.oleksii;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Scanner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A human player connected over the network.
+ * <p>
+ * Guesses are read from the player's own connection and parsed exactly as {@link HumanPlayer} parses them
+ * (e.g. {@code A5}); boards, messages and prompts are sent back over the same connection through a
+ * {@link NetworkOutput}. The fleet is placed randomly, so that neither player of a match waits for the other
+ * to arrange theirs.
+ */
+public final class RemotePlayer extends HumanPlayer implements AutoCloseable {
+    // The client connection and the guesses read from it.
+    private final Socket socket;
+    private final Scanner input;
+
+    // Length of the pauses after a shot, in milliseconds, instead of the console's.
+    private final long pauseMillis;
+
+    /**
+     * Constructs a RemotePlayer for an open connection.
+     *
+     * @param name        the name of the player.
+     * @param socket      the client connection.
+     * @param input       the scanner reading the connection's input.
+     * @param output      the output writing to the connection.
+     * @param pauseMillis the length of the pauses after a shot, in milliseconds.
+     */
+    public RemotePlayer(String name, Socket socket, Scanner input, NetworkOutput output, long pauseMillis) {
+        super(name);
+        this.socket = socket;
+        this.input = input;
+        this.pauseMillis = pauseMillis;
+        setOutput(output);
+    }
+
+    /**
+     * Places the fleet at a uniformly random layout, or ship by ship on crowded boards where uniform layouts
+     * are too rare to find quickly, as a {@link ComputerPlayer} does.
+     *
+     * @param scanner not used; the player is not asked for a layout.
+     * @throws IllegalStateException if the fleet does not fit on the board
+     */
+    @Override
+    public void placeShips(Scanner scanner) {
+        int maxLayoutDraws = 1000;  // Maximum number of whole-fleet draws for a uniform layout.
+        RandomGenerator random = ThreadLocalRandom.current();
+        FleetLayout layout = new FleetLayoutGenerator(getBoard().getSize(), getShips()).tryNext(random, maxLayoutDraws);
+        if (!placeShipsRandomly(layout, random)) {
+            throw new IllegalStateException(
+                    "Could not place the fleet after " + PLACEMENT_ATTEMPTS + " attempts.");
+        }
+    }
+
+    /**
+     * Reads guesses from the player's connection until a valid one is entered.
+     *
+     * @param scanner  not used; guesses come from the player's own connection.
+     * @param opponent the opposing player whose board is targeted.
+     * @return a Move object representing the shot taken.
+     * @throws java.util.NoSuchElementException if the player disconnects
+     */
+    @Override
+    public Move takeTurn(Scanner scanner, Player opponent) {
+        return super.takeTurn(input, opponent);
+    }
+
+    @Override
+    protected void pause(long millis) {
+        super.pause(Math.min(millis, pauseMillis));
+    }
+
+    /**
+     * @return false once sending to the player has failed.
+     */
+    public boolean isConnected() {
+        return ((NetworkOutput) getOutput()).isConnected() && !socket.isClosed();
+    }
+
+    /**
+     * Closes the connection.
+     */
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // The connection is gone either way.
+        }
+    }
+}
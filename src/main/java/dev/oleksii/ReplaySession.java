@@ -0,0 +1,224 @@
+package dev.oleksii;
+
+/**
+ * Steps through a finished game on a pair of fresh boards, forwards, backwards or straight to any move.
+ * <p>
+ * While the session is created, the whole game is played through once and the shot planes of both boards
+ * are saved every {@code checkpointInterval} moves. Seeking restores the last checkpoint at or before
+ * the target and re-applies at most {@code checkpointInterval - 1} moves, so any position is reached in
+ * bounded time however long the game is.
+ * <p>
+ * A checkpoint costs up to a bitboard per shot plane, so on large boards with long games the interval is
+ * chosen from the board area and the number of moves to keep all checkpoints within
+ * {@value #CHECKPOINT_BUDGET} longs (8 MiB); seeking then re-applies more moves instead.
+ */
+public final class ReplaySession {
+    // Upper bound on the longs held by the checkpoints of a session whose interval is chosen automatically.
+    static final int CHECKPOINT_BUDGET = 1 << 20;
+
+    // Shortest interval chosen automatically: on small boards checkpoints are cheap and seeks instant.
+    private static final int MIN_CHECKPOINT_INTERVAL = 16;
+
+    // The game being replayed and its moves.
+    private final Game game;
+    private final MoveLog moves;
+    private final int checkpointInterval;
+
+    // Boards showing the shots fired at each player so far.
+    private final Board board1;
+    private final Board board2;
+
+    // Shot planes of both boards after every checkpointInterval-th move (index 0 is the empty board).
+    private final long[][] checkpoints1;
+    private final long[][] checkpoints2;
+
+    // Number of moves currently applied to the boards.
+    private int position;
+
+    /**
+     * Constructs a ReplaySession positioned before the first move, with the shortest checkpoint interval
+     * whose checkpoints fit in {@link #CHECKPOINT_BUDGET}.
+     *
+     * @param game the game to replay.
+     */
+    public ReplaySession(Game game) {
+        this(game, checkpointInterval(game.getMode().getBoardSize(), game.getMoveLog().size()));
+    }
+
+    /**
+     * Constructs a ReplaySession positioned before the first move.
+     *
+     * @param game               the game to replay.
+     * @param checkpointInterval the number of moves between saved board states.
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public ReplaySession(Game game, int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive.");
+        }
+        this.game = game;
+        this.moves = game.getMoveLog();
+        this.checkpointInterval = checkpointInterval;
+        int boardSize = game.getMode().getBoardSize();
+        this.board1 = new Board(boardSize);
+        this.board2 = new Board(boardSize);
+
+        // Play the whole game once, saving the boards at every checkpoint.
+        int count = moves.size() / checkpointInterval + 1;
+        checkpoints1 = new long[count][];
+        checkpoints2 = new long[count][];
+        for (int move = 0; ; move++) {
+            if (move % checkpointInterval == 0) {
+                checkpoints1[move / checkpointInterval] = board1.snapshotShots();
+                checkpoints2[move / checkpointInterval] = board2.snapshotShots();
+            }
+            if (move == moves.size()) {
+                break;
+            }
+            apply(move);
+        }
+        position = moves.size();
+        seek(0);
+    }
+
+    /**
+     * Moves the boards to the state after the given number of moves.
+     *
+     * @param target the number of moves to have applied, from 0 to {@link #size()}.
+     * @throws IllegalArgumentException if the target is outside the game
+     */
+    public void seek(int target) {
+        if (target < 0 || target > moves.size()) {
+            throw new IllegalArgumentException("Move number out of range: " + target);
+        }
+        // Moving forward within the current checkpoint span only needs the moves in between.
+        if (target < position || target / checkpointInterval != position / checkpointInterval) {
+            int checkpoint = target / checkpointInterval;
+            board1.restoreShots(checkpoints1[checkpoint]);
+            board2.restoreShots(checkpoints2[checkpoint]);
+            position = checkpoint * checkpointInterval;
+        }
+        while (position < target) {
+            apply(position++);
+        }
+    }
+
+    /**
+     * Applies the next move, if there is one.
+     *
+     * @return true if a move was applied.
+     */
+    public boolean next() {
+        if (position == moves.size()) {
+            return false;
+        }
+        seek(position + 1);
+        return true;
+    }
+
+    /**
+     * Takes back the last applied move, if there is one.
+     *
+     * @return true if a move was taken back.
+     */
+    public boolean previous() {
+        if (position == 0) {
+            return false;
+        }
+        seek(position - 1);
+        return true;
+    }
+
+    /**
+     * @return the number of moves currently applied.
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * @return the number of moves in the game.
+     */
+    public int size() {
+        return moves.size();
+    }
+
+    /**
+     * @return the last applied move, or null before the first move.
+     */
+    public Move lastMove() {
+        return position == 0 ? null : moves.get(position - 1);
+    }
+
+    /**
+     * @return the board showing the shots fired at the first player.
+     */
+    public Board getBoard1() {
+        return board1;
+    }
+
+    /**
+     * @return the board showing the shots fired at the second player.
+     */
+    public Board getBoard2() {
+        return board2;
+    }
+
+    /**
+     * @return the game being replayed.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * @return the number of longs held by the checkpoints of both boards.
+     */
+    long checkpointLongs() {
+        long total = 0;
+        for (int i = 0; i < checkpoints1.length; i++) {
+            total += checkpoints1[i].length + checkpoints2[i].length;
+        }
+        return total;
+    }
+
+    /**
+     * Chooses a checkpoint interval for a game so that its checkpoints fit in {@link #CHECKPOINT_BUDGET}.
+     * Each of the three shot planes of a board is saved as at most its bitboard, or one long per shot cell
+     * while it is sparse, plus a header.
+     *
+     * @param boardSize the dimension of the board.
+     * @param moves     the number of moves in the game.
+     * @return the interval, at least {@value #MIN_CHECKPOINT_INTERVAL} moves.
+     */
+    static int checkpointInterval(int boardSize, int moves) {
+        long words = ((long) boardSize * boardSize + 63) >>> 6;
+        long perCheckpoint = 2 * 3 * (1 + Math.min(words, moves));
+        // One checkpoint is always taken before the first move.
+        long checkpoints = Math.max(1, CHECKPOINT_BUDGET / perCheckpoint - 1);
+        return (int) Math.max(MIN_CHECKPOINT_INTERVAL, (moves + checkpoints - 1) / checkpoints);
+    }
+
+    /**
+     * Applies one move to the board of the player who was fired at.
+     * For a sunk ship, every cell of that ship is marked.
+     */
+    private void apply(int index) {
+        int entry = moves.entry(index);
+        boolean byPlayer2 = MoveLog.isPlayer2(entry);
+        Board board = byPlayer2 ? board1 : board2;
+        int boardSize = moves.getBoardSize();
+        char result = MoveLog.result(entry);
+        if (result == 'X') {
+            Player opponent = byPlayer2 ? game.getPlayer1() : game.getPlayer2();
+            Ship ship = opponent.getShips().get(MoveLog.shipId(entry));
+            for (int i = 0; i < ship.getSize(); i++) {
+                board.updateCell(ship.isHorizontal() ? ship.getRow() : ship.getRow() + i,
+                        ship.isHorizontal() ? ship.getCol() + i : ship.getCol(), 'X');
+            }
+        } else {
+            int cell = MoveLog.cell(entry);
+            board.updateCell(cell / boardSize, cell % boardSize, result);
+        }
+    }
+}
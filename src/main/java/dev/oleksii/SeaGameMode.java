@@ -24,6 +24,8 @@ public class SeaGameMode extends GameMode {
         ships.add(new Ship("Submarine", 3));
         ships.add(new Ship("Destroyer", 2));
 
+        // Name the mode for menus and archived games.
+        setName("Sea");
         // Set the board size to 10 (i.e., a 10x10 grid).
         setBoardSize(10);
         // Set the list of ships for this game mode.
@@ -1,30 +1,46 @@
 package dev.oleksii;
 
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
+/**
+ * A ship of the fleet, stored as primitives: its origin, orientation and size, plus a bitmask of the hit cells
+ * (bit i set when the i-th cell from the origin has been hit). Checking a hit or whether the ship is sunk is a
+ * couple of comparisons and never allocates; the ship's coordinates are only materialised when iterated.
+ */
 public class Ship {
+    // The largest ship size: one bit of the hit mask per cell
+    public static final int MAX_SIZE = Long.SIZE;
+
     // The ship's name (e.g., "Carrier", "Battleship")
     private final String name;
     // The ship's size, representing how many grid cells it occupies
     private final int size;
-    // The set of coordinates where the ship is located on the board
-    private final Set<Coordinate> coordinates;
-    // The set of coordinates that have been hit on this ship
-    private final Set<Coordinate> hits;
+    // The starting cell and orientation of the ship; only meaningful once the ship is placed
+    private int row;
+    private int col;
+    private boolean horizontal;
+    private boolean placed;
+    // Bit i is set when the i-th cell from the starting cell has been hit
+    private long hits;
+    // Read-only view of the occupied cells, backed by the fields above
+    private final Set<Coordinate> coordinates = new CoordinateView();
 
     /**
      * Constructs a Ship with a given name and size.
      *
      * @param name The name of the ship.
-     * @param size The number of grid cells the ship occupies.
+     * @param size The number of grid cells the ship occupies (at most 64).
+     * @throws IllegalArgumentException if the size is negative or larger than 64
      */
     public Ship(String name, int size) {
+        if (size < 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Ship size must be between 0 and " + MAX_SIZE + ": " + size);
+        }
         this.name = name;
         this.size = size;
-        // Initialize the sets for coordinates and hits
-        coordinates = new HashSet<>();
-        hits = new HashSet<>();
     }
 
     /**
@@ -35,45 +51,49 @@ public class Ship {
      * @param col The column index of the guess.
      */
     public void checkHit(int row, int col) {
-        // Create a Coordinate instance from the guess
-        Coordinate guess = new Coordinate(row, col);
-        // If the ship's coordinates contain this guess, record it as a hit
-        if (coordinates.contains(guess)) {
-            hits.add(guess);
+        int offset = offsetOf(row, col);
+        // If the guess lies on the ship, set the bit of that cell
+        if (offset >= 0) {
+            hits |= 1L << offset;
         }
     }
 
+    /**
+     * Checks whether the ship occupies the given cell.
+     *
+     * @param row The row index of the cell.
+     * @param col The column index of the cell.
+     * @return True if the cell is part of the ship; false otherwise.
+     */
+    public boolean occupies(int row, int col) {
+        return offsetOf(row, col) >= 0;
+    }
+
     /**
      * Sets the ship's coordinates on the board based on the starting position and orientation.
-     * This method calculates and adds all coordinates the ship occupies.
+     * Calling it again repositions the ship.
      *
      * @param row        The starting row index.
      * @param col        The starting column index.
      * @param horizontal True if the ship is placed horizontally; false if vertically.
      */
     public void setCoordinates(int row, int col, boolean horizontal) {
-        // Clear any existing coordinates (optional, if repositioning is allowed)
-        coordinates.clear();
-        // Calculate and add each coordinate based on the ship's size and orientation.
-        for (int i = 0; i < size; i++) {
-            if (horizontal) {
-                // For horizontal placement, increase column index
-                coordinates.add(new Coordinate(row, col + i));
-            } else {
-                // For vertical placement, increase row index
-                coordinates.add(new Coordinate(row + i, col));
-            }
-        }
+        // Only the starting cell and orientation are stored; the cells follow from the size.
+        this.row = row;
+        this.col = col;
+        this.horizontal = horizontal;
+        this.placed = true;
     }
 
     /**
      * Determines if the ship is sunk.
-     * A ship is considered sunk if the number of hits equals its size.
+     * A ship is considered sunk if every one of its cells has been hit.
      *
      * @return True if the ship is sunk; false otherwise.
      */
     public boolean isSunk() {
-        return hits.size() == size;
+        long allCells = size == Long.SIZE ? -1L : (1L << size) - 1;
+        return hits == allCells;
     }
 
     /**
@@ -91,9 +111,91 @@ public class Ship {
     }
 
     /**
+     * @return The starting row index of the ship.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * @return The starting column index of the ship.
+     */
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * @return True if the ship is placed horizontally; false if vertically.
+     */
+    public boolean isHorizontal() {
+        return horizontal;
+    }
+
+    /**
+     * @return True once the ship has been given coordinates.
+     */
+    public boolean isPlaced() {
+        return placed;
+    }
+
+    /**
+     * Returns a read-only view of the coordinates where the ship is placed (empty before placement).
+     * The view follows later calls to {@link #setCoordinates}; coordinates are created only while iterating.
+     *
      * @return A set of coordinates where the ship is placed.
      */
     public Set<Coordinate> getCoordinates() {
         return coordinates;
     }
+
+    /**
+     * Returns how far a cell lies from the starting cell along the ship.
+     *
+     * @return the offset of the cell, or -1 if the ship does not occupy it.
+     */
+    private int offsetOf(int row, int col) {
+        if (!placed) {
+            return -1;
+        }
+        int offset = horizontal ? col - this.col : row - this.row;
+        boolean onLine = horizontal ? row == this.row : col == this.col;
+        return onLine && offset >= 0 && offset < size ? offset : -1;
+    }
+
+    /**
+     * Set view over the ship's cells, computed from its starting cell, orientation and size.
+     */
+    private final class CoordinateView extends AbstractSet<Coordinate> {
+        @Override
+        public int size() {
+            return placed ? size : 0;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Coordinate c && occupies(c.row(), c.col());
+        }
+
+        @Override
+        public Iterator<Coordinate> iterator() {
+            int count = size();
+            return new Iterator<>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < count;
+                }
+
+                @Override
+                public Coordinate next() {
+                    if (next >= count) {
+                        throw new NoSuchElementException();
+                    }
+                    int i = next++;
+                    return horizontal ? Coordinate.of(row, col + i) : Coordinate.of(row + i, col);
+                }
+            };
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package dev.oleksii;
+
+/**
+ * An update sent to the spectators of a game: a snapshot of both boards when subscribing,
+ * then one delta per changed cell and per sunk ship, and finally the end of the game.
+ * <p>
+ * Each event has a one-line, tab-separated text form for streaming to remote spectators.
+ * Boards are numbered 1 and 2 and cells are indexed {@code row * boardSize + col}.
+ */
+public sealed interface SpectatorEvent {
+
+    /**
+     * @return the event as one line of text, without a line terminator.
+     */
+    String toLine();
+
+    /**
+     * The state of both boards when a spectator subscribes.
+     *
+     * @param player1   the name of the first player.
+     * @param player2   the name of the second player.
+     * @param boardSize the board size.
+     * @param board1    the symbols of the first board's cells, in cell order.
+     * @param board2    the symbols of the second board's cells, in cell order.
+     */
+    record Snapshot(String player1, String player2, int boardSize, String board1, String board2)
+            implements SpectatorEvent {
+        @Override
+        public String toLine() {
+            return "SNAPSHOT\t" + boardSize + '\t' + player1 + '\t' + player2 + '\t' + board1 + '\t' + board2;
+        }
+    }
+
+    /**
+     * A cell of a board showing a new symbol.
+     *
+     * @param board  the board, 1 or 2.
+     * @param cell   the cell index.
+     * @param symbol the new symbol.
+     */
+    record CellUpdate(int board, int cell, char symbol) implements SpectatorEvent {
+        @Override
+        public String toLine() {
+            return "CELL\t" + board + '\t' + cell + '\t' + symbol;
+        }
+    }
+
+    /**
+     * A ship that was sunk; all of its cells now show {@code X}.
+     *
+     * @param board the board, 1 or 2.
+     * @param name  the ship's name.
+     * @param cells the ship's cell indices.
+     */
+    record Sunk(int board, String name, int[] cells) implements SpectatorEvent {
+        @Override
+        public String toLine() {
+            StringBuilder line = new StringBuilder("SUNK\t").append(board).append('\t').append(name).append('\t');
+            for (int i = 0; i < cells.length; i++) {
+                line.append(i == 0 ? "" : ",").append(cells[i]);
+            }
+            return line.toString();
+        }
+    }
+
+    /**
+     * The end of the game; no events follow.
+     *
+     * @param winner the winner's name, or null if the game was abandoned.
+     */
+    record GameOver(String winner) implements SpectatorEvent {
+        @Override
+        public String toLine() {
+            return "END\t" + (winner != null ? winner : "");
+        }
+    }
+}
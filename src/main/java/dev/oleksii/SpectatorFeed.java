@@ -0,0 +1,257 @@
+package dev.oleksii;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fans a game's board updates out to any number of spectators.
+ * <p>
+ * A subscriber receives a snapshot of both boards followed by the deltas of every later shot, in order.
+ * The feed keeps its own hit, miss and sunk planes of both boards ({@link CellSet}s, which stay sparse on large
+ * boards), so snapshots never touch the boards the game is playing on and the feed's memory grows with
+ * the shots rather than with the boards.
+ * Each subscriber has a bounded queue that the game thread only ever offers to, so a slow spectator can never
+ * hold up the game: a subscriber whose queue is full is evicted, and its stream ends, rather than receiving a
+ * stream with gaps. Subscribers drain their queues on their own threads through {@link Subscription#next()}.
+ */
+public class SpectatorFeed {
+    // Names and board size sent in snapshots.
+    private final String player1;
+    private final String player2;
+    private final int size;
+
+    // Per-subscriber queue capacity.
+    private final int capacity;
+
+    // The shots spectators currently see on each board (index = board - 1), and the live subscriptions;
+    // guarded by this.
+    private final CellSet[] hitPlanes = new CellSet[2];
+    private final CellSet[] missPlanes = new CellSet[2];
+    private final CellSet[] sunkPlanes = new CellSet[2];
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private SpectatorEvent.GameOver end;
+
+    // Number of subscribers evicted for falling behind.
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a feed starting from the shots already on the boards.
+     * The boards must not be fired at while the feed is being constructed.
+     *
+     * @param player1  the name of the first player.
+     * @param board1   the first player's board.
+     * @param player2  the name of the second player.
+     * @param board2   the second player's board.
+     * @param capacity the number of events a subscriber may fall behind before it is evicted.
+     * @throws IllegalArgumentException if the capacity is less than 2
+     */
+    public SpectatorFeed(String player1, Board board1, String player2, Board board2, int capacity) {
+        this(player1, player2, board1.getSize(), capacity);
+        copyShots(board1, 0);
+        copyShots(board2, 1);
+    }
+
+    /**
+     * Constructs a feed starting from two boards that have not been fired at.
+     *
+     * @param player1   the name of the first player.
+     * @param player2   the name of the second player.
+     * @param boardSize the board size.
+     * @param capacity  the number of events a subscriber may fall behind before it is evicted.
+     * @throws IllegalArgumentException if the capacity is less than 2
+     */
+    public SpectatorFeed(String player1, String player2, int boardSize, int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Subscriber capacity must be at least 2.");
+        }
+        this.player1 = player1;
+        this.player2 = player2;
+        this.size = boardSize;
+        this.capacity = capacity;
+        for (int board = 0; board < 2; board++) {
+            hitPlanes[board] = new CellSet(size * size);
+            missPlanes[board] = new CellSet(size * size);
+            sunkPlanes[board] = new CellSet(size * size);
+        }
+    }
+
+    /**
+     * Subscribes a spectator. Its first event is a snapshot of both boards.
+     *
+     * @return the subscription to read events from.
+     */
+    public synchronized Subscription subscribe() {
+        Subscription subscription = new Subscription(capacity);
+        subscription.queue.add(new SpectatorEvent.Snapshot(player1, player2, size, symbols(0), symbols(1)));
+        if (end != null) {
+            subscription.queue.add(end);
+        } else {
+            subscriptions.add(subscription);
+        }
+        return subscription;
+    }
+
+    /**
+     * Publishes the result of a shot.
+     *
+     * @param board  the board that was fired at, 1 or 2.
+     * @param row    row index of the shot.
+     * @param col    column index of the shot.
+     * @param result the result of the shot ('*', 'x' or 'X').
+     * @param sunk   the ship that was sunk, or null unless the result is 'X'.
+     */
+    public synchronized void publishShot(int board, int row, int col, char result, Ship sunk) {
+        int cell = row * size + col;
+        if (result == '*') {
+            missPlanes[board - 1].add(cell);
+        } else {
+            hitPlanes[board - 1].add(cell);
+        }
+        publish(new SpectatorEvent.CellUpdate(board, cell, result));
+        if (sunk != null) {
+            int step = sunk.isHorizontal() ? 1 : size;
+            int[] cells = new int[sunk.getSize()];
+            for (int i = 0, shipCell = sunk.getRow() * size + sunk.getCol(); i < cells.length; i++, shipCell += step) {
+                cells[i] = shipCell;
+                hitPlanes[board - 1].add(shipCell);
+                sunkPlanes[board - 1].add(shipCell);
+            }
+            publish(new SpectatorEvent.Sunk(board, sunk.getName(), cells));
+        }
+    }
+
+    /**
+     * Publishes the end of the game and releases all subscribers once they have read it.
+     *
+     * @param winner the winner's name, or null if the game was abandoned.
+     */
+    public synchronized void finish(String winner) {
+        if (end != null) {
+            return;
+        }
+        end = new SpectatorEvent.GameOver(winner);
+        publish(end);
+        subscriptions.clear();
+    }
+
+    /**
+     * @return the number of subscribers receiving events.
+     */
+    public synchronized int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * @return the number of subscribers evicted for falling behind.
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Offers an event to every subscriber, evicting those whose queue is full.
+     */
+    private void publish(SpectatorEvent event) {
+        for (Iterator<Subscription> it = subscriptions.iterator(); it.hasNext(); ) {
+            Subscription subscription = it.next();
+            if (subscription.closed) {
+                it.remove();
+            } else if (!subscription.queue.offer(event)) {
+                subscription.evicted = true;
+                subscription.closed = true;
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Copies the hit, miss and sunk planes of a board into the feed's planes of the given board.
+     */
+    private void copyShots(Board board, int index) {
+        long[] shots = board.snapshotShots();
+        int offset = hitPlanes[index].decode(shots, 0);
+        offset = missPlanes[index].decode(shots, offset);
+        sunkPlanes[index].decode(shots, offset);
+    }
+
+    /**
+     * Spells out the symbols of a board's cells, in cell order, from the feed's planes.
+     */
+    private String symbols(int index) {
+        char[] symbols = new char[size * size];
+        for (int cell = 0; cell < symbols.length; cell++) {
+            symbols[cell] = sunkPlanes[index].contains(cell) ? 'X'
+                    : hitPlanes[index].contains(cell) ? 'x'
+                    : missPlanes[index].contains(cell) ? '*' : '-';
+        }
+        return new String(symbols);
+    }
+
+    /**
+     * A spectator's stream of events.
+     */
+    public static final class Subscription implements AutoCloseable {
+        private final BlockingQueue<SpectatorEvent> queue;
+        // Set by the feed on eviction, or by the spectator on close.
+        private volatile boolean closed;
+        private volatile boolean evicted;
+        // Set once the end of the game has been read.
+        private boolean finished;
+
+        private Subscription(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /**
+         * Waits for the next event.
+         *
+         * @return the next event, or null once the stream has ended (after the game over event,
+         * on eviction, or after {@link #close()}).
+         * @throws InterruptedException if the thread is interrupted while waiting
+         */
+        public SpectatorEvent next() throws InterruptedException {
+            if (finished || closed) {
+                return null;
+            }
+            SpectatorEvent event = queue.take();
+            finished = event instanceof SpectatorEvent.GameOver;
+            return closed ? null : event;
+        }
+
+        /**
+         * Returns the next event if one is ready, for draining events in batches.
+         *
+         * @return the next event, or null if none is ready or the stream has ended.
+         */
+        public SpectatorEvent poll() {
+            if (finished || closed) {
+                return null;
+            }
+            SpectatorEvent event = queue.poll();
+            finished = event instanceof SpectatorEvent.GameOver;
+            return closed ? null : event;
+        }
+
+        /**
+         * @return true if the feed evicted this subscriber for falling behind.
+         */
+        public boolean isEvicted() {
+            return evicted;
+        }
+
+        /**
+         * Unsubscribes; the feed drops the subscription at its next event.
+         * Must be called from the thread reading the events, as a blocked {@link #next()} is not woken.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            queue.clear();
+        }
+    }
+}
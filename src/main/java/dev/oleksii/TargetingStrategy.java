@@ -0,0 +1,32 @@
+package dev.oleksii;
+
+import java.util.List;
+
+/**
+ * Strategy used by a {@link ComputerPlayer} to choose where to fire.
+ * A strategy only relies on public information: the shots on the opponent's board
+ * and the opponent's fleet (ship sizes, and which ships have been sunk).
+ * Implementations may keep state between shots; a new strategy should be used for each game.
+ */
+public interface TargetingStrategy {
+
+    /**
+     * Chooses the next cell to fire at. The returned cell must not have been targeted before.
+     *
+     * @param opponentBoard the board being targeted.
+     * @param opponentShips the opponent's fleet.
+     * @return the coordinate to fire at.
+     */
+    Coordinate nextTarget(Board opponentBoard, List<Ship> opponentShips);
+
+    /**
+     * Informs the strategy about the result of a shot it chose.
+     *
+     * @param opponentBoard the board that was targeted.
+     * @param row           row index of the targeted cell.
+     * @param col           column index of the targeted cell.
+     * @param result        the result of the shot ('*' for a miss, 'x' for a hit, 'X' if a ship was sunk).
+     */
+    default void recordShot(Board opponentBoard, int row, int col, char result) {
+    }
+}
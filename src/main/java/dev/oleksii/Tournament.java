@@ -0,0 +1,125 @@
+package dev.oleksii;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Tournament plays many headless games between two kinds of computer players in parallel.
+ * Every game runs on its own virtual thread, so the games spread across all available cores,
+ * and gets its own random generator split from a single seed, so no generator is shared between threads.
+ * Games share nothing but the (read-only) game mode.
+ */
+public class Tournament {
+    // The game mode used for every game of the tournament.
+    private final GameMode mode;
+
+    // Factories creating a fresh first and second player for each game from that game's random generator.
+    private final Function<RandomGenerator, ComputerPlayer> player1Factory;
+    private final Function<RandomGenerator, ComputerPlayer> player2Factory;
+
+    /**
+     * Constructs a Tournament between two kinds of computer players.
+     *
+     * @param mode           the game mode used for every game.
+     * @param player1Factory creates the first player of a game from that game's random generator.
+     * @param player2Factory creates the second player of a game from that game's random generator.
+     */
+    public Tournament(GameMode mode,
+                      Function<RandomGenerator, ComputerPlayer> player1Factory,
+                      Function<RandomGenerator, ComputerPlayer> player2Factory) {
+        this.mode = mode;
+        this.player1Factory = player1Factory;
+        this.player2Factory = player2Factory;
+    }
+
+    /**
+     * Plays the given number of games and aggregates their results.
+     *
+     * @param games the number of games to play.
+     * @param seed  the seed from which every game's random generator is split.
+     * @return the aggregated tournament statistics.
+     * @throws IllegalArgumentException if the number of games is negative
+     * @throws IllegalStateException    if any game fails
+     */
+    public TournamentResult run(int games, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games must not be negative.");
+        }
+        // Per-game results; each game writes only its own slot.
+        byte[] winners = new byte[games];
+        int[] shotsToWin = new int[games];
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        SplittableRandom root = new SplittableRandom(seed);
+        long start = System.nanoTime();
+        // Closing the executor waits for every game to finish.
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < games; i++) {
+                int game = i;
+                SplittableRandom random = root.split();
+                executor.execute(() -> {
+                    try {
+                        ComputerPlayer player1 = player1Factory.apply(random.split());
+                        ComputerPlayer player2 = player2Factory.apply(random.split());
+                        GameResult result = new GameEngine(mode, random).run(player1, player2);
+                        winners[game] = (byte) (result.winner() == player1 ? 1 : result.winner() == player2 ? 2 : 0);
+                        shotsToWin[game] = result.winnerShots();
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    }
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        if (failure.get() != null) {
+            throw new IllegalStateException("Tournament game failed", failure.get());
+        }
+        return aggregate(winners, shotsToWin, elapsed);
+    }
+
+    /**
+     * Aggregates the per-game results into win counts and shots-to-win statistics.
+     */
+    private static TournamentResult aggregate(byte[] winners, int[] shotsToWin, Duration elapsed) {
+        int player1Wins = 0;
+        int player2Wins = 0;
+        int[] decided = new int[winners.length];
+        int count = 0;
+        long total = 0;
+        for (int i = 0; i < winners.length; i++) {
+            if (winners[i] == 0) {
+                continue;
+            }
+            if (winners[i] == 1) {
+                player1Wins++;
+            } else {
+                player2Wins++;
+            }
+            decided[count++] = shotsToWin[i];
+            total += shotsToWin[i];
+        }
+        int[] sorted = Arrays.copyOf(decided, count);
+        Arrays.sort(sorted);
+        return new TournamentResult(winners.length, player1Wins, player2Wins, winners.length - count,
+                count == 0 ? 0 : (double) total / count,
+                percentile(sorted, 0), percentile(sorted, 50), percentile(sorted, 90),
+                percentile(sorted, 99), percentile(sorted, 100), elapsed);
+    }
+
+    /**
+     * Returns the nearest-rank percentile of a sorted array, or 0 if it is empty.
+     */
+    private static int percentile(int[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
@@ -0,0 +1,47 @@
+package dev.oleksii;
+
+import java.time.Duration;
+
+/**
+ * Aggregated statistics of a {@link Tournament} run.
+ * Shots-to-win counts the shots fired by the winner of each decided game.
+ *
+ * @param games             the number of games played.
+ * @param player1Wins       the number of games won by the first player.
+ * @param player2Wins       the number of games won by the second player.
+ * @param undecided         the number of games that ended without a winner.
+ * @param averageShotsToWin the mean shots-to-win over all decided games.
+ * @param minShotsToWin     the fewest shots needed to win a game.
+ * @param medianShotsToWin  the 50th percentile of shots-to-win.
+ * @param p90ShotsToWin     the 90th percentile of shots-to-win.
+ * @param p99ShotsToWin     the 99th percentile of shots-to-win.
+ * @param maxShotsToWin     the most shots needed to win a game.
+ * @param elapsed           the wall-clock time taken by the whole tournament.
+ */
+public record TournamentResult(int games, int player1Wins, int player2Wins, int undecided,
+                               double averageShotsToWin, int minShotsToWin, int medianShotsToWin,
+                               int p90ShotsToWin, int p99ShotsToWin, int maxShotsToWin,
+                               Duration elapsed) {
+
+    /**
+     * @return the fraction of games won by the first player.
+     */
+    public double player1WinRate() {
+        return games == 0 ? 0 : (double) player1Wins / games;
+    }
+
+    /**
+     * @return the fraction of games won by the second player.
+     */
+    public double player2WinRate() {
+        return games == 0 ? 0 : (double) player2Wins / games;
+    }
+
+    /**
+     * @return the number of games completed per second of wall-clock time.
+     */
+    public double gamesPerSecond() {
+        long nanos = Math.max(1, elapsed.toNanos());
+        return games * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,149 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardRendererTest {
+
+    @Test
+    void cellColumnsMatchTheBoardLines() {
+        Board board1 = new Board(12);
+        Board board2 = new Board(12);
+        board1.updateCell(0, 0, 'x');
+        board1.updateCell(11, 11, '*');
+        board2.updateCell(3, 7, 'X');
+        board2.updateCell(11, 0, '*');
+
+        List<String> lines = Board.boardLines(board1, "Alice", board2, "Bob");
+
+        assertThat(lines).hasSize(Board.HEADER_LINES + 12 + 1);
+        for (int row = 0; row < 12; row++) {
+            String line = lines.get(Board.HEADER_LINES + row);
+            for (int col = 0; col < 12; col++) {
+                assertThat(line.charAt(Board.cellColumn(12, false, col))).isEqualTo(board1.getSymbol(row, col));
+                assertThat(line.charAt(Board.cellColumn(12, true, col))).isEqualTo(board2.getSymbol(row, col));
+            }
+        }
+    }
+
+    @Test
+    void cellColumnsMatchMultiLetterRowsAndWideColumnNumbers() {
+        for (int size : new int[]{30, 120}) {
+            Board board = new Board(size);
+            board.updateCell(size - 1, size - 1, 'x');
+            board.updateCell(27, 100 % size, '*');
+
+            List<String> lines = Board.boardLines(board, "Alice", board, "Bob");
+
+            String header = lines.get(Board.HEADER_LINES - 1);
+            for (int row = 0; row < size; row++) {
+                String line = lines.get(Board.HEADER_LINES + row);
+                assertThat(line).hasSameSizeAs(lines.getFirst());
+                for (int col = 0; col < size; col++) {
+                    assertThat(line.charAt(Board.cellColumn(size, false, col))).isEqualTo(board.getSymbol(row, col));
+                    assertThat(line.charAt(Board.cellColumn(size, true, col))).isEqualTo(board.getSymbol(row, col));
+                }
+            }
+            // Column numbers start above their cells.
+            assertThat(header.substring(Board.cellColumn(size, true, size - 1))).startsWith(String.valueOf(size));
+            assertThat(lines.get(Board.HEADER_LINES + 27)).contains(" AB ");
+        }
+    }
+
+    @Test
+    void firstFrameIsDrawnInFull() {
+        CapturedOutput output = new CapturedOutput();
+        BoardRenderer renderer = new BoardRenderer(output, 80, 24);
+        Board board1 = new Board(10);
+        Board board2 = new Board(10);
+
+        renderer.render(board1, "Alice", board2, "Bob");
+
+        String frame = output.text();
+        assertThat(output.flushes()).isEqualTo(1);
+        assertThat(frame).startsWith("\033[H\033[2J");
+        assertThat(frame).contains(String.join("\n", Board.boardLines(board1, "Alice", board2, "Bob")));
+        assertThat(frame).endsWith("\033[16;1H\033[J");
+    }
+
+    @Test
+    void laterFramesOnlyUpdateChangedCells() {
+        CapturedOutput output = new CapturedOutput();
+        BoardRenderer renderer = new BoardRenderer(output, 80, 24);
+        Board board1 = new Board(10);
+        Board board2 = new Board(10);
+        renderer.render(board1, "Alice", board2, "Bob");
+        output.clear();
+
+        board1.updateCell(2, 3, '*');
+        board2.updateCell(0, 9, 'x');
+        renderer.render(board1, "Alice", board2, "Bob");
+
+        // Line 4 + 2 and column 5 + 3 * 3 on the left; line 4 and column 5 + 30 + 1 + 4 + 9 * 3 on the right.
+        assertThat(output.text())
+                .isEqualTo("\033[7;15H*\033[5;68Hx\033[16;1H\033[J");
+
+        // Nothing changed: only the cursor is parked again.
+        output.clear();
+        renderer.render(board1, "Alice", board2, "Bob");
+        assertThat(output.text()).isEqualTo("\033[16;1H\033[J");
+    }
+
+    @Test
+    void invalidateForcesAFullRedraw() {
+        CapturedOutput output = new CapturedOutput();
+        BoardRenderer renderer = new BoardRenderer(output, 80, 24);
+        Board board = new Board(10);
+        renderer.render(board, "Alice", board, "Bob");
+        output.clear();
+
+        renderer.invalidate();
+        renderer.render(board, "Alice", board, "Bob");
+
+        assertThat(output.text()).startsWith("\033[H\033[2J");
+    }
+
+    @Test
+    void framesThatDoNotFitTheTerminalAreAlwaysDrawnInFull() {
+        CapturedOutput output = new CapturedOutput();
+        Board board = new Board(20);
+        // 20 rows need 25 lines before the messages, and the two boards are 131 columns wide.
+        BoardRenderer renderer = new BoardRenderer(output, 80, 24);
+        renderer.render(board, "Alice", board, "Bob");
+        output.clear();
+
+        board.updateCell(5, 5, '*');
+        renderer.render(board, "Alice", board, "Bob");
+
+        assertThat(output.text()).startsWith("\033[H\033[2J");
+    }
+
+    @Test
+    void largeFramesAreUpdatedOnALargeTerminal() {
+        CapturedOutput output = new CapturedOutput();
+        Board board = new Board(20);
+        BoardRenderer renderer = new BoardRenderer(output, 140, 40);
+        renderer.render(board, "Alice", board, "Bob");
+        output.clear();
+
+        board.updateCell(5, 5, '*');
+        renderer.render(board, "Alice", board, "Bob");
+
+        assertThat(output.text()).doesNotContain("\033[2J").contains("*");
+    }
+
+    @Test
+    void nothingIsDrawnToADisabledOutput() {
+        Board board = new Board(10);
+        CapturedOutput output = new CapturedOutput() {
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+        };
+        new BoardRenderer(output, 80, 24).render(board, "Alice", board, "Bob");
+
+        assertThat(output.text()).isEmpty();
+    }
+}
@@ -0,0 +1,194 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardTest {
+
+    @Test
+    void placeShip() {
+        Board board = new Board(10);
+        Ship ship = new Ship("Cruiser", 3);
+
+        assertThat(board.placeShip(ship, 2, 3, true, false)).isTrue();
+
+        assertThat(board.hasShip(2, 3)).isTrue();
+        assertThat(board.hasShip(2, 5)).isTrue();
+        assertThat(board.hasShip(2, 6)).isFalse();
+        assertThat(board.getShipAt(2, 4)).isSameAs(ship);
+        assertThat(board.getShipAt(3, 4)).isNull();
+        assertThat(board.getSymbol(2, 4)).isEqualTo('S');
+    }
+
+    @Test
+    void canPlaceShip() {
+        Board board = new Board(10);
+        board.placeShip(new Ship("Destroyer", 2), 0, 0, false, false);
+
+        assertThat(board.canPlaceShip(1, 0, 3, true, false)).isFalse();
+        assertThat(board.canPlaceShip(0, 8, 3, true, false)).isFalse();
+        assertThat(board.canPlaceShip(8, 5, 3, false, false)).isFalse();
+        assertThat(board.canPlaceShip(-1, 5, 3, false, false)).isFalse();
+        assertThat(board.canPlaceShip(0, 1, 3, true, false)).isTrue();
+    }
+
+    @Test
+    void updateCell() {
+        Board board = new Board(20);
+
+        board.updateCell(19, 19, '*');
+        board.updateCell(0, 1, 'x');
+        board.updateCell(0, 2, 'X');
+
+        assertThat(board.getSymbol(19, 19)).isEqualTo('*');
+        assertThat(board.getSymbol(0, 1)).isEqualTo('x');
+        assertThat(board.getSymbol(0, 2)).isEqualTo('X');
+        assertThat(board.getSymbol(0, 0)).isEqualTo('-');
+        assertThat(board.isTargeted(19, 19)).isTrue();
+        assertThat(board.isTargeted(0, 2)).isTrue();
+        assertThat(board.isTargeted(0, 0)).isFalse();
+
+        assertThatThrownBy(() -> board.updateCell(20, 0, 'x')).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> board.updateCell(0, 0, '?')).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void clearAndRevealShips() {
+        Board board = new Board(10);
+        board.placeShip(new Ship("Destroyer", 2), 4, 4, true, false);
+        board.clearShipsFromDisplay();
+        board.updateCell(4, 4, 'x');
+
+        assertThat(board.getSymbol(4, 4)).isEqualTo('x');
+        assertThat(board.getSymbol(4, 5)).isEqualTo('-');
+
+        board.revealShips();
+
+        assertThat(board.getSymbol(4, 4)).isEqualTo('x');
+        assertThat(board.getSymbol(4, 5)).isEqualTo('S');
+    }
+
+    @Test
+    void getGameState() {
+        Board board = new Board(10);
+        Ship ship = new Ship("Destroyer", 2);
+        board.placeShip(ship, 0, 0, true, false);
+        board.updateCell(0, 0, 'x');
+
+        Map<Coordinate, Cell> state = board.getGameState();
+
+        assertThat(state).hasSize(100);
+        assertThat(state.get(new Coordinate(0, 0)).isHit()).isTrue();
+        assertThat(state.get(new Coordinate(0, 1)).getShip()).isSameAs(ship);
+        assertThat(state.get(new Coordinate(5, 5)).hasShip()).isFalse();
+    }
+
+    @Test
+    void placeShipRandomlyKeepsIndexInSync() {
+        Board board = new Board(10);
+        PlacementIndex index = new PlacementIndex(board);
+        // Every length-3 slot on an empty 10x10 board: 8 starts per line, 10 lines, 2 orientations.
+        assertThat(index.count(3)).isEqualTo(160);
+
+        board.placeShip(new Ship("Cruiser", 3), 0, 0, true, false);
+        PlacementIndex rebuilt = new PlacementIndex(board);
+        // Slots crossing (0,0)-(0,2): 3 horizontal in row 0 plus one vertical from row 0 in each of 3 columns.
+        assertThat(rebuilt.count(3)).isEqualTo(160 - 3 - 3);
+        // The index enumerated before the placement is not attached to the board, so it is unchanged.
+        assertThat(index.count(3)).isEqualTo(160);
+        index.occupy(0, 0);
+        index.occupy(0, 1);
+        index.occupy(0, 2);
+        assertThat(index.count(3)).isEqualTo(rebuilt.count(3));
+
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 10; i++) {
+            Ship destroyer = new Ship("Destroyer", 2);
+            assertThat(board.placeShipRandomly(destroyer, random)).isTrue();
+            assertThat(destroyer.getCoordinates()).hasSize(2);
+        }
+    }
+
+    @Test
+    void placeShipRandomlyFillsCrowdedBoard() {
+        // 18 destroyers tile a 6x6 board exactly, so random placement may run out of room but never overlaps.
+        SplittableRandom random = new SplittableRandom(42);
+        Board board = new Board(6);
+        int placed = 0;
+        while (board.placeShipRandomly(new Ship("Destroyer", 2), random)) {
+            placed++;
+        }
+
+        int occupied = 0;
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                occupied += board.hasShip(row, col) ? 1 : 0;
+            }
+        }
+        assertThat(occupied).isEqualTo(2 * placed);
+        assertThat(board.placeShipRandomly(new Ship("Destroyer", 2), random)).isFalse();
+    }
+
+    @Test
+    void hugeBoardsOnlyStoreShipsAndShots() {
+        Board board = new Board(1000);
+        Ship ship = new Ship("Carrier", 5);
+        assertThat(board.placeShip(ship, 998, 995, true, false)).isTrue();
+        board.fireAt(998, 999);
+        board.fireAt(0, 0);
+        long[] snapshot = board.snapshotShots();
+
+        // Three sparse planes of one cell each: a count and an index per plane.
+        assertThat(snapshot).hasSize(5);
+        assertThat(board.getSymbol(998, 999)).isEqualTo('x');
+        assertThat(board.getSymbol(0, 0)).isEqualTo('*');
+        assertThat(board.hasShip(998, 995)).isTrue();
+        assertThat(board.getShipAt(998, 999)).isSameAs(ship);
+        assertThat(board.getShipAt(998, 994)).isNull();
+
+        board.fireAt(500, 500);
+        board.restoreShots(snapshot);
+        assertThat(board.isTargeted(500, 500)).isFalse();
+        assertThat(board.isTargeted(998, 999)).isTrue();
+    }
+
+    @Test
+    void randomPlacementOnAHugeBoardIsLegal() {
+        Board board = new Board(1000);
+        Random random = new Random(3);
+        for (int i = 0; i < 500; i++) {
+            assertThat(board.placeShipRandomly(new Ship("Boat", 2 + i % 4), random)).isTrue();
+        }
+        int cells = 0;
+        for (int row = 0; row < 1000; row++) {
+            for (int col = 0; col < 1000; col++) {
+                cells += board.hasShip(row, col) ? 1 : 0;
+            }
+        }
+        assertThat(cells).isEqualTo(125 * (2 + 3 + 4 + 5));
+    }
+
+    @Test
+    void getShipAtFindsEveryShipOfAnAppliedLayout() {
+        for (GameMode mode : new GameMode[] {new SeaGameMode(), new OceanGameMode()}) {
+            Board board = new Board(mode.getBoardSize());
+            List<Ship> fleet = mode.getShips().stream().map(ship -> new Ship(ship.getName(), ship.getSize())).toList();
+            board.applyLayout(new FleetLayoutGenerator(mode).next(new Random(5)), fleet);
+
+            for (int row = 0; row < board.getSize(); row++) {
+                for (int col = 0; col < board.getSize(); col++) {
+                    Ship expected = null;
+                    for (Ship ship : fleet) {
+                        expected = ship.occupies(row, col) ? ship : expected;
+                    }
+                    assertThat(board.getShipAt(row, col)).isSameAs(expected);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CellMapTest {
+
+    @Test
+    void smallBoardsAreDenseFromTheStart() {
+        assertThat(new CellMap(20 * 20).isSparse()).isFalse();
+        assertThat(new CellMap(1000 * 1000).isSparse()).isTrue();
+    }
+
+    @Test
+    void becomesDenseAsItFillsUpAndKeepsItsValues() {
+        int cells = 100_000;
+        CellMap map = new CellMap(cells);
+        int[] expected = new int[cells];
+        SplittableRandom random = new SplittableRandom(1);
+
+        while (map.isSparse()) {
+            int index = random.nextInt(cells);
+            int value = 1 + random.nextInt(1000);
+            map.put(index, value);
+            expected[index] = value;
+        }
+        for (int i = 0; i < 1000; i++) {
+            int index = random.nextInt(cells);
+            int value = 1 + random.nextInt(1000);
+            map.put(index, value);
+            expected[index] = value;
+        }
+
+        for (int index = 0; index < cells; index++) {
+            assertThat(map.get(index)).isEqualTo(expected[index]);
+        }
+    }
+
+    @Test
+    void replacesTheValueOfACellWhileSparse() {
+        CellMap map = new CellMap(1000 * 1000);
+        map.put(123_456, 1);
+        map.put(123_456, 2);
+
+        assertThat(map.get(123_456)).isEqualTo(2);
+        assertThat(map.get(654_321)).isZero();
+        assertThat(map.isSparse()).isTrue();
+    }
+}
@@ -0,0 +1,70 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CellSetTest {
+
+    @Test
+    void smallBoardsAreDenseFromTheStart() {
+        assertThat(new CellSet(20 * 20).isSparse()).isFalse();
+        assertThat(new CellSet(1000 * 1000).isSparse()).isTrue();
+    }
+
+    @Test
+    void becomesDenseAsItFillsUpAndKeepsItsCells() {
+        int cells = 100_000;
+        CellSet set = new CellSet(cells);
+        BitSet expected = new BitSet(cells);
+        SplittableRandom random = new SplittableRandom(1);
+
+        // A bitboard of 100,000 cells is 1,563 longs; the table switches once it would outgrow it.
+        while (set.isSparse()) {
+            int index = random.nextInt(cells);
+            set.add(index);
+            expected.set(index);
+            assertThat(set.size()).isEqualTo(expected.cardinality());
+        }
+        assertThat(set.size()).isBetween(700, 1600);
+        for (int i = 0; i < 10_000; i++) {
+            int index = random.nextInt(cells);
+            set.add(index);
+            expected.set(index);
+        }
+
+        assertThat(set.size()).isEqualTo(expected.cardinality());
+        for (int index = 0; index < cells; index++) {
+            assertThat(set.contains(index)).isEqualTo(expected.get(index));
+        }
+    }
+
+    @Test
+    void encodedSetsRoundTripInBothForms() {
+        CellSet sparse = new CellSet(1_000_000);
+        sparse.add(0);
+        sparse.add(999_999);
+        sparse.add(4242);
+        CellSet dense = new CellSet(400);
+        dense.add(7);
+        dense.add(399);
+
+        long[] encoded = new long[sparse.encodedLength() + dense.encodedLength()];
+        int offset = sparse.encode(encoded, 0);
+        assertThat(dense.encode(encoded, offset)).isEqualTo(encoded.length);
+
+        CellSet sparseCopy = new CellSet(1_000_000);
+        CellSet denseCopy = new CellSet(400);
+        int denseOffset = sparseCopy.decode(encoded, 0);
+        denseCopy.decode(encoded, denseOffset);
+
+        assertThat(sparseCopy.size()).isEqualTo(3);
+        assertThat(sparseCopy.contains(999_999) && sparseCopy.contains(4242) && !sparseCopy.contains(1)).isTrue();
+        assertThat(denseCopy.size()).isEqualTo(2);
+        assertThat(denseCopy.contains(399)).isTrue();
+        assertThatThrownBy(() -> new CellSet(100).decode(encoded, denseOffset))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoordinateTest {
+
+    @Test
+    void ofReturnsCanonicalInstances() {
+        assertThat(Coordinate.of(3, 7)).isSameAs(Coordinate.of(3, 7));
+        assertThat(Coordinate.of(3, 7)).isEqualTo(new Coordinate(3, 7));
+        assertThat(Coordinate.of(0, 0)).isNotSameAs(Coordinate.of(0, 1));
+    }
+
+    @Test
+    void ofOutsideCacheStillWorks() {
+        assertThat(Coordinate.of(500, 2)).isEqualTo(new Coordinate(500, 2));
+        assertThat(Coordinate.of(-1, 2)).isEqualTo(new Coordinate(-1, 2));
+    }
+
+    @Test
+    void ordinalRoundTrips() {
+        Coordinate coordinate = Coordinate.of(4, 9);
+
+        assertThat(coordinate.ordinal(20)).isEqualTo(89);
+        assertThat(Coordinate.ofOrdinal(89, 20)).isSameAs(coordinate);
+    }
+
+    @Test
+    void rowsAreLabelledLikeSpreadsheetColumns() {
+        assertThat(Coordinate.rowLabel(0)).isEqualTo("A");
+        assertThat(Coordinate.rowLabel(25)).isEqualTo("Z");
+        assertThat(Coordinate.rowLabel(26)).isEqualTo("AA");
+        assertThat(Coordinate.rowLabel(701)).isEqualTo("ZZ");
+        assertThat(Coordinate.rowLabel(702)).isEqualTo("AAA");
+        for (int row = 0; row < 20_000; row++) {
+            assertThat(Coordinate.parseRowLabel(Coordinate.rowLabel(row))).isEqualTo(row);
+        }
+        assertThat(Coordinate.parseRowLabel("a1")).isEqualTo(-1);
+        assertThat(Coordinate.parseRowLabel("")).isEqualTo(-1);
+    }
+
+    @Test
+    void cellNamesAreParsedAndFormatted() {
+        assertThat(Coordinate.parse("A5")).isEqualTo(Coordinate.of(0, 4));
+        assertThat(Coordinate.parse(" ab120 ")).isEqualTo(Coordinate.of(27, 119));
+        assertThat(Coordinate.of(27, 119).label()).isEqualTo("AB120");
+        assertThat(Coordinate.parse("A0").col()).isEqualTo(-1);
+        assertThatThrownBy(() -> Coordinate.parse("5A")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Coordinate.parse("AB")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Coordinate.parse("A5x")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomGameModeTest {
+
+    @Test
+    void loadsAModeFromAFile(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("armada.properties");
+        Files.writeString(file, """
+                name = Armada
+                boardSize = 1000
+                ships = Carrier:5x50, Battleship:4x100, Cruiser:3x150, Destroyer:2
+                """);
+
+        GameMode mode = CustomGameMode.load(file);
+
+        assertThat(mode.getName()).isEqualTo("Armada");
+        assertThat(mode.getBoardSize()).isEqualTo(1000);
+        assertThat(mode.getShips()).hasSize(301);
+        assertThat(mode.getShips().getFirst().getName()).isEqualTo("Carrier");
+        assertThat(mode.getShips().getLast().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void computerPlacesAHugeFleetOnAHugeBoard() {
+        GameMode mode = new CustomGameMode(definition("Armada", "1000",
+                "Carrier:5x50, Battleship:4x100, Cruiser:3x150, Destroyer:2x200"));
+        ComputerPlayer player = new ComputerPlayer(new Random(1));
+
+        player.setup(mode, null);
+
+        assertThat(player.getShips()).hasSize(500);
+        Board board = player.getBoard();
+        assertThat(player.getShips()).allSatisfy(ship -> assertThat(board.getShipAt(ship.getRow(), ship.getCol()))
+                .isSameAs(ship));
+        // The last row of a 1000-row board has a three-letter label.
+        assertThat(Coordinate.of(999, 999).label()).isEqualTo("ALL1000");
+    }
+
+    @Test
+    void rejectsInvalidDefinitions() {
+        assertThatThrownBy(() -> new CustomGameMode(definition("", "10", "Boat:2")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CustomGameMode(definition("Big", "2000", "Boat:2")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CustomGameMode(definition("Long", "10", "Boat:11")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CustomGameMode(definition("Huge", "100", "Boat:70")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at most 64");
+        assertThatThrownBy(() -> new CustomGameMode(definition("Crowded", "3", "Boat:3x4")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CustomGameMode(definition("Many", "1000", "Boat:1x600")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CustomGameMode(definition("Typo", "10", "Boat-2")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CustomGameMode(definition("Empty", "10", "")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Properties definition(String name, String boardSize, String ships) {
+        Properties definition = new Properties();
+        definition.setProperty("name", name);
+        definition.setProperty("boardSize", boardSize);
+        definition.setProperty("ships", ships);
+        return definition;
+    }
+}
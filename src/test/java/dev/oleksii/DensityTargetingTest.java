@@ -0,0 +1,46 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DensityTargetingTest {
+
+    @Test
+    void nextTargetFollowsUpOnHit() {
+        Board board = new Board(10);
+        Ship ship = new Ship("Cruiser", 3);
+        board.placeShip(ship, 4, 4, true, false);
+        DensityTargeting strategy = new DensityTargeting(new Random(1));
+        strategy.nextTarget(board, List.of(ship));
+
+        char result = board.fireAt(4, 5);
+        strategy.recordShot(board, 4, 5, result);
+        Coordinate next = strategy.nextTarget(board, List.of(ship));
+
+        assertThat(Math.abs(next.row() - 4) + Math.abs(next.col() - 5)).isEqualTo(1);
+    }
+
+    @Test
+    void nextTargetPrefersCentreOnEmptyBoard() {
+        Board board = new Board(10);
+        DensityTargeting strategy = new DensityTargeting(new Random(1));
+
+        Coordinate target = strategy.nextTarget(board, new SeaGameMode().getShips());
+
+        assertThat(target.row()).isBetween(3, 6);
+        assertThat(target.col()).isBetween(3, 6);
+    }
+
+    @Test
+    void beatsRandomTargeting() {
+        Tournament tournament = new Tournament(new SeaGameMode(),
+                random -> new ComputerPlayer(random, new DensityTargeting(random)),
+                ComputerPlayer::new);
+
+        TournamentResult result = tournament.run(200, 42);
+
+        assertThat(result.player1WinRate()).isGreaterThan(0.8);
+    }
+}
@@ -0,0 +1,133 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FleetLayoutGeneratorTest {
+
+    @Test
+    void nextProducesValidLayouts() {
+        GameMode mode = new OceanGameMode();
+        FleetLayoutGenerator generator = new FleetLayoutGenerator(mode);
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 100; i++) {
+            FleetLayout layout = generator.next(random);
+            Board board = new Board(mode.getBoardSize());
+            // placeShip rejects overlaps, so every ship of a valid layout must be placeable in turn.
+            for (int s = 0; s < mode.getShips().size(); s++) {
+                Ship ship = new Ship("Ship", mode.getShips().get(s).getSize());
+                assertThat(board.placeShip(ship, layout.row(s), layout.col(s), layout.isHorizontal(s), false)).isTrue();
+            }
+            for (int row = 0; row < mode.getBoardSize(); row++) {
+                for (int col = 0; col < mode.getBoardSize(); col++) {
+                    int cell = row * mode.getBoardSize() + col;
+                    boolean occupied = (layout.occupancy()[cell >>> 6] & (1L << cell)) != 0;
+                    assertThat(occupied).isEqualTo(board.hasShip(row, col));
+                }
+            }
+        }
+    }
+
+    @Test
+    void nextIsUniformOverLayouts() {
+        // Two destroyers on a 2x2 board: both horizontal or both vertical, in either order.
+        GameMode mode = new GameMode() { };
+        mode.setBoardSize(2);
+        mode.setShips(List.of(new Ship("Destroyer", 2), new Ship("Destroyer", 2)));
+        FleetLayoutGenerator generator = new FleetLayoutGenerator(mode);
+        SplittableRandom random = new SplittableRandom(2);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 8_000; i++) {
+            FleetLayout layout = generator.next(random);
+            counts.merge(layout.slots()[0] + "," + layout.slots()[1], 1, Integer::sum);
+        }
+
+        assertThat(counts).hasSize(4);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(1_800, 2_200));
+    }
+
+    @Test
+    void poolLayoutIsAppliedToBoard() {
+        GameMode mode = new SeaGameMode();
+        try (FleetLayoutPool pool = new FleetLayoutPool(mode, 16, new SplittableRandom(3))) {
+            ComputerPlayer player = new ComputerPlayer(new SplittableRandom(4), null, pool);
+            player.setup(mode, null);
+
+            int occupied = 0;
+            for (int row = 0; row < 10; row++) {
+                for (int col = 0; col < 10; col++) {
+                    Ship ship = player.getBoard().getShipAt(row, col);
+                    if (ship != null) {
+                        occupied++;
+                        assertThat(ship.occupies(row, col)).isTrue();
+                    }
+                }
+            }
+            assertThat(occupied).isEqualTo(5 + 4 + 3 + 3 + 2);
+            assertThat(player.getShips()).allMatch(ship -> ship.getCoordinates().size() == ship.getSize());
+            assertThatThrownBy(() -> player.getBoard().applyLayout(pool.take(), player.getShips()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void poolOfAnotherFleetIsNotUsed() {
+        // Same board and number of ships as Sea, in the opposite order.
+        GameMode mode = new GameMode() { };
+        mode.setBoardSize(10);
+        List<Ship> ships = new ArrayList<>(new SeaGameMode().getShips());
+        Collections.reverse(ships);
+        mode.setShips(ships);
+        try (FleetLayoutPool pool = new FleetLayoutPool(new SeaGameMode(), 16, new SplittableRandom(3))) {
+            ComputerPlayer player = new ComputerPlayer(new SplittableRandom(4), null, pool);
+            player.setup(mode, null);
+
+            for (Ship ship : player.getShips()) {
+                assertThat(ship.getCoordinates()).hasSize(ship.getSize());
+                for (Coordinate cell : ship.getCoordinates()) {
+                    assertThat(player.getBoard().getShipAt(cell.row(), cell.col())).isSameAs(ship);
+                }
+            }
+        }
+    }
+
+    @Test
+    void layoutIsRejectedForShipsOfOtherLengths() {
+        GameMode mode = new SeaGameMode();
+        FleetLayout layout = new FleetLayoutGenerator(mode).next(new SplittableRandom(7));
+        List<Ship> fleet = new ArrayList<>();
+        for (Ship ship : mode.getShips()) {
+            fleet.addFirst(new Ship(ship.getName(), ship.getSize()));
+        }
+
+        // The same number of cells in total, but not in the same slots.
+        assertThatThrownBy(() -> new Board(10).applyLayout(layout, fleet))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void crowdedFleetIsStillPlaced() {
+        // 15 destroyers cover 30 of 36 cells; uniform layouts are too rare, so placement falls back to the index.
+        GameMode mode = new GameMode() { };
+        mode.setBoardSize(6);
+        List<Ship> ships = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            ships.add(new Ship("Destroyer", 2));
+        }
+        mode.setShips(ships);
+        ComputerPlayer player = new ComputerPlayer(new SplittableRandom(5));
+
+        player.setup(mode, null);
+
+        assertThat(player.getShips()).allMatch(ship -> ship.getCoordinates().size() == 2);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FleetStateTest {
+
+    @Test
+    void countsHitsAndSinks() {
+        Board board = new Board(10);
+        board.placeShip(new Ship("Cruiser", 3), 0, 0, true, false);
+        board.placeShip(new Ship("Destroyer", 2), 5, 5, false, false);
+        FleetState fleet = board.getFleetState();
+
+        assertThat(fleet.getShipCount()).isEqualTo(2);
+        assertThat(fleet.getShipsAfloat()).isEqualTo(2);
+        assertThat(fleet.getHullCells()).isEqualTo(5);
+        assertThat(fleet.getRemainingHull()).isEqualTo(5);
+
+        board.fireAt(9, 9);
+        board.fireAt(5, 5);
+        assertThat(fleet.getRemainingHull()).isEqualTo(4);
+        assertThat(fleet.getShipsAfloat(2)).isEqualTo(1);
+
+        board.fireAt(6, 5);
+        assertThat(fleet.getShipsAfloat()).isEqualTo(1);
+        assertThat(fleet.getShipsAfloat(2)).isZero();
+        assertThat(fleet.getShipsAfloat(3)).isEqualTo(1);
+        assertThat(fleet.getShipsSunk()).isEqualTo(1);
+        assertThat(fleet.isDefeated()).isFalse();
+
+        for (int col = 0; col < 3; col++) {
+            board.fireAt(0, col);
+        }
+        assertThat(fleet.getShipsAfloat()).isZero();
+        assertThat(fleet.getRemainingHull()).isZero();
+        assertThat(fleet.isDefeated()).isTrue();
+    }
+
+    @Test
+    void refiringChangesNothing() {
+        Board board = new Board(10);
+        board.placeShip(new Ship("Cruiser", 3), 0, 0, true, false);
+        board.placeShip(new Ship("Destroyer", 2), 5, 5, false, false);
+        FleetState fleet = board.getFleetState();
+
+        board.fireAt(0, 0);
+        board.fireAt(0, 0);
+        assertThat(fleet.getRemainingHull()).isEqualTo(4);
+
+        board.fireAt(5, 5);
+        board.fireAt(6, 5);
+        board.fireAt(6, 5);
+        board.fireAt(5, 5);
+        assertThat(fleet.getShipsAfloat()).isEqualTo(1);
+        assertThat(fleet.getRemainingHull()).isEqualTo(2);
+    }
+
+    @Test
+    void followsAppliedLayouts() {
+        GameMode mode = new OceanGameMode();
+        Board board = new Board(mode.getBoardSize());
+        List<Ship> fleet = mode.getShips().stream().map(ship -> new Ship(ship.getName(), ship.getSize())).toList();
+        board.applyLayout(new FleetLayoutGenerator(mode).next(new Random(3)), fleet);
+
+        assertThat(board.getFleetState().getShipCount()).isEqualTo(fleet.size());
+        assertThat(board.getFleetState().getHullCells()).isEqualTo(fleet.stream().mapToInt(Ship::getSize).sum());
+        assertThat(board.getFleetState().getShipsAfloat()).isEqualTo(fleet.size());
+    }
+
+    @Test
+    void checkWinFollowsTheFleetState() {
+        Player player1 = new ComputerPlayer(new Random(1));
+        Player player2 = new ComputerPlayer(new Random(2));
+        Game game = new Game(new SeaGameMode(), player1, player2, new Scanner(""));
+        Board board = player2.getBoard();
+
+        for (int cell = 0; !player2.getShips().stream().allMatch(Ship::isSunk); cell++) {
+            assertThat(game.checkWin(player2)).isFalse();
+            board.fireAt(cell / board.getSize(), cell % board.getSize());
+        }
+        assertThat(game.checkWin(player2)).isTrue();
+        assertThat(player2.getFleetState().getShipsSunk()).isEqualTo(player2.getShips().size());
+    }
+
+    @Test
+    void sunkMessageCountsShipsLeft() {
+        Board board = new Board(10);
+        Ship destroyer = new Ship("Destroyer", 2);
+        Ship cruiser = new Ship("Cruiser", 3);
+        board.placeShip(destroyer, 0, 0, true, false);
+        board.placeShip(cruiser, 2, 0, true, false);
+
+        board.fireAt(0, 0);
+        board.fireAt(0, 1);
+        assertThat(MessageFormatter.sunkMessage(destroyer, board.getFleetState()))
+                .isEqualTo("Destroyer sunk! 1 ship left.");
+
+        for (int col = 0; col < 3; col++) {
+            board.fireAt(2, col);
+        }
+        assertThat(MessageFormatter.sunkMessage(cruiser, board.getFleetState())).isEqualTo("Cruiser sunk!");
+    }
+}
@@ -0,0 +1,152 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendListAndLoad() throws IOException {
+        GameArchive archive = new GameArchive(directory.resolve("archive").resolve("games.bin"));
+        Game first = playedGame(1);
+        Game second = playedGame(2);
+
+        archive.append(first);
+        GameArchive.Entry appended = archive.append(second);
+        ArchiveReader reader = archive.openReader();
+
+        assertThat(reader.size()).isEqualTo(2);
+        assertThat(reader.entry(0).modeName()).isEqualTo("Sea");
+        assertThat(reader.entry(0).player1()).isEqualTo("Computer");
+        assertThat(reader.entry(1)).isEqualTo(appended);
+        assertThat(reader.entry(1).winner()).isEqualTo(1);
+        assertThat(reader.entry(1).moveCount()).isEqualTo(second.getMoveLog().size());
+
+        Game loaded = reader.load(1);
+
+        assertThat(loaded.getMode().getBoardSize()).isEqualTo(10);
+        assertThat(loaded.getWinner()).isSameAs(loaded.getPlayer1());
+        assertThat(loaded.getMoveLog().size()).isEqualTo(second.getMoveLog().size());
+        for (int i = 0; i < loaded.getMoveLog().size(); i++) {
+            assertThat(loaded.getMoveLog().entry(i)).isEqualTo(second.getMoveLog().entry(i));
+        }
+        for (int row = 0; row < 10; row++) {
+            for (int col = 0; col < 10; col++) {
+                assertThat(loaded.getPlayer2().getBoard().hasShip(row, col))
+                        .isEqualTo(second.getPlayer2().getBoard().hasShip(row, col));
+            }
+        }
+        // Sunk ships are rebuilt from the archived fleet.
+        for (Move move : loaded.getMoveLog()) {
+            if (move.isSunk()) {
+                assertThat(move.getSunkShipCoords()).contains(move.getCoordinate());
+            }
+        }
+        // Archived games are finished: they can be replayed, not played.
+        assertThatThrownBy(() -> loaded.play(null)).isInstanceOf(IllegalStateException.class);
+        assertThat(loaded.getSpectators()).isNull();
+    }
+
+    @Test
+    void indexIsRebuiltWhenMissingOrStale() throws IOException {
+        GameArchive archive = new GameArchive(directory.resolve("games.bin"));
+        for (int seed = 0; seed < 3; seed++) {
+            archive.append(playedGame(seed));
+        }
+        byte[] index = Files.readAllBytes(archive.getIndexPath());
+
+        Files.delete(archive.getIndexPath());
+        assertThat(archive.openReader().size()).isEqualTo(3);
+        assertThat(Files.readAllBytes(archive.getIndexPath())).isEqualTo(index);
+
+        // An index missing its last entry is rebuilt before the next append.
+        Files.write(archive.getIndexPath(), Arrays.copyOf(index, 2 * GameArchive.INDEX_ENTRY_BYTES));
+        archive.append(playedGame(3));
+        ArchiveReader reader = archive.openReader();
+        assertThat(reader.size()).isEqualTo(4);
+        assertThat(reader.load(3).getMoveLog().size()).isEqualTo(reader.entry(3).moveCount());
+    }
+
+    @Test
+    void tornLastRecordIsDropped() throws IOException {
+        GameArchive archive = new GameArchive(directory.resolve("games.bin"));
+        archive.append(playedGame(1));
+        GameArchive.Entry second = archive.append(playedGame(2));
+        long complete = Files.size(archive.getPath());
+
+        // The process died while appending a third game: half of its record reached the file.
+        byte[] bytes = Files.readAllBytes(archive.getPath());
+        byte[] torn = Arrays.copyOf(bytes, bytes.length + second.length() / 2);
+        System.arraycopy(bytes, (int) second.offset(), torn, bytes.length, second.length() / 2);
+        Files.write(archive.getPath(), torn);
+
+        assertThat(archive.openReader().size()).isEqualTo(2);
+        assertThat(Files.size(archive.getPath())).isEqualTo(complete);
+        archive.append(playedGame(3));
+        ArchiveReader reader = archive.openReader();
+        assertThat(reader.size()).isEqualTo(3);
+        assertThat(reader.load(2).getMoveLog().size()).isEqualTo(reader.entry(2).moveCount());
+    }
+
+    @Test
+    void strayBytesAfterTheLastRecordAreDropped() throws IOException {
+        GameArchive archive = new GameArchive(directory.resolve("games.bin"));
+        archive.append(playedGame(1));
+        archive.append(playedGame(2));
+        long complete = Files.size(archive.getPath());
+
+        // A length field of -1 followed by garbage.
+        Files.write(archive.getPath(), new byte[] {-1, -1, -1, -1, 1, 2, 3, 4, 5, 6},
+                StandardOpenOption.APPEND);
+
+        assertThat(archive.openReader().size()).isEqualTo(2);
+        assertThat(Files.size(archive.getPath())).isEqualTo(complete);
+        assertThat(archive.append(playedGame(3)).id()).isEqualTo(2);
+    }
+
+    @Test
+    void readerOfMissingArchiveIsEmpty() throws IOException {
+        ArchiveReader reader = new GameArchive(directory.resolve("none.bin")).openReader();
+
+        assertThat(reader.size()).isZero();
+        assertThatThrownBy(() -> reader.entry(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void readerRejectsOtherFiles() throws IOException {
+        Path file = directory.resolve("other.bin");
+        Files.writeString(file, "not an archive");
+
+        assertThatThrownBy(() -> new GameArchive(file).openReader()).isInstanceOf(IOException.class);
+    }
+
+    /**
+     * Sets up two computer players and lets the first fire at every cell until the second's fleet is sunk.
+     */
+    private static Game playedGame(long seed) {
+        GameMode mode = new SeaGameMode();
+        ComputerPlayer player1 = new ComputerPlayer(new Random(seed));
+        ComputerPlayer player2 = new ComputerPlayer(new Random(seed + 100));
+        player1.setup(mode, null);
+        player2.setup(mode, null);
+        MoveLog moves = new MoveLog(10, player1, player2);
+        int sunk = 0;
+        for (int cell = 0; cell < 100 && sunk < player2.getShips().size(); cell++) {
+            char result = player2.getBoard().fireAt(cell / 10, cell % 10);
+            moves.add(new Move(player1, cell / 10, cell % 10, result));
+            sunk += result == 'X' ? 1 : 0;
+        }
+        return new Game(mode, player1, player2, moves, sunk == player2.getShips().size() ? player1 : null);
+    }
+}
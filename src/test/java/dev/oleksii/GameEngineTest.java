@@ -0,0 +1,35 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameEngineTest {
+
+    @Test
+    void runPlaysGameToCompletion() {
+        GameEngine engine = new GameEngine(new SeaGameMode(), new Random(42));
+        ComputerPlayer player1 = new ComputerPlayer(new Random(1));
+        ComputerPlayer player2 = new ComputerPlayer(new Random(2));
+
+        GameResult result = engine.run(player1, player2);
+
+        assertThat(result.winner()).isIn(player1, player2);
+        Player loser = result.winner() == player1 ? player2 : player1;
+        assertThat(loser.getShips()).allMatch(Ship::isSunk);
+        assertThat(result.outcomes()).hasSize(result.moveCount());
+        assertThat(new String(result.outcomes()).chars().filter(c -> c == 'X').count())
+                .isGreaterThanOrEqualTo(loser.getShips().size());
+    }
+
+    @Test
+    void runIsReproducibleWithSeededRandoms() {
+        GameResult first = new GameEngine(new OceanGameMode(), new Random(7))
+                .run(new ComputerPlayer(new Random(3)), new ComputerPlayer(new Random(4)));
+        GameResult second = new GameEngine(new OceanGameMode(), new Random(7))
+                .run(new ComputerPlayer(new Random(3)), new ComputerPlayer(new Random(4)));
+
+        assertThat(second.moveCount()).isEqualTo(first.moveCount());
+        assertThat(second.outcomes()).isEqualTo(first.outcomes());
+    }
+}
@@ -0,0 +1,76 @@
+package dev.oleksii;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameEventsTest {
+
+    @Test
+    void headlessGameIsRecorded(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("game.jfr");
+        GameResult result;
+        try (Recording recording = new Recording()) {
+            // The per-shot events are disabled by default.
+            recording.enable("dev.oleksii.Shot");
+            recording.enable("dev.oleksii.Search");
+            recording.start();
+            ComputerPlayer player1 = new ComputerPlayer(new Random(1));
+            ComputerPlayer player2 = new ComputerPlayer(new Random(2), new MonteCarloTargeting(
+                    new SplittableRandom(3), ForkJoinPool.commonPool(), Duration.ofSeconds(1), 200));
+            result = new GameEngine(new SeaGameMode(), new Random(4)).run(player1, player2);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Map<String, Long> counts = events.stream()
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName(), Collectors.counting()));
+        assertThat(counts).containsEntry("dev.oleksii.Game", 1L)
+                .containsEntry("dev.oleksii.Setup", 2L)
+                .containsEntry("dev.oleksii.Decision", (long) result.moveCount())
+                .containsEntry("dev.oleksii.Shot", (long) result.moveCount())
+                .containsKey("dev.oleksii.Search");
+
+        RecordedEvent game = events.stream()
+                .filter(event -> event.getEventType().getName().equals("dev.oleksii.Game"))
+                .findFirst().orElseThrow();
+        assertThat(game.getString("mode")).isEqualTo("Sea");
+        assertThat(game.getInt("boardSize")).isEqualTo(10);
+        assertThat(game.getString("player1Type")).isEqualTo("ComputerPlayer");
+        assertThat(game.getInt("moves")).isEqualTo(result.moveCount());
+        assertThat(game.getString("winner")).isEqualTo("Computer");
+
+        Map<Character, Long> results = events.stream()
+                .filter(event -> event.getEventType().getName().equals("dev.oleksii.Shot"))
+                .map(event -> event.getChar("result"))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertThat(results.get('X')).isEqualTo(new String(result.outcomes()).chars().filter(c -> c == 'X').count());
+    }
+
+    @Test
+    void shotsAreNotRecordedByDefault(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("shot.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            new Board(10).fireAt(0, 0);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertThat(RecordingFile.readAllEvents(file))
+                .noneMatch(event -> event.getEventType().getName().equals("dev.oleksii.Shot"));
+    }
+}
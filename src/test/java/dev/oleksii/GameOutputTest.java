@@ -0,0 +1,85 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameOutputTest {
+
+    @Test
+    void bufferedOutputWritesOncePerFlush() {
+        CountingStream stream = new CountingStream();
+        BufferedOutput output = new BufferedOutput(stream);
+
+        MessageFormatter.printBoxedMessage(output, "Hit!");
+        output.println("Computer guesses: A1");
+        assertThat(stream.writes).isZero();
+
+        output.flush();
+        output.flush(); // Nothing pending: no write.
+
+        assertThat(stream.writes).isEqualTo(1);
+        assertThat(stream.toString(StandardCharsets.UTF_8))
+                .isEqualTo("╔════════╗\n║  Hit!  ║\n╚════════╝\nComputer guesses: A1\n");
+    }
+
+    @Test
+    void consoleOutputFollowsSystemOutRedirects() {
+        GameOutput console = GameOutput.console();
+        PrintStream original = System.out;
+        ByteArrayOutputStream redirected = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(redirected, true, StandardCharsets.UTF_8));
+        try {
+            console.println("Miss!");
+            console.flush();
+        } finally {
+            System.setOut(original);
+        }
+
+        assertThat(redirected.toString(StandardCharsets.UTF_8)).isEqualTo("Miss!" + System.lineSeparator());
+    }
+
+    @Test
+    void placementFailuresAreReportedToTheGivenOutput() {
+        Board board = new Board(10);
+        board.placeShip(new Ship("Destroyer", 2), 0, 0, true, false);
+        CapturedOutput output = new CapturedOutput();
+
+        assertThat(board.canPlaceShip(0, 9, 3, true, output)).isFalse();
+        assertThat(board.placeShip(new Ship("Cruiser", 3), 0, 1, false, output)).isFalse();
+        assertThat(board.canPlaceShip(5, 5, 3, true, output)).isTrue();
+
+        assertThat(output.lines()).containsExactly(
+                "Ship placement out of horizontal bounds.",
+                "A ship already occupies position: A2");
+    }
+
+    @Test
+    void discardedOutputIsNeverBuilt() {
+        GameOutput output = GameOutput.discard();
+        Board board = new Board(10);
+
+        // Nothing observable happens; this just must not fail or write anywhere.
+        MessageFormatter.printBoxedMessage(output, "Hit!");
+        MessageFormatter.printBoxedMenu(output, "Header", "1. Option");
+        Board.displayBoards(output, board, "Alice", board, "Bob");
+        board.display(output, "Alice");
+
+        assertThat(output.isEnabled()).isFalse();
+    }
+
+    /**
+     * Byte stream counting the write calls it receives.
+     */
+    private static final class CountingStream extends ByteArrayOutputStream {
+        int writes;
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            writes++;
+            super.write(bytes, offset, length);
+        }
+    }
+}
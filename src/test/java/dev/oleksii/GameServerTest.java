@@ -0,0 +1,147 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameServerTest {
+
+    @Test
+    void hostsManyGamesOverLoopback() throws Exception {
+        int games = 20;
+        try (GameServer server = new GameServer(0, List.of(SeaGameMode::new), Duration.ofSeconds(30), 0);
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            server.start();
+            List<Future<String>> transcripts = new ArrayList<>();
+            for (int i = 0; i < 2 * games; i++) {
+                String name = "P" + i;
+                transcripts.add(clients.submit(() -> playGame(server.getPort(), name)));
+            }
+
+            // Players are paired in connection order, but connections may arrive in any order;
+            // every client must see a winner announced, and both sides of a game the same one.
+            int finished = 0;
+            for (Future<String> transcript : transcripts) {
+                String text = transcript.get(60, TimeUnit.SECONDS);
+                assertThat(text).contains("Welcome to Battleship!").contains("'s turn to shoot!");
+                if (text.contains(", you won!")) {
+                    finished++;
+                }
+            }
+            assertThat(finished).isEqualTo(2 * games);
+            assertThat(server.activeGames()).isZero();
+        }
+    }
+
+    @Test
+    void opponentIsToldWhenAPlayerLeaves() throws Exception {
+        try (GameServer server = new GameServer(0, List.of(SeaGameMode::new), Duration.ofSeconds(30), 0)) {
+            server.start();
+            // The first player connects and leaves as soon as the game starts.
+            try (Socket quitter = new Socket("localhost", server.getPort())) {
+                quitter.getOutputStream().write("Quitter\n".getBytes(StandardCharsets.UTF_8));
+                quitter.getOutputStream().flush();
+                readUntil(quitter, "Waiting for an opponent...");
+
+                try (Socket stayer = new Socket("localhost", server.getPort())) {
+                    stayer.getOutputStream().write("Stayer\n".getBytes(StandardCharsets.UTF_8));
+                    stayer.getOutputStream().flush();
+                    quitter.close();
+                    // Whoever shoots first, the game needs the quitter's guess eventually.
+                    String text = answerGuesses(stayer);
+                    assertThat(text).contains("The game was abandoned: a player left.");
+                }
+            }
+        }
+    }
+
+    @Test
+    void remotePlayerPlacesACrowdedFleet() throws Exception {
+        // 15 destroyers cover 30 of 36 cells; uniform layouts are too rare, so placement falls back to the index.
+        GameMode mode = new GameMode() { };
+        mode.setBoardSize(6);
+        List<Ship> ships = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            ships.add(new Ship("Destroyer", 2));
+        }
+        mode.setShips(ships);
+        try (ServerSocket listener = new ServerSocket(0);
+             Socket client = new Socket("localhost", listener.getLocalPort());
+             Socket socket = listener.accept();
+             RemotePlayer player = new RemotePlayer("Remote", socket,
+                     new Scanner(socket.getInputStream(), StandardCharsets.UTF_8), new NetworkOutput(socket), 0)) {
+            player.setup(mode, null);
+
+            assertThat(player.getShips()).allMatch(ship -> ship.getCoordinates().size() == 2);
+        }
+    }
+
+    /**
+     * Connects, sends a name and answers every guess prompt with the next cell in row order.
+     *
+     * @return everything the server sent until it closed the connection.
+     */
+    private static String playGame(int port, String name) throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            socket.getOutputStream().write((name + "\n").getBytes(StandardCharsets.UTF_8));
+            socket.getOutputStream().flush();
+            return answerGuesses(socket);
+        }
+    }
+
+    /**
+     * Answers guess prompts with A1, A2, ... until the server closes the connection.
+     */
+    private static String answerGuesses(Socket socket) throws IOException {
+        Reader reader = new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8);
+        OutputStream out = socket.getOutputStream();
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[8192];
+        int answeredAt = 0;
+        int guess = 0;
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            text.append(buffer, 0, read);
+            // The prompt is the last thing sent before the server waits for this client.
+            if (text.length() > answeredAt && endsWith(text, "Enter your guess: ")) {
+                answeredAt = text.length();
+                String cell = (char) ('A' + guess / 10) + String.valueOf(guess % 10 + 1);
+                guess++;
+                out.write((cell + "\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Reads until the given text has arrived.
+     */
+    private static void readUntil(Socket socket, String expected) throws IOException {
+        Reader reader = new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8);
+        StringBuilder text = new StringBuilder();
+        int c;
+        while (text.indexOf(expected) < 0 && (c = reader.read()) >= 0) {
+            text.append((char) c);
+        }
+    }
+
+    private static boolean endsWith(StringBuilder text, String suffix) {
+        int start = text.length() - suffix.length();
+        return start >= 0 && text.indexOf(suffix, start) == start;
+    }
+}
@@ -0,0 +1,160 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LobbyTest {
+
+    @Test
+    void pairsPlayersOfTheSameMode() throws Exception {
+        List<Player[]> matches = new CopyOnWriteArrayList<>();
+        List<String> modes = new CopyOnWriteArrayList<>();
+        Lobby lobby = new Lobby(List.of(SeaGameMode::new, OceanGameMode::new), Duration.ofSeconds(30),
+                () -> new ComputerPlayer(new Random()), (mode, p1, p2) -> {
+                    modes.add(mode.getName());
+                    matches.add(new Player[]{p1, p2});
+                });
+        Player alice = new HumanPlayer("Alice");
+        Player bob = new HumanPlayer("Bob");
+        Player carol = new HumanPlayer("Carol");
+        Player dave = new HumanPlayer("Dave");
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> waiting = threads.submit(() -> join(lobby, "Sea", alice));
+            Future<?> otherMode = threads.submit(() -> join(lobby, "Ocean", carol));
+            awaitJoins(lobby, 2);
+            lobby.join("Ocean", dave);
+            lobby.join("Sea", bob);
+            waiting.get(5, TimeUnit.SECONDS);
+            otherMode.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(lobby.modeNames()).containsExactly("Sea", "Ocean");
+        assertThat(modes).containsExactly("Ocean", "Sea");
+        assertThat(matches.get(0)).containsExactly(carol, dave);
+        assertThat(matches.get(1)).containsExactly(alice, bob);
+        Lobby.Stats stats = lobby.stats();
+        assertThat(stats.joins()).isEqualTo(4);
+        assertThat(stats.humanMatches()).isEqualTo(2);
+        assertThat(stats.computerMatches()).isZero();
+        assertThat(stats.maxWait()).isGreaterThanOrEqualTo(stats.averageWait());
+    }
+
+    @Test
+    void pairsTwoPlayersWhoQueueAtTheSameMoment() throws Exception {
+        List<Player[]> matches = new CopyOnWriteArrayList<>();
+        Lobby lobby = new Lobby(List.of(SeaGameMode::new), Duration.ofSeconds(30),
+                () -> new ComputerPlayer(new Random()), (mode, p1, p2) -> matches.add(new Player[]{p1, p2}));
+        // Both players find the queue empty, then both queue their tickets before either looks again.
+        CyclicBarrier bothFoundItEmpty = new CyclicBarrier(2);
+        lobby.beforeQueueing = () -> {
+            try {
+                bothFoundItEmpty.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        Player alice = new HumanPlayer("Alice");
+        Player bob = new HumanPlayer("Bob");
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> first = threads.submit(() -> join(lobby, "Sea", alice));
+            Future<?> second = threads.submit(() -> join(lobby, "Sea", bob));
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.getFirst()).containsExactlyInAnyOrder(alice, bob);
+        assertThat(lobby.stats().humanMatches()).isEqualTo(1);
+        assertThat(lobby.stats().computerMatches()).isZero();
+    }
+
+    @Test
+    void fallsBackToAComputerAfterTheTimeout() throws Exception {
+        List<Player[]> matches = new ArrayList<>();
+        ComputerPlayer computer = new ComputerPlayer(new Random());
+        Lobby lobby = new Lobby(List.of(SeaGameMode::new), Duration.ofMillis(50),
+                () -> computer, (mode, p1, p2) -> matches.add(new Player[]{p1, p2}));
+        Player alice = new HumanPlayer("Alice");
+
+        lobby.join("Sea", alice);
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.getFirst()).containsExactly(alice, computer);
+        assertThat(lobby.stats().computerMatches()).isEqualTo(1);
+        assertThat(lobby.stats().maxWait()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    void rejectsUnknownModes() {
+        Lobby lobby = new Lobby(List.of(SeaGameMode::new), Duration.ofSeconds(1),
+                () -> new ComputerPlayer(new Random()), (mode, p1, p2) -> { });
+
+        assertThatThrownBy(() -> lobby.join("Lake", new HumanPlayer("Alice")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Lobby(List.of(SeaGameMode::new, SeaGameMode::new), Duration.ofSeconds(1),
+                () -> null, (mode, p1, p2) -> { })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void matchesEveryPlayerExactlyOnceUnderLoad() throws Exception {
+        int players = 20_000;
+        Set<Player> matched = ConcurrentHashMap.newKeySet();
+        Lobby lobby = new Lobby(List.of(SeaGameMode::new, OceanGameMode::new), Duration.ofSeconds(10),
+                () -> new HumanPlayer("Computer"), (mode, p1, p2) -> {
+                    assertThat(matched.add(p1)).isTrue();
+                    assertThat(matched.add(p2)).isTrue();
+                });
+
+        // Every joiner is a virtual thread, all joining at once, alternating between the two modes.
+        List<Player> joiners = new ArrayList<>();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < players; i++) {
+                Player player = new HumanPlayer("P" + i);
+                joiners.add(player);
+                String mode = i % 2 == 0 ? "Sea" : "Ocean";
+                threads.submit(() -> join(lobby, mode, player));
+            }
+        }
+
+        Lobby.Stats stats = lobby.stats();
+        assertThat(stats.joins()).isEqualTo(players);
+        assertThat(2 * stats.humanMatches() + stats.computerMatches()).isEqualTo(players);
+        assertThat(matched).containsAll(joiners);
+        // Nearly everyone finds a human opponent; only a rare race may leave a player to the computer.
+        assertThat(stats.computerMatches()).isLessThan(players / 100);
+    }
+
+    /**
+     * Joins a lobby from a task.
+     */
+    private static Void join(Lobby lobby, String mode, Player player) throws InterruptedException {
+        lobby.join(mode, player);
+        return null;
+    }
+
+    /**
+     * Waits until the lobby has seen the given number of joins.
+     */
+    private static void awaitJoins(Lobby lobby, int joins) throws InterruptedException {
+        while (lobby.stats().joins() < joins) {
+            Thread.sleep(1);
+        }
+        // Give the joiners time to queue their tickets after counting.
+        Thread.sleep(50);
+    }
+}
@@ -0,0 +1,135 @@
+package dev.oleksii;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsTest {
+
+    @Test
+    void countersSumIncrementsFromManyThreads() throws Exception {
+        Metrics metrics = new Metrics();
+        Metrics.Counter counter = metrics.counter("test_total", "A test counter.");
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 8; t++) {
+                threads.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        counter.increment();
+                    }
+                });
+            }
+        }
+        counter.add(5);
+
+        assertThat(counter.sum()).isEqualTo(80_005);
+        assertThat(metrics.counter("test_total", "A test counter.")).isSameAs(counter);
+    }
+
+    @Test
+    void histogramPercentilesAreBucketBounds() {
+        Metrics.Histogram histogram = new Metrics().histogram("test_seconds", "A test histogram.");
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000);  // Falls into (512, 1024].
+        }
+        histogram.record(1_000_000);
+
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.percentile(0.5)).isEqualTo(1_024);
+        assertThat(histogram.percentile(0.99)).isEqualTo(1_024);
+        // The top percentile is capped by the largest value seen.
+        assertThat(histogram.percentile(1.0)).isEqualTo(1_000_000);
+        assertThat(new Metrics().histogram("empty_seconds", "Empty.").percentile(0.5)).isZero();
+    }
+
+    @Test
+    void rendersThePrometheusTextFormat() {
+        Metrics metrics = new Metrics();
+        metrics.counter("test_total", "A test counter.").add(3);
+        metrics.histogram("test_seconds", "A test histogram.").record(300);
+        metrics.gauge("test_gauge", "A test gauge.", () -> 42);
+
+        String text = metrics.render();
+
+        assertThat(text)
+                .contains("# HELP test_total A test counter.\n# TYPE test_total counter\ntest_total 3\n")
+                .contains("# TYPE test_gauge gauge\ntest_gauge 42\n")
+                .contains("# TYPE test_seconds histogram\n")
+                .contains("test_seconds_bucket{le=\"2.56E-7\"} 0\n")
+                .contains("test_seconds_bucket{le=\"1.024E-6\"} 1\n")
+                .contains("test_seconds_bucket{le=\"+Inf\"} 1\n")
+                .contains("test_seconds_sum 3.0E-7\n")
+                .contains("test_seconds_count 1\n");
+    }
+
+    @Test
+    void histogramBucketsIncludeTheirBound() {
+        Metrics metrics = new Metrics();
+        Metrics.Histogram histogram = metrics.histogram("test_seconds", "A test histogram.");
+        histogram.record(1_024);
+        histogram.record(1_025);
+
+        assertThat(histogram.percentile(0.5)).isEqualTo(1_024);
+        assertThat(metrics.render())
+                .contains("test_seconds_bucket{le=\"1.024E-6\"} 1\n")
+                .contains("test_seconds_bucket{le=\"4.096E-6\"} 2\n");
+    }
+
+    @Test
+    void countersKeptElsewhereAreRenderedAsCounters() {
+        Metrics metrics = new Metrics();
+        metrics.counterFunction("test_joins_total", "A count kept elsewhere.", () -> 7);
+
+        assertThat(metrics.render()).contains("# TYPE test_joins_total counter\ntest_joins_total 7\n");
+    }
+
+    @Test
+    void randomTargetingCountsItsRejections() {
+        RandomTargeting strategy = new RandomTargeting(new SplittableRandom(1));
+        Metrics.Counter rejections = Metrics.global().counter("battleship_random_target_rejections_total",
+                "Targeted cells redrawn while picking a random target.");
+        Board board = new Board(10);
+        for (int cell = 1; cell < 100; cell++) {
+            board.fireAt(cell / 10, cell % 10);
+        }
+        long before = rejections.sum();
+
+        Coordinate target = strategy.nextTarget(board, List.of());
+
+        // Only A1 is left, so nearly every draw is rejected.
+        assertThat(target).isEqualTo(Coordinate.of(0, 0));
+        assertThat(rejections.sum()).isGreaterThan(before);
+    }
+
+    @Test
+    void aNameCannotBeRegisteredAsTwoTypes() {
+        Metrics metrics = new Metrics();
+        metrics.counter("test", "A counter.");
+
+        assertThatThrownBy(() -> metrics.histogram("test", "A histogram."))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void servesTheMetricsOverHttp() throws Exception {
+        Metrics metrics = new Metrics();
+        metrics.counter("test_total", "A test counter.").increment();
+        HttpServer server = metrics.serve(new InetSocketAddress("localhost", 0));
+        try {
+            URL url = new URL("http://localhost:" + server.getAddress().getPort() + "/metrics");
+            try (InputStream in = url.openStream()) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("test_total 1\n");
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MonteCarloTargetingTest {
+
+    private static MonteCarloTargeting strategy(long seed) {
+        return new MonteCarloTargeting(new SplittableRandom(seed), ForkJoinPool.commonPool(),
+                Duration.ofSeconds(1), 2_000);
+    }
+
+    @Test
+    void nextTargetFollowsUpOnHit() {
+        Board board = new Board(10);
+        Ship ship = new Ship("Battleship", 4);
+        board.placeShip(ship, 2, 6, false, false);
+        MonteCarloTargeting strategy = strategy(1);
+
+        char result = board.fireAt(3, 6);
+        strategy.recordShot(board, 3, 6, result);
+        Coordinate next = strategy.nextTarget(board, List.of(ship));
+
+        assertThat(Math.abs(next.row() - 3) + Math.abs(next.col() - 6)).isEqualTo(1);
+    }
+
+    @Test
+    void nextTargetNeverRepeatsCell() {
+        Board board = new Board(10);
+        Ship ship = new Ship("Destroyer", 2);
+        board.placeShip(ship, 9, 8, true, false);
+        MonteCarloTargeting strategy = strategy(2);
+
+        // Fire until the only ship is sunk; every choice must be a fresh cell.
+        int shots = 0;
+        while (!ship.isSunk()) {
+            Coordinate target = strategy.nextTarget(board, List.of(ship));
+            assertThat(board.isTargeted(target.row(), target.col())).isFalse();
+            strategy.recordShot(board, target.row(), target.col(), board.fireAt(target.row(), target.col()));
+            shots++;
+        }
+        assertThat(shots).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void occupancyMatchesEnumeratedLayouts() {
+        Board board = new Board(5);
+        Ship cruiser = new Ship("Cruiser", 3);
+        Ship destroyer = new Ship("Destroyer", 2);
+        Ship patrol = new Ship("Patrol Boat", 2);
+        board.placeShip(cruiser, 1, 1, true, false);
+        board.placeShip(destroyer, 3, 3, false, false);
+        board.placeShip(patrol, 0, 4, false, false);
+        board.fireAt(1, 2);
+        board.fireAt(0, 0);
+        board.fireAt(2, 2);
+        board.fireAt(4, 1);
+        List<Ship> ships = List.of(cruiser, destroyer, patrol);
+
+        double[] expected = enumerateOccupancy(board, new int[] {3, 2, 2});
+        double[] counts = new MonteCarloTargeting(new SplittableRandom(3), ForkJoinPool.commonPool(),
+                Duration.ofSeconds(30), 200_000).occupancy(board, ships);
+
+        double total = 0;
+        for (double count : counts) {
+            total += count;
+        }
+        for (int cell = 0; cell < counts.length; cell++) {
+            // Both are the expected number of ship cells on the cell, for 7 ship cells in total.
+            assertThat(counts[cell] * 7 / total).isCloseTo(expected[cell], within(0.02));
+        }
+    }
+
+    @Test
+    void holdsItsOwnAgainstDensityTargeting() {
+        Tournament tournament = new Tournament(new SeaGameMode(),
+                random -> new ComputerPlayer(random, new MonteCarloTargeting(new SplittableRandom(random.nextLong()),
+                        ForkJoinPool.commonPool(), Duration.ofSeconds(1), 2_000)),
+                random -> new ComputerPlayer(random, new DensityTargeting(random)));
+
+        TournamentResult result = tournament.run(200, 42);
+
+        assertThat(result.player1WinRate()).isGreaterThan(0.4);
+    }
+
+    /**
+     * Counts, for every cell, the fraction of the layouts consistent with the board's shots that put a ship on it.
+     */
+    private static double[] enumerateOccupancy(Board board, int[] lengths) {
+        int size = board.getSize();
+        double[] occupancy = new double[size * size];
+        int[] layouts = new int[1];
+        enumerate(board, lengths, 0, new boolean[size * size], occupancy, layouts);
+        for (int cell = 0; cell < occupancy.length; cell++) {
+            occupancy[cell] /= layouts[0];
+        }
+        return occupancy;
+    }
+
+    private static void enumerate(Board board, int[] lengths, int ship, boolean[] occupied,
+                                  double[] occupancy, int[] layouts) {
+        int size = board.getSize();
+        if (ship == lengths.length) {
+            // Every shot must agree with the layout: hits on ships, misses on water.
+            for (int cell = 0; cell < occupied.length; cell++) {
+                char symbol = board.getSymbol(cell / size, cell % size);
+                if ((symbol == 'x' && !occupied[cell]) || (symbol == '*' && occupied[cell])) {
+                    return;
+                }
+            }
+            layouts[0]++;
+            for (int cell = 0; cell < occupied.length; cell++) {
+                occupancy[cell] += occupied[cell] ? 1 : 0;
+            }
+            return;
+        }
+        int length = lengths[ship];
+        for (int start = 0; start < occupied.length; start++) {
+            for (int step : new int[] {1, size}) {
+                int row = start / size;
+                int col = start % size;
+                if ((step == 1 ? col : row) + length > size) {
+                    continue;
+                }
+                boolean free = true;
+                for (int i = 0; i < length; i++) {
+                    free &= !occupied[start + i * step];
+                }
+                if (!free) {
+                    continue;
+                }
+                for (int i = 0; i < length; i++) {
+                    occupied[start + i * step] = true;
+                }
+                enumerate(board, lengths, ship + 1, occupied, occupancy, layouts);
+                for (int i = 0; i < length; i++) {
+                    occupied[start + i * step] = false;
+                }
+            }
+        }
+    }
+}
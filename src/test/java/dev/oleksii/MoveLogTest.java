@@ -0,0 +1,63 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoveLogTest {
+
+    @Test
+    void addAndGetRoundTrip() {
+        DummyPlayer alice = new DummyPlayer("Alice");
+        DummyPlayer bob = new DummyPlayer("Bob");
+        alice.setup(new SeaGameMode(), null);
+        bob.setup(new SeaGameMode(), null);
+        Ship destroyer = bob.getShips().get(4);
+        bob.getBoard().placeShip(destroyer, 9, 8, true, false);
+
+        MoveLog log = new MoveLog(10, alice, bob);
+        log.add(new Move(alice, 0, 0, '*'));
+        log.add(new Move(bob, 3, 4, 'x'));
+        log.add(new Move(alice, 9, 9, 'X'));
+
+        assertThat(log.size()).isEqualTo(3);
+        assertThat(log.get(0).getPlayer()).isSameAs(alice);
+        assertThat(log.get(0).getResult()).isEqualTo('*');
+        assertThat(log.get(1).getPlayer()).isSameAs(bob);
+        assertThat(log.get(1).getCoordinate()).isEqualTo(new Coordinate(3, 4));
+        assertThat(log.get(1).getSunkShipName()).isNull();
+
+        Move sink = log.get(2);
+        assertThat(sink.isSunk()).isTrue();
+        assertThat(sink.getSunkShipName()).isEqualTo("Destroyer");
+        assertThat(sink.getSunkShipCoords()).containsExactly(new Coordinate(9, 8), new Coordinate(9, 9));
+        assertThat(MoveLog.shipId(log.entry(2))).isEqualTo(4);
+        assertThat(log).hasSize(3);
+    }
+
+    @Test
+    void entriesPackIntoSingleInts() {
+        MoveLog log = new MoveLog(1024, new DummyPlayer("A"), new DummyPlayer("B"));
+        log.add(true, 1024 * 1024 - 1, 'X', 511);
+
+        int entry = log.entry(0);
+
+        assertThat(MoveLog.cell(entry)).isEqualTo(1024 * 1024 - 1);
+        assertThat(MoveLog.result(entry)).isEqualTo('X');
+        assertThat(MoveLog.isPlayer2(entry)).isTrue();
+        assertThat(MoveLog.shipId(entry)).isEqualTo(511);
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        DummyPlayer alice = new DummyPlayer("Alice");
+        MoveLog log = new MoveLog(10, alice, new DummyPlayer("Bob"));
+
+        assertThatThrownBy(() -> log.add(false, 0, '?', 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> log.add(false, 0, 'X', 512)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> log.add(new Move(new DummyPlayer("Eve"), 0, 0, '*')))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MoveLog(1025, alice, alice)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(log.size()).isZero();
+    }
+}
@@ -0,0 +1,70 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import java.time.Duration;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PacerTest {
+
+    @Test
+    void pacingIsParsedFromItsPropertyValue() {
+        assertThat(Pacer.parse("real-time")).isEqualTo(Pacer.REAL_TIME);
+        assertThat(Pacer.parse(" Fast ")).isEqualTo(Pacer.FAST);
+        assertThat(Pacer.parse("NONE")).isEqualTo(Pacer.NONE);
+        assertThatThrownBy(() -> Pacer.parse("slow")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void configuredPacingComesFromTheSystemProperty() {
+        String previous = System.getProperty(Pacer.PROPERTY);
+        try {
+            System.clearProperty(Pacer.PROPERTY);
+            assertThat(Pacer.configured()).isEqualTo(Pacer.REAL_TIME);
+            System.setProperty(Pacer.PROPERTY, "none");
+            assertThat(Pacer.configured()).isEqualTo(Pacer.NONE);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(Pacer.PROPERTY);
+            } else {
+                System.setProperty(Pacer.PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    void pausesAreScaled() {
+        assertThat(Pacer.REAL_TIME.scale(3000)).isEqualTo(3000);
+        assertThat(Pacer.FAST.scale(3000)).isEqualTo(300);
+        assertThat(Pacer.NONE.scale(3000)).isZero();
+    }
+
+    @Test
+    void anInterruptedPauseEndsEarlyAndKeepsTheInterrupt() {
+        Thread.currentThread().interrupt();
+        try {
+            long start = System.nanoTime();
+            Pacer.REAL_TIME.pause(10_000);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    @Timeout(10)  // With real-time pacing each shot would pause for 6 seconds.
+    void computerGameWithoutPacingRunsAtFullSpeed() {
+        ComputerPlayer player1 = new ComputerPlayer(new Random(1));
+        ComputerPlayer player2 = new ComputerPlayer(new Random(2));
+        player1.setPacer(Pacer.NONE);
+        player2.setPacer(Pacer.NONE);
+
+        Game game = new Game(new SeaGameMode(), player1, player2, null, GameOutput.discard());
+        game.play(null);
+
+        assertThat(game.getWinner()).isIn(player1, player2);
+    }
+}
@@ -0,0 +1,109 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReplaySessionTest {
+
+    @Test
+    void seekMatchesSteppingForward() {
+        Game game = playedGame();
+        ReplaySession stepping = new ReplaySession(game, 1_000);
+        ReplaySession seeking = new ReplaySession(game, 7);
+        Random random = new Random(5);
+
+        for (int position = 0; position <= game.getMoveLog().size(); position++) {
+            // Visit a random position first, so every seek starts from an unrelated state.
+            seeking.seek(random.nextInt(game.getMoveLog().size() + 1));
+            seeking.seek(position);
+
+            assertThat(seeking.position()).isEqualTo(stepping.position());
+            assertSameShots(seeking.getBoard1(), stepping.getBoard1());
+            assertSameShots(seeking.getBoard2(), stepping.getBoard2());
+            stepping.next();
+        }
+    }
+
+    @Test
+    void nextAndPreviousStopAtTheEnds() {
+        Game game = playedGame();
+        ReplaySession session = new ReplaySession(game, 4);
+
+        assertThat(session.previous()).isFalse();
+        assertThat(session.lastMove()).isNull();
+
+        session.seek(session.size());
+
+        assertThat(session.next()).isFalse();
+        assertThat(session.lastMove().isSunk()).isTrue();
+        assertThat(session.previous()).isTrue();
+        assertThat(session.position()).isEqualTo(session.size() - 1);
+        assertThatThrownBy(() -> session.seek(session.size() + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void checkpointsOfALongGameOnAHugeBoardStayWithinTheBudget() {
+        GameMode mode = new GameMode() { };
+        mode.setBoardSize(1000);
+        mode.setShips(List.of(new Ship("Destroyer", 2)));
+        ComputerPlayer player1 = new ComputerPlayer(new Random(1));
+        ComputerPlayer player2 = new ComputerPlayer(new Random(2));
+        player1.setup(mode, null);
+        player2.setup(mode, null);
+        // 200,000 misses on each board: at a fixed interval of 16 the checkpoints would take gigabytes.
+        MoveLog moves = new MoveLog(1000, player1, player2);
+        for (int cell = 0; cell < 200_000; cell++) {
+            moves.add(false, cell, '*', 0);
+            moves.add(true, 999_999 - cell, '*', 0);
+        }
+        Game game = new Game(mode, player1, player2, moves, player1);
+
+        ReplaySession session = new ReplaySession(game);
+
+        assertThat(session.checkpointLongs()).isLessThanOrEqualTo(ReplaySession.CHECKPOINT_BUDGET);
+        session.seek(300_001);
+        assertThat(session.getBoard2().getSymbol(150, 0)).isEqualTo('*');
+        assertThat(session.getBoard2().getSymbol(150, 1)).isEqualTo('-');
+        assertThat(session.getBoard1().getSymbol(850, 0)).isEqualTo('*');
+        assertThat(session.getBoard1().getSymbol(849, 999)).isEqualTo('-');
+    }
+
+    @Test
+    void smallGamesKeepTheShortestInterval() {
+        assertThat(ReplaySession.checkpointInterval(10, 200)).isEqualTo(16);
+        assertThat(ReplaySession.checkpointInterval(20, 800)).isEqualTo(16);
+    }
+
+    private static void assertSameShots(Board actual, Board expected) {
+        for (int row = 0; row < expected.getSize(); row++) {
+            for (int col = 0; col < expected.getSize(); col++) {
+                assertThat(actual.getSymbol(row, col)).isEqualTo(expected.getSymbol(row, col));
+            }
+        }
+    }
+
+    /**
+     * Lets two computer players alternate shots, row by row, until the second player's fleet is sunk.
+     */
+    private static Game playedGame() {
+        GameMode mode = new SeaGameMode();
+        ComputerPlayer player1 = new ComputerPlayer(new Random(1));
+        ComputerPlayer player2 = new ComputerPlayer(new Random(2));
+        player1.setup(mode, null);
+        player2.setup(mode, null);
+        MoveLog moves = new MoveLog(10, player1, player2);
+        int sunk = 0;
+        for (int cell = 0; sunk < player2.getShips().size(); cell++) {
+            int row = cell / 10;
+            int col = cell % 10;
+            moves.add(new Move(player2, 9 - row, col, player1.getBoard().fireAt(9 - row, col)));
+            char result = player2.getBoard().fireAt(row, col);
+            moves.add(new Move(player1, row, col, result));
+            sunk += result == 'X' ? 1 : 0;
+        }
+        return new Game(mode, player1, player2, moves, player1);
+    }
+}
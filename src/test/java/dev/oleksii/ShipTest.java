@@ -85,4 +85,34 @@ class ShipTest {
         assertThat(coords).hasSize(3);
         assertThat(coords).contains(new Coordinate(3, 4), new Coordinate(3, 5), new Coordinate(3, 6));
     }
+
+    @Test
+    void checkHitOnlyCountsEachCellOnce() {
+        Ship ship = new Ship("Destroyer", 2);
+        ship.setCoordinates(4, 7, false);
+
+        ship.checkHit(4, 7);
+        ship.checkHit(4, 7);
+        ship.checkHit(4, 8); // Beside the ship, not on it
+
+        assertThat(ship.isSunk()).isFalse();
+
+        ship.checkHit(5, 7);
+
+        assertThat(ship.isSunk()).isTrue();
+        assertThat(ship.occupies(5, 7)).isTrue();
+        assertThat(ship.occupies(6, 7)).isFalse();
+    }
+
+    @Test
+    void getCoordinatesIsAViewOfThePlacement() {
+        Ship ship = new Ship("Cruiser", 3);
+        Set<Coordinate> coords = ship.getCoordinates();
+
+        ship.setCoordinates(0, 0, false);
+
+        assertThat(coords).containsExactly(new Coordinate(0, 0), new Coordinate(1, 0), new Coordinate(2, 0));
+        assertThat(coords.contains(new Coordinate(0, 1))).isFalse();
+        assertThat(coords).isEqualTo(Set.of(new Coordinate(0, 0), new Coordinate(1, 0), new Coordinate(2, 0)));
+    }
 }
@@ -0,0 +1,158 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpectatorFeedTest {
+
+    @Test
+    void snapshotAndDeltasReproduceTheBoards() throws Exception {
+        Board board1 = new Board(10);
+        Board board2 = new Board(10);
+        Ship destroyer = new Ship("Destroyer", 2);
+        board2.placeShip(destroyer, 4, 4, false, false);
+        board2.clearShipsFromDisplay();
+        SpectatorFeed feed = new SpectatorFeed("Alice", board1, "Bob", board2, 16);
+        SpectatorFeed.Subscription early = feed.subscribe();
+
+        fire(feed, 1, board1, 0, 0);
+        fire(feed, 2, board2, 4, 4);
+        SpectatorFeed.Subscription late = feed.subscribe();
+        fire(feed, 2, board2, 5, 4);
+        feed.finish("Alice");
+
+        for (SpectatorFeed.Subscription subscription : List.of(early, late)) {
+            char[][] boards = new char[3][];
+            SpectatorEvent event;
+            SpectatorEvent last = null;
+            while ((event = subscription.next()) != null) {
+                switch (event) {
+                    case SpectatorEvent.Snapshot snapshot -> {
+                        boards[1] = snapshot.board1().toCharArray();
+                        boards[2] = snapshot.board2().toCharArray();
+                    }
+                    case SpectatorEvent.CellUpdate update -> boards[update.board()][update.cell()] = update.symbol();
+                    case SpectatorEvent.Sunk sunk -> {
+                        for (int cell : sunk.cells()) {
+                            boards[sunk.board()][cell] = 'X';
+                        }
+                    }
+                    case SpectatorEvent.GameOver gameOver -> assertThat(gameOver.winner()).isEqualTo("Alice");
+                }
+                last = event;
+            }
+            assertThat(last).isInstanceOf(SpectatorEvent.GameOver.class);
+            assertThat(new String(boards[1])).isEqualTo(symbols(board1));
+            assertThat(new String(boards[2])).isEqualTo(symbols(board2));
+        }
+    }
+
+    @Test
+    void eventsHaveALineForm() {
+        assertThat(new SpectatorEvent.CellUpdate(2, 37, '*').toLine()).isEqualTo("CELL\t2\t37\t*");
+        assertThat(new SpectatorEvent.Sunk(1, "Cruiser", new int[]{3, 4, 5}).toLine())
+                .isEqualTo("SUNK\t1\tCruiser\t3,4,5");
+        assertThat(new SpectatorEvent.GameOver(null).toLine()).isEqualTo("END\t");
+    }
+
+    @Test
+    void slowSubscribersAreEvicted() throws Exception {
+        Board board1 = new Board(10);
+        Board board2 = new Board(10);
+        SpectatorFeed feed = new SpectatorFeed("Alice", board1, "Bob", board2, 4);
+        SpectatorFeed.Subscription slow = feed.subscribe();
+        SpectatorFeed.Subscription fast = feed.subscribe();
+
+        // The game never waits: shots are published while the slow subscriber reads nothing.
+        List<SpectatorEvent> received = new ArrayList<>();
+        for (int col = 0; col < 10; col++) {
+            fire(feed, 1, board1, 0, col);
+            SpectatorEvent event;
+            while ((event = fast.poll()) != null) {
+                received.add(event);
+            }
+        }
+
+        assertThat(slow.isEvicted()).isTrue();
+        assertThat(slow.next()).isNull();
+        assertThat(fast.isEvicted()).isFalse();
+        assertThat(received).hasSize(11); // Snapshot and ten cells.
+        assertThat(feed.evictions()).isEqualTo(1);
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+        assertThatThrownBy(() -> new SpectatorFeed("Alice", board1, "Bob", board2, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fansOutToHundredsOfSpectators() throws Exception {
+        Board board1 = new Board(10);
+        Board board2 = new Board(10);
+        SpectatorFeed feed = new SpectatorFeed("Alice", board1, "Bob", board2, 256);
+        int spectators = 500;
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> counts = new ArrayList<>();
+            for (int i = 0; i < spectators; i++) {
+                SpectatorFeed.Subscription subscription = feed.subscribe();
+                counts.add(threads.submit(() -> {
+                    int events = 0;
+                    while (subscription.next() != null) {
+                        events++;
+                    }
+                    return events;
+                }));
+            }
+            for (int cell = 0; cell < 100; cell++) {
+                fire(feed, 2, board2, cell / 10, cell % 10);
+            }
+            feed.finish("Alice");
+
+            for (Future<Integer> count : counts) {
+                assertThat(count.get(10, TimeUnit.SECONDS)).isEqualTo(102);
+            }
+        }
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    @Test
+    void aGameCreatesItsFeedForTheFirstSpectatorFromTheMovesSoFar() throws Exception {
+        Player player1 = new ComputerPlayer(new Random(1));
+        Player player2 = new ComputerPlayer(new Random(2));
+        player1.setPacer(Pacer.NONE);
+        player2.setPacer(Pacer.NONE);
+        Game game = new Game(new SeaGameMode(), player1, player2, null, GameOutput.discard());
+        game.play(null);
+
+        SpectatorFeed.Subscription subscription = game.getSpectators().subscribe();
+
+        SpectatorEvent.Snapshot snapshot = (SpectatorEvent.Snapshot) subscription.next();
+        // The boards now reveal the ships that were not hit; spectators only see shots.
+        assertThat(snapshot.board1()).isEqualTo(symbols(player1.getBoard()).replace('S', '-'));
+        assertThat(snapshot.board2()).isEqualTo(symbols(player2.getBoard()).replace('S', '-'));
+        assertThat(subscription.next()).isEqualTo(new SpectatorEvent.GameOver(game.getWinner().getName()));
+        assertThat(game.getSpectators()).isSameAs(game.getSpectators());
+    }
+
+    private static void fire(SpectatorFeed feed, int boardNumber, Board board, int row, int col) {
+        char result = board.fireAt(row, col);
+        feed.publishShot(boardNumber, row, col, result, result == 'X' ? board.getShipAt(row, col) : null);
+    }
+
+    private static String symbols(Board board) {
+        StringBuilder symbols = new StringBuilder();
+        for (int row = 0; row < board.getSize(); row++) {
+            for (int col = 0; col < board.getSize(); col++) {
+                symbols.append(board.getSymbol(row, col));
+            }
+        }
+        return symbols.toString();
+    }
+}
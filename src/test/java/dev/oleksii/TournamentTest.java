@@ -0,0 +1,35 @@
+package dev.oleksii;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TournamentTest {
+
+    @Test
+    void runAggregatesAllGames() {
+        Tournament tournament = new Tournament(new SeaGameMode(), ComputerPlayer::new, ComputerPlayer::new);
+
+        TournamentResult result = tournament.run(200, 42);
+
+        assertThat(result.games()).isEqualTo(200);
+        assertThat(result.player1Wins() + result.player2Wins() + result.undecided()).isEqualTo(200);
+        assertThat(result.undecided()).isZero();
+        // At least 17 shots are needed to sink the Sea fleet, and at most 100 cells can be fired at.
+        assertThat(result.minShotsToWin()).isGreaterThanOrEqualTo(17);
+        assertThat(result.maxShotsToWin()).isLessThanOrEqualTo(100);
+        assertThat(result.medianShotsToWin()).isBetween(result.minShotsToWin(), result.p90ShotsToWin());
+        assertThat(result.p99ShotsToWin()).isBetween(result.p90ShotsToWin(), result.maxShotsToWin());
+        assertThat(result.averageShotsToWin()).isBetween((double) result.minShotsToWin(), (double) result.maxShotsToWin());
+    }
+
+    @Test
+    void runIsReproducibleForSameSeed() {
+        Tournament tournament = new Tournament(new OceanGameMode(), ComputerPlayer::new, ComputerPlayer::new);
+
+        TournamentResult first = tournament.run(50, 7);
+        TournamentResult second = tournament.run(50, 7);
+
+        assertThat(second.player1Wins()).isEqualTo(first.player1Wins());
+        assertThat(second.averageShotsToWin()).isEqualTo(first.averageShotsToWin());
+    }
+}